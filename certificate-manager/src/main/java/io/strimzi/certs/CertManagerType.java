@@ -0,0 +1,49 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * The available {@link CertManager} implementations
+ */
+public enum CertManagerType {
+    /** {@link OpenSslCertManager}, which runs the openssl command line tool */
+    OPENSSL,
+    /** {@link JavaCertManager}, which uses the Java Cryptography Architecture in-process */
+    JAVA;
+
+    /**
+     * Parses the name of a certificates manager type, such as the value of the {@code STRIMZI_CERT_MANAGER}
+     * environment variable of the operators.
+     * @param value The name of the type, case insensitive: {@code openssl} or {@code java}.
+     * @return The certificates manager type.
+     * @throws IllegalArgumentException If the value is not the name of a certificates manager type.
+     */
+    public static CertManagerType fromString(String value) {
+        switch (value.trim().toLowerCase(Locale.ENGLISH)) {
+            case "openssl":
+                return OPENSSL;
+            case "java":
+                return JAVA;
+            default:
+                throw new IllegalArgumentException(value + " is not a valid certificates manager type. "
+                        + "It can have one of the following values: openssl, java.");
+        }
+    }
+
+    /**
+     * @return A new certificates manager of this type
+     */
+    public CertManager create() {
+        switch (this) {
+            case JAVA:
+                return new JavaCertManager();
+            case OPENSSL:
+            default:
+                return new OpenSslCertManager();
+        }
+    }
+}
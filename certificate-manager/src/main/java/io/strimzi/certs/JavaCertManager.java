@@ -0,0 +1,740 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A certificates manager which uses the Java Cryptography Architecture in-process, instead of forking the
+ * {@code openssl} command line tool and exchanging temporary files with it like {@link OpenSslCertManager}.
+ * The keys, certificates, certificate sign requests and stores it produces have the same content as those
+ * produced by {@link OpenSslCertManager}: 2048 bit RSA keys written as PKCS#8, certificates signed with SHA-256
+ * and random serial numbers, subject alternative names only when the subject has some, and PKCS#12 stores.
+ * Existing keys, such as those of user provided CAs, can be RSA or EC keys.
+ * Certificates and certificate sign requests are DER encoded here, because the JDK has no public API for them.
+ */
+public class JavaCertManager implements CertManager {
+
+    private static final Logger log = LogManager.getLogger(JavaCertManager.class);
+
+    private static final int KEY_SIZE = 2048;
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private static final String OID_RSA_ENCRYPTION = "1.2.840.113549.1.1.1";
+    private static final String OID_SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+    private static final String OID_EC_PUBLIC_KEY = "1.2.840.10045.2.1";
+    private static final String OID_SHA256_WITH_ECDSA = "1.2.840.10045.4.3.2";
+    private static final String OID_EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String OID_COUNTRY_NAME = "2.5.4.6";
+    private static final String OID_STATE_OR_PROVINCE_NAME = "2.5.4.8";
+    private static final String OID_ORGANIZATION_NAME = "2.5.4.10";
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final String OID_SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String OID_AUTHORITY_KEY_IDENTIFIER = "2.5.29.35";
+
+    private static final String PRIVATE_KEY = "PRIVATE KEY";
+    private static final String RSA_PRIVATE_KEY = "RSA PRIVATE KEY";
+    private static final String EC_PRIVATE_KEY = "EC PRIVATE KEY";
+    private static final String CERTIFICATE = "CERTIFICATE";
+    private static final String CERTIFICATE_REQUEST = "CERTIFICATE REQUEST";
+
+    private final SecureRandom random = new SecureRandom();
+
+    public JavaCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        byte[] name = name(sbj);
+        byte[] publicKeyInfo = keyPair.getPublic().getEncoded();
+
+        byte[] extensions;
+        if (hasSubjectAltNames(sbj)) {
+            // Like openssl req -x509 -extensions v3_req with our openssl.conf
+            extensions = extensions(subjectAltNameExtension(sbj));
+        } else {
+            // Like the v3_ca extensions of the default openssl configuration
+            byte[] keyIdentifier = keyIdentifier(publicKeyInfo);
+            extensions = extensions(
+                    extension(OID_SUBJECT_KEY_IDENTIFIER, false, octetString(keyIdentifier)),
+                    extension(OID_AUTHORITY_KEY_IDENTIFIER, false, sequence(tagged(0x80, keyIdentifier))),
+                    extension(OID_BASIC_CONSTRAINTS, true, sequence(bool(true))));
+        }
+
+        writePem(keyFile, PRIVATE_KEY, keyPair.getPrivate().getEncoded());
+        writePem(certFile, CERTIFICATE, certificate(name, name, publicKeyInfo, extensions, keyPair.getPrivate(), days));
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        byte[] pkcs8 = readPkcs8(readAllBytes(keyFile));
+        PrivateKey key = privateKey(pkcs8);
+        byte[] publicKeyInfo = publicKeyInfo(pkcs8, key);
+        byte[] name = name(sbj);
+
+        // Like openssl x509 -req -signkey, which adds no extensions
+        writePem(certFile, CERTIFICATE, certificate(name, name, publicKeyInfo, null, key, days));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        if (trustStoreFile.length() > 0) {
+            try (InputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+
+        try (InputStream isCertificate = new FileInputStream(certFile)) {
+            Certificate certificate = CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+            trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        }
+
+        try (OutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        PrivateKey key = readPrivateKey(readAllBytes(keyFile));
+        try {
+            Collection<? extends Certificate> chain;
+            try (InputStream isCertificate = new FileInputStream(certFile)) {
+                chain = CertificateFactory.getInstance("X.509").generateCertificates(isCertificate);
+            }
+
+            // Like openssl pkcs12 -export, this replaces any existing store
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), chain.toArray(new Certificate[0]));
+
+            try (OutputStream osKeyStore = new FileOutputStream(keyStoreFile)) {
+                keyStore.store(osKeyStore, keyStorePassword.toCharArray());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to add the key and certificate to the keystore " + keyStoreFile.getName(), e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        try (OutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+
+        byte[] attributes;
+        if (hasSubjectAltNames(sbj)) {
+            attributes = sequence(oid(OID_EXTENSION_REQUEST), set(sequence(subjectAltNameExtension(sbj))));
+        } else {
+            attributes = new byte[0];
+        }
+        byte[] requestInfo = sequence(
+                integer(BigInteger.ZERO),
+                name(sbj),
+                keyPair.getPublic().getEncoded(),
+                tagged(0xA0, attributes));
+
+        writePem(keyFile, PRIVATE_KEY, keyPair.getPrivate().getEncoded());
+        writePem(csrFile, CERTIFICATE_REQUEST, signed(requestInfo, keyPair.getPrivate()));
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, readAllBytes(caKey), readAllBytes(caCert), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        // The certification request info holds the version, subject, subject public key info and attributes
+        Der request = Der.parse(readPem(readAllBytes(csrFile), CERTIFICATE_REQUEST));
+        List<Der> requestParts = request.children();
+        List<Der> requestInfo = requestParts.get(0).children();
+        byte[] subject = requestInfo.get(1).encoded();
+        byte[] publicKeyInfo = requestInfo.get(2).encoded();
+        verifyRequest(requestParts, publicKeyInfo);
+
+        X509Certificate issuer;
+        try {
+            issuer = (X509Certificate) CertificateFactory.getInstance("X.509")
+                    .generateCertificate(new ByteArrayInputStream(caCert));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the CA certificate", e);
+        }
+
+        // Like openssl x509 -req, the only extensions are those given in the subject
+        byte[] extensions = hasSubjectAltNames(sbj) ? extensions(subjectAltNameExtension(sbj)) : null;
+
+        writePem(crtFile, CERTIFICATE, certificate(issuer.getSubjectX500Principal().getEncoded(), subject, publicKeyInfo,
+                extensions, readPrivateKey(caKey), days));
+    }
+
+    private KeyPair generateKeyPair() throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to generate a key pair", e);
+        }
+    }
+
+    /**
+     * Encode and sign a certificate.
+     * Like OpenSSL, a version 1 certificate is produced when there are no extensions.
+     */
+    private byte[] certificate(byte[] issuer, byte[] subject, byte[] publicKeyInfo, byte[] extensions,
+                               PrivateKey signingKey, int days) throws IOException {
+        BigInteger serialNumber;
+        do {
+            serialNumber = new BigInteger(SERIAL_NUMBER_BITS, random);
+        } while (serialNumber.signum() == 0);
+
+        long notBefore = TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+        long notAfter = notBefore + TimeUnit.DAYS.toMillis(days);
+
+        ByteArrayOutputStream tbs = new ByteArrayOutputStream();
+        if (extensions != null) {
+            write(tbs, tagged(0xA0, integer(BigInteger.valueOf(2))));
+        }
+        write(tbs, integer(serialNumber));
+        write(tbs, signatureAlgorithm(signingKey));
+        write(tbs, issuer);
+        write(tbs, sequence(time(notBefore), time(notAfter)));
+        write(tbs, subject);
+        write(tbs, publicKeyInfo);
+        if (extensions != null) {
+            write(tbs, tagged(0xA3, extensions));
+        }
+
+        log.debug("Signing certificate with serial number {}", serialNumber);
+        return signed(tagged(0x30, tbs.toByteArray()), signingKey);
+    }
+
+    /**
+     * @return The DER encoding of the given data followed by its signature algorithm and signature,
+     * which is the structure shared by certificates and certificate sign requests.
+     */
+    private static byte[] signed(byte[] data, PrivateKey key) throws IOException {
+        try {
+            Signature signature = Signature.getInstance(signatureAlgorithmName(key));
+            signature.initSign(key);
+            signature.update(data);
+            return sequence(data, signatureAlgorithm(key), bitString(signature.sign()));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to sign", e);
+        }
+    }
+
+    private static void verifyRequest(List<Der> requestParts, byte[] publicKeyInfo) throws IOException {
+        try {
+            byte[] signatureBits = requestParts.get(2).content();
+            Signature signature = Signature.getInstance(signatureAlgorithmName(publicKeyAlgorithm(publicKeyInfo)));
+            signature.initVerify(publicKey(publicKeyInfo));
+            signature.update(requestParts.get(0).encoded());
+            if (!signature.verify(signatureBits, 1, signatureBits.length - 1)) {
+                throw new IOException("The signature of the certificate sign request is not valid");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to verify the certificate sign request", e);
+        }
+    }
+
+    private static String signatureAlgorithmName(PrivateKey key) throws IOException {
+        return signatureAlgorithmName(key.getAlgorithm());
+    }
+
+    private static String signatureAlgorithmName(String keyAlgorithm) throws IOException {
+        switch (keyAlgorithm) {
+            case "RSA":
+                return "SHA256withRSA";
+            case "EC":
+                return "SHA256withECDSA";
+            default:
+                throw new IOException("Unsupported key algorithm " + keyAlgorithm);
+        }
+    }
+
+    private static byte[] signatureAlgorithm(PrivateKey key) throws IOException {
+        if ("RSA".equals(key.getAlgorithm())) {
+            return sequence(oid(OID_SHA256_WITH_RSA), nul());
+        } else if ("EC".equals(key.getAlgorithm())) {
+            return sequence(oid(OID_SHA256_WITH_ECDSA));
+        } else {
+            throw new IOException("Unsupported key algorithm " + key.getAlgorithm());
+        }
+    }
+
+    private static byte[] name(Subject sbj) {
+        if (sbj == null) {
+            // The defaults of the openssl.cnf distributed with OpenSSL, which openssl req -batch uses without -subj
+            return sequence(
+                    set(sequence(oid(OID_COUNTRY_NAME), tagged(0x13, "AU".getBytes(StandardCharsets.US_ASCII)))),
+                    set(sequence(oid(OID_STATE_OR_PROVINCE_NAME), utf8String("Some-State"))),
+                    set(sequence(oid(OID_ORGANIZATION_NAME), utf8String("Internet Widgits Pty Ltd"))));
+        }
+
+        // The same order as Subject.toString(), which is what OpenSSL is given
+        List<byte[]> rdns = new ArrayList<>(2);
+        if (sbj.organizationName() != null) {
+            rdns.add(set(sequence(oid(OID_ORGANIZATION_NAME), utf8String(sbj.organizationName()))));
+        }
+        if (sbj.commonName() != null) {
+            rdns.add(set(sequence(oid(OID_COMMON_NAME), utf8String(sbj.commonName()))));
+        }
+        return sequence(rdns.toArray(new byte[0][]));
+    }
+
+    private static boolean hasSubjectAltNames(Subject sbj) {
+        return sbj != null && sbj.subjectAltNames() != null && sbj.subjectAltNames().size() > 0;
+    }
+
+    /**
+     * Encode the subject alternative names, which use the {@code TYPE.n = value} keys of an OpenSSL configuration file.
+     */
+    private static byte[] subjectAltNameExtension(Subject sbj) throws IOException {
+        List<byte[]> generalNames = new ArrayList<>(sbj.subjectAltNames().size());
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            String type = entry.getKey();
+            int dot = type.indexOf('.');
+            if (dot >= 0) {
+                type = type.substring(0, dot);
+            }
+            String value = entry.getValue();
+            switch (type.toUpperCase(Locale.ENGLISH)) {
+                case "DNS":
+                    generalNames.add(tagged(0x82, value.getBytes(StandardCharsets.US_ASCII)));
+                    break;
+                case "IP":
+                    generalNames.add(tagged(0x87, ipAddress(value)));
+                    break;
+                case "EMAIL":
+                    generalNames.add(tagged(0x81, value.getBytes(StandardCharsets.US_ASCII)));
+                    break;
+                case "URI":
+                    generalNames.add(tagged(0x86, value.getBytes(StandardCharsets.US_ASCII)));
+                    break;
+                default:
+                    throw new IOException("Unsupported subject alternative name " + entry.getKey());
+            }
+        }
+        return extension(OID_SUBJECT_ALT_NAME, false, sequence(generalNames.toArray(new byte[0][])));
+    }
+
+    private static byte[] ipAddress(String value) throws IOException {
+        // Only accept literal addresses, so that no name resolution is attempted
+        if (!value.matches("[0-9.]+") && !value.contains(":")) {
+            throw new IOException(value + " is not a valid IP address");
+        }
+        return InetAddress.getByName(value).getAddress();
+    }
+
+    private static byte[] extensions(byte[]... extensions) {
+        return sequence(extensions);
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        if (critical) {
+            return sequence(oid(oid), bool(true), octetString(value));
+        } else {
+            return sequence(oid(oid), octetString(value));
+        }
+    }
+
+    /**
+     * @return The SHA-1 hash of the subject public key, like the {@code hash} key identifiers of OpenSSL.
+     */
+    private static byte[] keyIdentifier(byte[] publicKeyInfo) throws IOException {
+        byte[] subjectPublicKey = Der.parse(publicKeyInfo).children().get(1).content();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            // Skip the number of unused bits of the bit string
+            digest.update(subjectPublicKey, 1, subjectPublicKey.length - 1);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to compute the key identifier", e);
+        }
+    }
+
+    private static String publicKeyAlgorithm(byte[] publicKeyInfo) throws IOException {
+        String algorithm = Der.parse(publicKeyInfo).children().get(0).children().get(0).oid();
+        switch (algorithm) {
+            case OID_RSA_ENCRYPTION:
+                return "RSA";
+            case OID_EC_PUBLIC_KEY:
+                return "EC";
+            default:
+                throw new IOException("Unsupported key algorithm " + algorithm);
+        }
+    }
+
+    private static PublicKey publicKey(byte[] publicKeyInfo) throws IOException, GeneralSecurityException {
+        return KeyFactory.getInstance(publicKeyAlgorithm(publicKeyInfo)).generatePublic(new X509EncodedKeySpec(publicKeyInfo));
+    }
+
+    /**
+     * @return The subject public key info of the given PKCS#8 encoded private key. For RSA keys it is derived from
+     * the private key itself. For EC keys it is the public key which OpenSSL stores alongside the private key,
+     * since the JDK cannot derive it.
+     */
+    private static byte[] publicKeyInfo(byte[] pkcs8, PrivateKey key) throws IOException {
+        if (key instanceof RSAPrivateCrtKey) {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) key;
+            return sequence(sequence(oid(OID_RSA_ENCRYPTION), nul()),
+                    bitString(sequence(integer(rsaKey.getModulus()), integer(rsaKey.getPublicExponent()))));
+        } else if (key instanceof ECPrivateKey) {
+            // The private key info holds the version, the algorithm identifier (with the curve) and the SEC 1 private key,
+            // whose optional [1] element is the public key
+            List<Der> parts = Der.parse(pkcs8).children();
+            for (Der part : Der.parse(parts.get(2).content()).children()) {
+                if (part.tag == 0xA1) {
+                    return sequence(parts.get(1).encoded(), part.content());
+                }
+            }
+            throw new IOException("The EC private key does not include its public key, which is needed to renew the self-signed certificate");
+        } else {
+            throw new IOException("Renewing self-signed certificates is only supported for RSA and EC keys");
+        }
+    }
+
+    /**
+     * Read a PEM encoded private key in PKCS#8 format, or in the PKCS#1 (RSA) or SEC 1 (EC) formats
+     * which older versions of OpenSSL write.
+     */
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        return privateKey(readPkcs8(pem));
+    }
+
+    /**
+     * @return The PKCS#8 encoding of the given PEM encoded private key, converting it from PKCS#1 or SEC 1 if needed.
+     */
+    private static byte[] readPkcs8(byte[] pem) throws IOException {
+        String text = new String(pem, StandardCharsets.US_ASCII);
+        byte[] pkcs8;
+        if (text.contains(beginMarker(RSA_PRIVATE_KEY))) {
+            pkcs8 = sequence(integer(BigInteger.ZERO), sequence(oid(OID_RSA_ENCRYPTION), nul()),
+                    octetString(readPem(pem, RSA_PRIVATE_KEY)));
+        } else if (text.contains(beginMarker(EC_PRIVATE_KEY))) {
+            byte[] sec1 = readPem(pem, EC_PRIVATE_KEY);
+            byte[] curve = null;
+            for (Der part : Der.parse(sec1).children()) {
+                if (part.tag == 0xA0) {
+                    curve = part.content();
+                }
+            }
+            if (curve == null) {
+                throw new IOException("The EC private key does not specify its curve");
+            }
+            pkcs8 = sequence(integer(BigInteger.ZERO), sequence(oid(OID_EC_PUBLIC_KEY), curve), octetString(sec1));
+        } else {
+            pkcs8 = readPem(pem, PRIVATE_KEY);
+        }
+        return pkcs8;
+    }
+
+    private static PrivateKey privateKey(byte[] pkcs8) throws IOException {
+        String algorithm = Der.parse(pkcs8).children().get(1).children().get(0).oid();
+        try {
+            switch (algorithm) {
+                case OID_RSA_ENCRYPTION:
+                    return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+                case OID_EC_PUBLIC_KEY:
+                    return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+                default:
+                    throw new IOException("Unsupported private key algorithm " + algorithm);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to read the private key", e);
+        }
+    }
+
+    private static byte[] readAllBytes(File file) throws IOException {
+        return Files.readAllBytes(file.toPath());
+    }
+
+    private static String beginMarker(String type) {
+        return "-----BEGIN " + type + "-----";
+    }
+
+    private static byte[] readPem(byte[] pem, String type) throws IOException {
+        String text = new String(pem, StandardCharsets.US_ASCII);
+        String begin = beginMarker(type);
+        String end = "-----END " + type + "-----";
+        int start = text.indexOf(begin);
+        int stop = start < 0 ? -1 : text.indexOf(end, start);
+        if (start < 0 || stop < 0) {
+            throw new IOException("No " + type + " found");
+        }
+        return Base64.getMimeDecoder().decode(text.substring(start + begin.length(), stop));
+    }
+
+    private static void writePem(File file, String type, byte[] der) throws IOException {
+        String pem = beginMarker(type) + "\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der) + "\n"
+                + "-----END " + type + "-----\n";
+        Files.write(file.toPath(), pem.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] time(long millis) {
+        Date date = new Date(millis);
+        // RFC 5280 requires UTCTime until the end of 2049 and GeneralizedTime afterwards
+        SimpleDateFormat year = new SimpleDateFormat("yyyy", Locale.ENGLISH);
+        year.setTimeZone(TimeZone.getTimeZone("UTC"));
+        boolean utcTime = Integer.parseInt(year.format(date)) < 2050;
+
+        SimpleDateFormat format = new SimpleDateFormat(utcTime ? "yyMMddHHmmss'Z'" : "yyyyMMddHHmmss'Z'", Locale.ENGLISH);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return tagged(utcTime ? 0x17 : 0x18, format.format(date).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void write(ByteArrayOutputStream out, byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static byte[] sequence(byte[]... elements) {
+        return tagged(0x30, elements);
+    }
+
+    private static byte[] set(byte[]... elements) {
+        return tagged(0x31, elements);
+    }
+
+    private static byte[] integer(BigInteger value) {
+        return tagged(0x02, value.toByteArray());
+    }
+
+    private static byte[] bool(boolean value) {
+        return tagged(0x01, new byte[] {value ? (byte) 0xFF : 0});
+    }
+
+    private static byte[] nul() {
+        return tagged(0x05, new byte[0]);
+    }
+
+    private static byte[] octetString(byte[] value) {
+        return tagged(0x04, value);
+    }
+
+    private static byte[] bitString(byte[] value) {
+        // No unused bits
+        return tagged(0x03, new byte[] {0}, value);
+    }
+
+    private static byte[] utf8String(String value) {
+        return tagged(0x0C, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] oid(String oid) {
+        String[] arcs = oid.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+        for (int i = 2; i < arcs.length; i++) {
+            writeBase128(out, Long.parseLong(arcs[i]));
+        }
+        return tagged(0x06, out.toByteArray());
+    }
+
+    private static void writeBase128(ByteArrayOutputStream out, long value) {
+        int groups = 1;
+        while ((value >>> (7 * groups)) != 0) {
+            groups++;
+        }
+        for (int i = groups - 1; i >= 0; i--) {
+            int group = (int) ((value >>> (7 * i)) & 0x7F);
+            out.write(i > 0 ? group | 0x80 : group);
+        }
+    }
+
+    /**
+     * @return The DER encoding of an element with the given tag whose content is the concatenation of the given contents.
+     */
+    private static byte[] tagged(int tag, byte[]... contents) {
+        int length = 0;
+        for (byte[] content : contents) {
+            length += content.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 6);
+        out.write(tag);
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int lengthBytes = 1;
+            while ((length >>> (8 * lengthBytes)) != 0) {
+                lengthBytes++;
+            }
+            out.write(0x80 | lengthBytes);
+            for (int i = lengthBytes - 1; i >= 0; i--) {
+                out.write((length >>> (8 * i)) & 0xFF);
+            }
+        }
+        for (byte[] content : contents) {
+            write(out, content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * A DER encoded element, just enough to take apart certificate sign requests and keys.
+     */
+    private static class Der {
+        private final byte[] buffer;
+        private final int start;
+        private final int contentStart;
+        private final int end;
+        final int tag;
+
+        private Der(byte[] buffer, int start) throws IOException {
+            this.buffer = buffer;
+            this.start = start;
+            int position = start;
+            if (position + 2 > buffer.length) {
+                throw new IOException("Truncated DER element");
+            }
+            this.tag = buffer[position++] & 0xFF;
+            int length = buffer[position++] & 0xFF;
+            if (length >= 0x80) {
+                int lengthBytes = length & 0x7F;
+                if (lengthBytes == 0 || lengthBytes > 4 || position + lengthBytes > buffer.length) {
+                    throw new IOException("Unsupported DER length");
+                }
+                length = 0;
+                for (int i = 0; i < lengthBytes; i++) {
+                    length = (length << 8) | (buffer[position++] & 0xFF);
+                }
+            }
+            this.contentStart = position;
+            this.end = position + length;
+            if (length < 0 || end > buffer.length) {
+                throw new IOException("Truncated DER element");
+            }
+        }
+
+        static Der parse(byte[] der) throws IOException {
+            return new Der(der, 0);
+        }
+
+        byte[] encoded() {
+            return Arrays.copyOfRange(buffer, start, end);
+        }
+
+        byte[] content() {
+            return Arrays.copyOfRange(buffer, contentStart, end);
+        }
+
+        List<Der> children() throws IOException {
+            List<Der> children = new ArrayList<>();
+            int position = contentStart;
+            while (position < end) {
+                Der child = new Der(buffer, position);
+                children.add(child);
+                position = child.end;
+            }
+            return children;
+        }
+
+        String oid() throws IOException {
+            if (tag != 0x06) {
+                throw new IOException("Expected an object identifier");
+            }
+            StringBuilder oid = new StringBuilder();
+            long value = 0;
+            boolean first = true;
+            for (int i = contentStart; i < end; i++) {
+                value = (value << 7) | (buffer[i] & 0x7F);
+                if ((buffer[i] & 0x80) == 0) {
+                    if (first) {
+                        long firstArc = Math.min(value / 40, 2);
+                        oid.append(firstArc).append('.').append(value - firstArc * 40);
+                        first = false;
+                    } else {
+                        oid.append('.').append(value);
+                    }
+                    value = 0;
+                }
+            }
+            return oid.toString();
+        }
+    }
+}
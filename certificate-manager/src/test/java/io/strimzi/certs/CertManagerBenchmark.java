@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares how many signed certificates per second each {@link CertManagerType}, {@link OpenSslCertManager} and {@link JavaCertManager}, produces,
+ * doing what {@code Ca.generateSignedCert} does for each broker or user: generating a key and a certificate sign
+ * request, signing it with the CA and putting the key and certificate into a PKCS#12 keystore.
+ * Run it with the number of certificates to generate by each implementation as the only (optional) argument.
+ */
+public class CertManagerBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int certs = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        for (CertManagerType type : CertManagerType.values()) {
+            CertManager certManager = type.create();
+            // Warm up, then measure
+            run(certManager, Math.max(1, certs / 10));
+            long start = System.nanoTime();
+            run(certManager, certs);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.printf("%s: %d certificates in %d ms (%.1f certificates/s)%n",
+                    certManager.getClass().getSimpleName(), certs, elapsedMs, certs * 1000.0 / Math.max(1, elapsedMs));
+        }
+    }
+
+    private static void run(CertManager certManager, int certs) throws Exception {
+        File dir = Files.createTempDirectory(CertManagerBenchmark.class.getSimpleName()).toFile();
+        File caKey = new File(dir, "ca.key");
+        File caCert = new File(dir, "ca.crt");
+        File key = new File(dir, "user.key");
+        File csr = new File(dir, "user.csr");
+        File cert = new File(dir, "user.crt");
+        File keyStore = new File(dir, "user.p12");
+        try {
+            Subject caSbj = new Subject();
+            caSbj.setOrganizationName("io.strimzi");
+            caSbj.setCommonName("cluster-ca");
+            certManager.generateSelfSignedCert(caKey, caCert, caSbj, 365);
+            byte[] caKeyBytes = Files.readAllBytes(caKey.toPath());
+            byte[] caCertBytes = Files.readAllBytes(caCert.toPath());
+
+            for (int i = 0; i < certs; i++) {
+                Subject sbj = new Subject();
+                sbj.setOrganizationName("io.strimzi");
+                sbj.setCommonName("my-cluster-kafka-" + i);
+                Map<String, String> sbjAltNames = new HashMap<>(2);
+                sbjAltNames.put("DNS.1", "my-cluster-kafka-" + i + ".my-cluster-kafka-brokers.myproject.svc");
+                sbjAltNames.put("DNS.2", "my-cluster-kafka-bootstrap.myproject.svc");
+                sbj.setSubjectAltNames(sbjAltNames);
+
+                certManager.generateCsr(key, csr, sbj);
+                certManager.generateCert(csr, caKeyBytes, caCertBytes, cert, sbj, 365);
+                certManager.addKeyAndCertToKeyStore(key, cert, sbj.commonName(), keyStore, "password");
+            }
+        } finally {
+            for (File file : new File[] {caKey, caCert, key, csr, cert, keyStore, dir}) {
+                file.delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Runs the tests of {@link AbstractCertManagerTest} against {@link JavaCertManager},
+ * plus tests that it can work with the files of {@link OpenSslCertManager}.
+ */
+public class JavaCertManagerTest extends AbstractCertManagerTest {
+
+    @Override
+    protected CertManager certManager() {
+        return new JavaCertManager();
+    }
+
+    @Test
+    public void testSignOpenSslCsrWithJavaCaAndJavaCsrWithOpenSslCa() throws Exception {
+        Assumptions.assumeTrue(System.getProperty("os.name").contains("nux"));
+        CertManager ssl = new JavaCertManager();
+        CertManager openSsl = new OpenSslCertManager();
+
+        Subject caSbj = new Subject();
+        caSbj.setCommonName("CACommonName");
+        caSbj.setOrganizationName("CAOrganizationName");
+
+        Subject sbj = new Subject();
+        sbj.setCommonName("MyCommonName");
+        sbj.setOrganizationName("MyOrganization");
+        Map<String, String> subjectAltNames = new HashMap<>();
+        subjectAltNames.put("DNS.1", "example1.com");
+        subjectAltNames.put("IP.1", "10.0.0.1");
+        sbj.setSubjectAltNames(subjectAltNames);
+
+        File javaCaKey = File.createTempFile("ca-key-", ".key");
+        File javaCaCert = File.createTempFile("ca-crt-", ".crt");
+        File openSslCaKey = File.createTempFile("ca-key-", ".key");
+        File openSslCaCert = File.createTempFile("ca-crt-", ".crt");
+        File key = File.createTempFile("key-", ".key");
+        File csr = File.createTempFile("csr-", ".csr");
+        File cert = File.createTempFile("crt-", ".crt");
+        try {
+            ssl.generateSelfSignedCert(javaCaKey, javaCaCert, caSbj, 365);
+            openSsl.generateSelfSignedCert(openSslCaKey, openSslCaCert, caSbj, 365);
+
+            openSsl.generateCsr(key, csr, sbj);
+            ssl.generateCert(csr, javaCaKey, javaCaCert, cert, sbj, 365);
+            assertSignedBy(cert, javaCaCert, sbj);
+
+            ssl.generateCsr(key, csr, sbj);
+            openSsl.generateCert(csr, openSslCaKey, openSslCaCert, cert, sbj, 365);
+            assertSignedBy(cert, openSslCaCert, sbj);
+        } finally {
+            javaCaKey.delete();
+            javaCaCert.delete();
+            openSslCaKey.delete();
+            openSslCaCert.delete();
+            key.delete();
+            csr.delete();
+            cert.delete();
+        }
+    }
+
+    @Test
+    public void testRenewSelfSignedCertWithEcKey() throws Exception {
+        Assumptions.assumeTrue(System.getProperty("os.name").contains("nux"));
+        CertManager ssl = new JavaCertManager();
+
+        Subject caSbj = new Subject();
+        caSbj.setCommonName("CACommonName");
+        caSbj.setOrganizationName("CAOrganizationName");
+
+        File caKey = File.createTempFile("ca-key-", ".key");
+        File caCert = File.createTempFile("ca-crt-", ".crt");
+        try {
+            Process openSsl = new ProcessBuilder("openssl", "ecparam", "-name", "prime256v1", "-genkey", "-noout",
+                    "-out", caKey.getAbsolutePath()).start();
+            assertThat(openSsl.waitFor(), is(0));
+
+            ssl.renewSelfSignedCert(caKey, caCert, caSbj, 365);
+
+            X509Certificate ca = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new FileInputStream(caCert));
+            ca.verify(ca.getPublicKey());
+            assertThat(ca.getPublicKey().getAlgorithm(), is("EC"));
+            assertThat(ca.getSubjectDN().getName(), is(String.format("CN=%s, O=%s", caSbj.commonName(), caSbj.organizationName())));
+        } finally {
+            caKey.delete();
+            caCert.delete();
+        }
+    }
+
+    private void assertSignedBy(File cert, File caCert, Subject sbj) throws Exception {
+        CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
+        X509Certificate c = (X509Certificate) certFactory.generateCertificate(new FileInputStream(cert));
+        X509Certificate ca = (X509Certificate) certFactory.generateCertificate(new FileInputStream(caCert));
+
+        c.verify(ca.getPublicKey());
+        assertThat(c.getIssuerX500Principal(), is(ca.getSubjectX500Principal()));
+        assertThat(c.getSubjectDN().getName(), is(String.format("CN=%s, O=%s", sbj.commonName(), sbj.organizationName())));
+
+        Collection<List<?>> sans = c.getSubjectAlternativeNames();
+        assertThat(sans.size(), is(sbj.subjectAltNames().size()));
+        for (List<?> san : sans) {
+            assertThat(sbj.subjectAltNames().containsValue(san.get(1)), is(true));
+        }
+    }
+}
@@ -13,6 +13,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperato
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectS2IAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
@@ -29,7 +30,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
@@ -98,8 +98,8 @@ public class ClusterOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         log.info("Starting ClusterOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+        // The worker pools are configured in Main, but they are shared by all the verticles
+        WorkerExecutors.get(getVertx()).bindTo(metrics);
 
         List<Future> watchFutures = new ArrayList<>();
         List<AbstractOperator<?, ?>> operators = new ArrayList<>(asList(
@@ -109,6 +109,7 @@ public class ClusterOperator extends AbstractVerticle {
             operators.add(kafkaConnectS2IAssemblyOperator);
         }
         for (AbstractOperator<?, ?> operator : operators) {
+            operator.enableMetrics(metrics);
             watchFutures.add(operator.createWatch(namespace, operator.recreateWatch(namespace)).compose(w -> {
                 log.info("Opened watch for {} operator", operator.kind());
                 watchByKind.put(operator.kind(), w);
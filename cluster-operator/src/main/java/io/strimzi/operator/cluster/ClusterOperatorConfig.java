@@ -6,12 +6,15 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
 import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.ShardMembership;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
+import io.strimzi.operator.common.operator.resource.ResourceCache;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +38,14 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CREATE_CLUSTER_ROLES = "STRIMZI_CREATE_CLUSTER_ROLES";
     public static final String STRIMZI_IMAGE_PULL_POLICY = "STRIMZI_IMAGE_PULL_POLICY";
     public static final String STRIMZI_IMAGE_PULL_SECRETS = "STRIMZI_IMAGE_PULL_SECRETS";
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final String STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS = "STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_UNCHANGED_RECONCILIATION_INTERVAL_MS = "STRIMZI_UNCHANGED_RECONCILIATION_INTERVAL_MS";
+    public static final String STRIMZI_SHARDING = "STRIMZI_SHARDING";
+    public static final String STRIMZI_OPERATOR_NAMESPACE = "STRIMZI_OPERATOR_NAMESPACE";
+    public static final String STRIMZI_KAFKA_ROLLING_BATCH_SIZE = "STRIMZI_KAFKA_ROLLING_BATCH_SIZE";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -54,6 +65,13 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+    public static final long DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS = ResourceCache.DEFAULT_RESYNC_INTERVAL_MS;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 10;
+    public static final long DEFAULT_UNCHANGED_RECONCILIATION_INTERVAL_MS = 0;
+    public static final ShardMembership.Mode DEFAULT_SHARDING = ShardMembership.Mode.NONE;
+    public static final int DEFAULT_KAFKA_ROLLING_BATCH_SIZE = 1;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -62,6 +80,14 @@ public class ClusterOperatorConfig {
     private final KafkaVersion.Lookup versions;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final boolean resourceCacheEnabled;
+    private final long resourceCacheResyncIntervalMs;
+    private final int maxConcurrentReconciliations;
+    private final long unchangedReconciliationIntervalMs;
+    private final ShardMembership.Mode sharding;
+    private final String operatorNamespace;
+    private final int kafkaRollingBatchSize;
+    private final CertManagerType certManager;
 
     /**
      * Constructor
@@ -75,6 +101,36 @@ public class ClusterOperatorConfig {
      * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
      */
     public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
+        this(namespaces, reconciliationIntervalMs, operationTimeoutMs, createClusterRoles, versions, imagePullPolicy, imagePullSecrets,
+                DEFAULT_RESOURCE_CACHE_ENABLED, DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS, DEFAULT_MAX_CONCURRENT_RECONCILIATIONS,
+                DEFAULT_UNCHANGED_RECONCILIATION_INTERVAL_MS, DEFAULT_SHARDING, null, DEFAULT_KAFKA_ROLLING_BATCH_SIZE,
+                DEFAULT_CERT_MANAGER);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param namespaces namespace in which the operator will run and create resources
+     * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
+     * @param operationTimeoutMs    timeout for internal operations specified in milliseconds
+     * @param createClusterRoles true to create the cluster roles
+     * @param versions The configured Kafka versions
+     * @param imagePullPolicy Image pull policy configured by the user
+     * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
+     * @param resourceCacheEnabled true to serve reads of Kubernetes resources from a watch-backed local cache
+     * @param resourceCacheResyncIntervalMs every how many milliseconds the local cache re-lists the resources
+     * @param maxConcurrentReconciliations maximum number of concurrent reconciliations of each kind of resource (0 for no limit)
+     * @param unchangedReconciliationIntervalMs every how many milliseconds unchanged resources are fully reconciled (0 to always fully reconcile them)
+     * @param sharding how the resources are divided between the replicas of the operator
+     * @param operatorNamespace namespace in which the operator itself runs, which holds the leases of the replicas when sharding is enabled
+     * @param kafkaRollingBatchSize maximum number of Kafka pods which are restarted at the same time by rolling updates
+     * @param certManager the implementation used to generate keys and certificates
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets,
+                                 boolean resourceCacheEnabled, long resourceCacheResyncIntervalMs, int maxConcurrentReconciliations,
+                                 long unchangedReconciliationIntervalMs, ShardMembership.Mode sharding, String operatorNamespace,
+                                 int kafkaRollingBatchSize, CertManagerType certManager) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -82,6 +138,14 @@ public class ClusterOperatorConfig {
         this.versions = versions;
         this.imagePullPolicy = imagePullPolicy;
         this.imagePullSecrets = imagePullSecrets;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.resourceCacheResyncIntervalMs = resourceCacheResyncIntervalMs;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.unchangedReconciliationIntervalMs = unchangedReconciliationIntervalMs;
+        this.sharding = sharding;
+        this.operatorNamespace = operatorNamespace;
+        this.kafkaRollingBatchSize = kafkaRollingBatchSize;
+        this.certManager = certManager;
     }
 
     /**
@@ -110,7 +174,21 @@ public class ClusterOperatorConfig {
         boolean createClusterRoles = parseCreateClusterRoles(map.get(ClusterOperatorConfig.STRIMZI_CREATE_CLUSTER_ROLES));
         ImagePullPolicy imagePullPolicy = parseImagePullPolicy(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_POLICY));
         List<LocalObjectReference> imagePullSecrets = parseImagePullSecrets(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_SECRETS));
-        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets);
+        boolean resourceCacheEnabled = parseResourceCacheEnabled(map.get(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED));
+        long resourceCacheResyncInterval = parseResourceCacheResyncInterval(map.get(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS));
+        int maxConcurrentReconciliations = parseMaxConcurrentReconciliations(map.get(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS));
+        long unchangedReconciliationInterval = parseUnchangedReconciliationInterval(map.get(ClusterOperatorConfig.STRIMZI_UNCHANGED_RECONCILIATION_INTERVAL_MS));
+        ShardMembership.Mode sharding = parseSharding(map.get(ClusterOperatorConfig.STRIMZI_SHARDING));
+        String operatorNamespace = map.get(ClusterOperatorConfig.STRIMZI_OPERATOR_NAMESPACE);
+        if (sharding != ShardMembership.Mode.NONE && (operatorNamespace == null || operatorNamespace.isEmpty())) {
+            throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_OPERATOR_NAMESPACE
+                    + " is required when " + ClusterOperatorConfig.STRIMZI_SHARDING + " is enabled");
+        }
+        int kafkaRollingBatchSize = parseKafkaRollingBatchSize(map.get(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE));
+        CertManagerType certManager = parseCertManager(map.get(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
+        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets,
+                resourceCacheEnabled, resourceCacheResyncInterval, maxConcurrentReconciliations, unchangedReconciliationInterval,
+                sharding, operatorNamespace, kafkaRollingBatchSize, certManager);
 
     }
 
@@ -163,6 +241,108 @@ public class ClusterOperatorConfig {
         return createClusterRoles;
     }
 
+    private static boolean parseResourceCacheEnabled(String resourceCacheEnabledEnvVar) {
+        boolean resourceCacheEnabled = DEFAULT_RESOURCE_CACHE_ENABLED;
+
+        if (resourceCacheEnabledEnvVar != null) {
+            resourceCacheEnabled = Boolean.parseBoolean(resourceCacheEnabledEnvVar);
+        }
+
+        return resourceCacheEnabled;
+    }
+
+    private static long parseResourceCacheResyncInterval(String resourceCacheResyncIntervalEnvVar) {
+        long resourceCacheResyncInterval = DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS;
+
+        if (resourceCacheResyncIntervalEnvVar != null) {
+            resourceCacheResyncInterval = Long.parseLong(resourceCacheResyncIntervalEnvVar);
+        }
+
+        return resourceCacheResyncInterval;
+    }
+
+    private static int parseMaxConcurrentReconciliations(String maxConcurrentReconciliationsEnvVar) {
+        int maxConcurrentReconciliations = DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+
+        if (maxConcurrentReconciliationsEnvVar != null) {
+            maxConcurrentReconciliations = Integer.parseInt(maxConcurrentReconciliationsEnvVar);
+            if (maxConcurrentReconciliations < 0) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS
+                        + " cannot be negative");
+            }
+        }
+
+        return maxConcurrentReconciliations;
+    }
+
+    private static long parseUnchangedReconciliationInterval(String unchangedReconciliationIntervalEnvVar) {
+        long unchangedReconciliationInterval = DEFAULT_UNCHANGED_RECONCILIATION_INTERVAL_MS;
+
+        if (unchangedReconciliationIntervalEnvVar != null) {
+            unchangedReconciliationInterval = Long.parseLong(unchangedReconciliationIntervalEnvVar);
+            if (unchangedReconciliationInterval < 0) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_UNCHANGED_RECONCILIATION_INTERVAL_MS
+                        + " cannot be negative");
+            }
+        }
+
+        return unchangedReconciliationInterval;
+    }
+
+    private static ShardMembership.Mode parseSharding(String shardingEnvVar) {
+        ShardMembership.Mode sharding = DEFAULT_SHARDING;
+
+        if (shardingEnvVar != null) {
+            switch (shardingEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+                case "none":
+                    sharding = ShardMembership.Mode.NONE;
+                    break;
+                case "resource":
+                    sharding = ShardMembership.Mode.RESOURCE;
+                    break;
+                case "namespace":
+                    sharding = ShardMembership.Mode.NAMESPACE;
+                    break;
+                default:
+                    throw new InvalidConfigurationException(shardingEnvVar
+                            + " is not a valid " + ClusterOperatorConfig.STRIMZI_SHARDING + " value. " +
+                            ClusterOperatorConfig.STRIMZI_SHARDING + " can have one of the following values: none, resource, namespace.");
+            }
+        }
+
+        return sharding;
+    }
+
+    private static int parseKafkaRollingBatchSize(String kafkaRollingBatchSizeEnvVar) {
+        int kafkaRollingBatchSize = DEFAULT_KAFKA_ROLLING_BATCH_SIZE;
+
+        if (kafkaRollingBatchSizeEnvVar != null) {
+            kafkaRollingBatchSize = Integer.parseInt(kafkaRollingBatchSizeEnvVar);
+            if (kafkaRollingBatchSize < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE
+                        + " must be at least 1");
+            }
+        }
+
+        return kafkaRollingBatchSize;
+    }
+
+    private static CertManagerType parseCertManager(String certManagerEnvVar) {
+        CertManagerType certManager = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            try {
+                certManager = CertManagerType.fromString(certManagerEnvVar);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException(certManagerEnvVar
+                        + " is not a valid " + ClusterOperatorConfig.STRIMZI_CERT_MANAGER + " value. " +
+                        ClusterOperatorConfig.STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, java.");
+            }
+        }
+
+        return certManager;
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -267,6 +447,63 @@ public class ClusterOperatorConfig {
         return imagePullSecrets;
     }
 
+    /**
+     * @return  Indicates whether reads of Kubernetes resources should be served from a watch-backed local cache
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return  how many milliseconds between full re-lists of the resources in the local cache
+     */
+    public long getResourceCacheResyncIntervalMs() {
+        return resourceCacheResyncIntervalMs;
+    }
+
+    /**
+     * @return  maximum number of concurrent reconciliations of each kind of resource, or 0 when not limited
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return  how many milliseconds may pass before a resource which has not changed is fully reconciled again,
+     *          or 0 when every reconciliation is a full one
+     */
+    public long getUnchangedReconciliationIntervalMs() {
+        return unchangedReconciliationIntervalMs;
+    }
+
+    /**
+     * @return  how the resources are divided between the replicas of the operator
+     */
+    public ShardMembership.Mode getSharding() {
+        return sharding;
+    }
+
+    /**
+     * @return  namespace in which the operator itself runs. Null if it was not configured.
+     */
+    public String getOperatorNamespace() {
+        return operatorNamespace;
+    }
+
+    /**
+     * @return  maximum number of Kafka pods which are restarted at the same time by rolling updates
+     */
+    public int getKafkaRollingBatchSize() {
+        return kafkaRollingBatchSize;
+    }
+
+    /**
+     * @return  the implementation used to generate keys and certificates
+     */
+    public CertManagerType getCertManager() {
+        return certManager;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -277,6 +514,14 @@ public class ClusterOperatorConfig {
                 ",versions=" + versions +
                 ",imagePullPolicy=" + imagePullPolicy +
                 ",imagePullSecrets=" + imagePullSecrets +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",resourceCacheResyncIntervalMs=" + resourceCacheResyncIntervalMs +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",unchangedReconciliationIntervalMs=" + unchangedReconciliationIntervalMs +
+                ",sharding=" + sharding +
+                ",operatorNamespace=" + operatorNamespace +
+                ",kafkaRollingBatchSize=" + kafkaRollingBatchSize +
+                ",certManager=" + certManager +
                 ")";
     }
 }
@@ -6,10 +6,14 @@ package io.strimzi.operator.cluster;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -18,12 +22,19 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectS2IAssemblyOper
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.KubernetesApiMetrics;
 import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.ShardMembership;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
+import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.micrometer.backends.BackendRegistries;
+import okhttp3.OkHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -38,6 +49,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static java.util.Arrays.asList;
+
 import io.vertx.core.VertxOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
@@ -67,7 +80,8 @@ public class Main {
                         .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
-        KubernetesClient client = new DefaultKubernetesClient();
+        WorkerExecutors.configure(vertx, System.getenv());
+        KubernetesClient client = kubernetesClient(BackendRegistries.getDefaultNow());
 
         maybeCreateClusterRoles(vertx, config, client).setHandler(crs -> {
             if (crs.succeeded())    {
@@ -93,12 +107,60 @@ public class Main {
         });
     }
 
+    /**
+     * Creates a client which counts the requests it makes to the Kubernetes API in the given registry.
+     */
+    private static KubernetesClient kubernetesClient(MeterRegistry registry) {
+        Config config = new ConfigBuilder().build();
+        OkHttpClient httpClient = HttpClientUtils.createHttpClient(config).newBuilder()
+                .addInterceptor(new KubernetesApiMetrics(registry))
+                .build();
+        return new DefaultKubernetesClient(httpClient, config);
+    }
+
+    /**
+     * Makes the given operators reconcile only the resources assigned to this replica, and reconcile
+     * all the resources whenever the assignment changes.
+     */
+    private static void startShardMembership(Vertx vertx, KubernetesClient client, ClusterOperatorConfig config, List<AbstractOperator<?, ?>> operators) {
+        ShardMembership membership = new ShardMembership(vertx, new ConfigMapOperator(vertx, client), config.getOperatorNamespace(),
+                "strimzi-cluster-operator", ShardMembership.defaultIdentity(), config.getSharding(), ShardMembership.DEFAULT_LEASE_DURATION_MS);
+        for (AbstractOperator<?, ?> operator : operators) {
+            operator.enableSharding(membership);
+        }
+        membership.addListener(() -> {
+            for (String namespace : config.getNamespaces()) {
+                for (AbstractOperator<?, ?> operator : operators) {
+                    operator.reconcileAll("rebalance", namespace, ignored -> { });
+                }
+            }
+        });
+        membership.start().setHandler(ar -> {
+            if (ar.succeeded()) {
+                log.info("Replica {} joined the shard members {}", membership.identity(), membership.members());
+            } else {
+                log.error("Replica {} failed to join the shard members, will retry", membership.identity(), ar.cause());
+            }
+        });
+    }
+
     static CompositeFuture run(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
         printEnvInfo();
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
+        if (config.isResourceCacheEnabled()) {
+            resourceOperatorSupplier.enableCache(config.getResourceCacheResyncIntervalMs());
+        }
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        if (registry != null) {
+            // The registry is only missing when Vert.x was created without metrics, as in tests
+            resourceOperatorSupplier.bindTo(registry);
+        }
+        if (config.getKafkaRollingBatchSize() > 1) {
+            resourceOperatorSupplier.kafkaSetOperations.enableBatchRolling(config.getKafkaRollingBatchSize());
+        }
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.getCertManager().create();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -126,6 +188,26 @@ public class Main {
         KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator =
                 new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
 
+        if (config.getUnchangedReconciliationIntervalMs() > 0) {
+            // Computing the fingerprints lists the resources of each cluster in every reconciliation
+            kafkaClusterOperations.enableFingerprints(config.getUnchangedReconciliationIntervalMs());
+        }
+
+        List<AbstractOperator<?, ?>> operators = new ArrayList<>(asList(
+                kafkaClusterOperations, kafkaMirrorMakerAssemblyOperator,
+                kafkaConnectClusterOperations, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
+        if (kafkaConnectS2IClusterOperations != null) {
+            operators.add(kafkaConnectS2IClusterOperations);
+        }
+        if (config.getMaxConcurrentReconciliations() > 0) {
+            for (AbstractOperator<?, ?> operator : operators) {
+                operator.enableQueue(config.getMaxConcurrentReconciliations());
+            }
+        }
+        if (config.getSharding() != ShardMembership.Mode.NONE) {
+            startShardMembership(vertx, client, config, operators);
+        }
+
         List<Future> futures = new ArrayList<>();
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
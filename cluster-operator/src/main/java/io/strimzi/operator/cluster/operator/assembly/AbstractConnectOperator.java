@@ -154,6 +154,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                     String connectName = kafkaConnector.getMetadata().getLabels() == null ? null : kafkaConnector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
                     String connectNamespace = connectorNamespace;
 
+                    if (!connectOperator.isOwned(connectNamespace, connectName != null ? connectName : connectorName)) {
+                        log.debug("{} {} in namespace {} is reconciled by another replica", connectorKind, connectorName, connectorNamespace);
+                        return;
+                    }
+
                     switch (action) {
                         case ADDED:
                         case DELETED:
@@ -181,14 +186,14 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                 log.info("{}: {} {} in namespace {} was {}", reconciliation, connectorKind, connectorName, connectorNamespace, action);
 
                                                 return connectOperator.withLock(reconciliation, LOCK_TIMEOUT_MS,
-                                                    () -> connectOperator.reconcileConnector(reconciliation,
+                                                    () -> connectOperator.checkOwned(reconciliation).compose(owned -> connectOperator.reconcileConnector(reconciliation,
                                                                 KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
                                                                 isUseResources(connect),
                                                                 kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
                                                             .compose(reconcileResult -> {
                                                                 log.info("{}: reconciled", reconciliation);
                                                                 return Future.succeededFuture(reconcileResult);
-                                                            }));
+                                                            })));
                                             } else {
                                                 // grab the lock and call reconcileConnectors()
                                                 // (i.e. short circuit doing a whole KafkaConnect reconciliation).
@@ -197,14 +202,14 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                 log.info("{}: {} {} in namespace {} was {}", reconciliation, connectorKind, connectorName, connectorNamespace, action);
 
                                                 return connectS2IOperator.withLock(reconciliation, LOCK_TIMEOUT_MS,
-                                                    () -> connectS2IOperator.reconcileConnector(reconciliation,
+                                                    () -> connectS2IOperator.checkOwned(reconciliation).compose(owned -> connectS2IOperator.reconcileConnector(reconciliation,
                                                                 KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
                                                                 isUseResources(connectS2i),
                                                                 kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
                                                             .compose(reconcileResult -> {
                                                                 log.info("{}: reconciled", reconciliation);
                                                                 return Future.succeededFuture(reconcileResult);
-                                                            }));
+                                                            })));
                                             }
                                         });
                             } else {
@@ -4,8 +4,10 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LoadBalancerIngress;
 import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.OwnerReference;
@@ -25,6 +27,7 @@ import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
 import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteIngress;
 import io.strimzi.api.kafka.KafkaList;
@@ -32,10 +35,13 @@ import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.Constants;
 import io.strimzi.api.kafka.model.DoneableKafka;
+import io.strimzi.api.kafka.model.EntityOperatorSpec;
 import io.strimzi.api.kafka.model.ExternalLogging;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.api.kafka.model.Logging;
 import io.strimzi.api.kafka.model.listener.KafkaListeners;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.ConditionBuilder;
@@ -82,6 +88,7 @@ import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -120,6 +127,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -200,6 +208,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
         reconcile(reconcileState).setHandler(reconcileResult -> {
+            Future<Void> owned = checkOwned(reconciliation);
+            if (owned.failed()) {
+                // The status is up to the new owner now
+                createOrUpdatePromise.fail(owned.cause());
+                return;
+            }
             KafkaStatus status = reconcileState.kafkaStatus;
             Condition readyCondition;
 
@@ -246,113 +260,282 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Computes a fingerprint of the Kafka resource from its generation, labels and annotations and from the
+     * resourceVersions of the resources labelled as belonging to the cluster (including the CA Secrets), and of the
+     * logging ConfigMaps and Secrets referenced from the spec. With the resource cache enabled, this needs no
+     * requests to the Kubernetes API server.
+     * Clusters with maintenance time windows are always fully reconciled, because whether their certificates
+     * can be renewed depends on the current time.
+     *
+     * @param reconciliation The reconciliation
+     * @param kafkaAssembly The Kafka resource
+     *
+     * @return A future with the fingerprint, or with null when the cluster should be fully reconciled
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Future<String> fingerprint(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        KafkaSpec spec = kafkaAssembly.getSpec();
+        if (spec == null || (spec.getMaintenanceTimeWindows() != null && !spec.getMaintenanceTimeWindows().isEmpty())) {
+            return Future.succeededFuture(null);
+        }
+
+        String namespace = reconciliation.namespace();
+        Labels selector = Labels.forStrimziCluster(reconciliation.name());
+
+        List<Future> futures = new ArrayList<>();
+        futures.add(kafkaSetOperations.listAsync(namespace, selector));
+        futures.add(deploymentOperations.listAsync(namespace, selector));
+        futures.add(podOperations.listAsync(namespace, selector));
+        futures.add(pvcOperations.listAsync(namespace, selector));
+        futures.add(serviceOperations.listAsync(namespace, selector));
+        futures.add(configMapOperations.listAsync(namespace, selector));
+        futures.add(secretOperations.listAsync(namespace, selector));
+        futures.add(serviceAccountOperations.listAsync(namespace, selector));
+        futures.add(roleBindingOperations.listAsync(namespace, selector));
+        futures.add(networkPolicyOperator.listAsync(namespace, selector));
+        futures.add(podDisruptionBudgetOperator.listAsync(namespace, selector));
+        futures.add(ingressOperations.listAsync(namespace, selector));
+        if (pfa.hasRoutes()) {
+            futures.add(routeOperations.listAsync(namespace, selector));
+        }
+
+        Set<String> configMapNames = new TreeSet<>();
+        addExternalLogging(configMapNames, spec.getKafka() != null ? spec.getKafka().getLogging() : null);
+        addExternalLogging(configMapNames, spec.getZookeeper() != null ? spec.getZookeeper().getLogging() : null);
+        if (spec.getEntityOperator() != null) {
+            EntityOperatorSpec eo = spec.getEntityOperator();
+            addExternalLogging(configMapNames, eo.getTopicOperator() != null ? eo.getTopicOperator().getLogging() : null);
+            addExternalLogging(configMapNames, eo.getUserOperator() != null ? eo.getUserOperator().getLogging() : null);
+        }
+        for (String configMapName : configMapNames) {
+            futures.add(configMapOperations.getAsync(namespace, configMapName).map(cm -> describeForFingerprint("ConfigMap", configMapName, cm)));
+        }
+
+        Set<String> secretNames = new TreeSet<>();
+        collectSecretNames(Serialization.jsonMapper().valueToTree(spec), secretNames);
+        for (String secretName : secretNames) {
+            futures.add(secretOperations.getAsync(namespace, secretName).map(secret -> describeForFingerprint("Secret", secretName, secret)));
+        }
+
+        return CompositeFuture.join(futures).map(results -> {
+            List<String> entries = new ArrayList<>();
+            for (int i = 0; i < results.size(); i++) {
+                Object result = results.resultAt(i);
+                if (result instanceof List) {
+                    for (HasMetadata resource : (List<HasMetadata>) result) {
+                        entries.add(describeForFingerprint(resource.getClass().getSimpleName(), resource.getMetadata().getName(), resource));
+                    }
+                } else {
+                    entries.add((String) result);
+                }
+            }
+            Collections.sort(entries);
+
+            StringBuilder fingerprint = new StringBuilder()
+                    .append("generation=").append(kafkaAssembly.getMetadata().getGeneration()).append('\n')
+                    .append("labels=").append(sorted(kafkaAssembly.getMetadata().getLabels())).append('\n')
+                    .append("annotations=").append(sorted(kafkaAssembly.getMetadata().getAnnotations())).append('\n');
+            for (String entry : entries) {
+                fingerprint.append(entry).append('\n');
+            }
+            return getStringHash(fingerprint.toString());
+        });
+    }
+
+    private static Map<String, String> sorted(Map<String, String> map) {
+        return map != null ? new TreeMap<>(map) : Collections.emptyMap();
+    }
+
+    private static void addExternalLogging(Set<String> configMapNames, Logging logging) {
+        if (logging instanceof ExternalLogging && ((ExternalLogging) logging).getName() != null) {
+            configMapNames.add(((ExternalLogging) logging).getName());
+        }
+    }
+
+    /**
+     * Collects the values of all the {@code secretName} fields, which reference Secrets such as those with custom
+     * listener certificates or OAuth client secrets.
+     */
+    private static void collectSecretNames(JsonNode node, Set<String> secretNames) {
+        if (node.isObject()) {
+            JsonNode secretName = node.get("secretName");
+            if (secretName != null && secretName.isTextual()) {
+                secretNames.add(secretName.asText());
+            }
+        }
+        for (JsonNode child : node) {
+            collectSecretNames(child, secretNames);
+        }
+    }
+
+    private static String describeForFingerprint(String kind, String name, HasMetadata resource) {
+        return kind + "/" + name + "=" + (resource != null ? resource.getMetadata().getResourceVersion() : "none");
+    }
+
     Future<Void> reconcile(ReconciliationState reconcileState)  {
         Promise<Void> chainPromise = Promise.promise();
 
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret(this::dateSupplier))
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScaling34())
-                .compose(state -> state.zkScalingDown35())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp35())
-                .compose(state -> state.zkScalingCheck35())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.checkKafkaSpec(this::dateSupplier))
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaVersionChange())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaService())
-                .compose(state -> state.kafkaHeadlessService())
-                .compose(state -> state.kafkaExternalBootstrapService())
-                .compose(state -> state.kafkaReplicaServices())
-                .compose(state -> state.kafkaBootstrapRoute())
-                .compose(state -> state.kafkaReplicaRoutes())
-                .compose(state -> state.kafkaBootstrapIngress())
-                .compose(state -> state.kafkaReplicaIngress())
-                .compose(state -> state.kafkaExternalBootstrapServiceReady())
-                .compose(state -> state.kafkaReplicaServicesReady())
-                .compose(state -> state.kafkaBootstrapRouteReady())
-                .compose(state -> state.kafkaReplicaRoutesReady())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customTlsListenerCertificate())
-                .compose(state -> state.customExternalListenerCertificate())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
-                .compose(state -> state.kafkaTlsListenerCertificatesToStatus())
-                .compose(state -> state.kafkaExternalListenerCertificatesToStatus())
-
-                .compose(state -> state.getTopicOperatorDescription())
-                .compose(state -> state.topicOperatorServiceAccount())
-                .compose(state -> state.topicOperatorRoleBinding())
-                .compose(state -> state.topicOperatorAncillaryCm())
-                .compose(state -> state.topicOperatorSecret(this::dateSupplier))
-                .compose(state -> state.topicOperatorDeployment())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBinding())
-                .compose(state -> state.entityOperatorUserOpRoleBinding())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterService())
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
+        reconcileGraph(reconcileState.reconciliation)
+                .execute(reconcileState)
                 .map((Void) null)
                 .setHandler(chainPromise);
 
         return chainPromise.future();
     }
 
+    /**
+     * Builds the graph of the reconciliation steps. The steps which act on the pods of the ZooKeeper and Kafka
+     * clusters (manual pod cleaning, rolling updates, version changes, scaling) are run one after another
+     * in the same order as always, and Kafka is reconciled only after ZooKeeper is ready.
+     * The steps which just reconcile the other resources of a component run concurrently with each other.
+     *
+     * @param reconciliation The reconciliation
+     *
+     * @return The graph of the reconciliation steps
+     */
+    ReconcileGraph<ReconciliationState> reconcileGraph(Reconciliation reconciliation) {
+        ReconcileGraph<ReconciliationState> graph = new ReconcileGraph<ReconciliationState>(reconciliation.toString(), metrics(), kind())
+                .precondition(() -> checkOwned(reconciliation));
+
+        graph.add("initialStatus", ReconciliationState::initialStatus)
+                .add("reconcileCas", state -> state.reconcileCas(this::dateSupplier), "initialStatus")
+                .add("clusterOperatorSecret", state -> state.clusterOperatorSecret(this::dateSupplier), "reconcileCas")
+                // Roll everything if a new CA is added to the trust store.
+                .add("rollingUpdateForNewCaKey", ReconciliationState::rollingUpdateForNewCaKey, "clusterOperatorSecret");
+
+        zookeeperSteps(graph, "rollingUpdateForNewCaKey");
+        kafkaSteps(graph, "zkPersistentClaimDeletion");
+
+        // The remaining components only need the Kafka cluster and are independent of each other
+        String kafkaDone = "kafkaExternalListenerCertificatesToStatus";
+
+        graph.add("getTopicOperatorDescription", ReconciliationState::getTopicOperatorDescription, kafkaDone)
+                .add("topicOperatorServiceAccount", ReconciliationState::topicOperatorServiceAccount, "getTopicOperatorDescription")
+                .add("topicOperatorRoleBinding", ReconciliationState::topicOperatorRoleBinding, "getTopicOperatorDescription")
+                .add("topicOperatorAncillaryCm", ReconciliationState::topicOperatorAncillaryCm, "getTopicOperatorDescription")
+                .add("topicOperatorSecret", state -> state.topicOperatorSecret(this::dateSupplier), "getTopicOperatorDescription")
+                .add("topicOperatorDeployment", ReconciliationState::topicOperatorDeployment,
+                        "topicOperatorServiceAccount", "topicOperatorRoleBinding", "topicOperatorAncillaryCm", "topicOperatorSecret");
+
+        graph.add("getEntityOperatorDescription", ReconciliationState::getEntityOperatorDescription, kafkaDone)
+                .add("entityOperatorServiceAccount", ReconciliationState::entityOperatorServiceAccount, "getEntityOperatorDescription")
+                .add("entityOperatorTopicOpRoleBinding", ReconciliationState::entityOperatorTopicOpRoleBinding, "getEntityOperatorDescription")
+                .add("entityOperatorUserOpRoleBinding", ReconciliationState::entityOperatorUserOpRoleBinding, "getEntityOperatorDescription")
+                .add("entityOperatorTopicOpAncillaryCm", ReconciliationState::entityOperatorTopicOpAncillaryCm, "getEntityOperatorDescription")
+                .add("entityOperatorUserOpAncillaryCm", ReconciliationState::entityOperatorUserOpAncillaryCm, "getEntityOperatorDescription")
+                .add("entityOperatorSecret", state -> state.entityOperatorSecret(this::dateSupplier), "getEntityOperatorDescription")
+                .add("entityOperatorDeployment", ReconciliationState::entityOperatorDeployment,
+                        "entityOperatorServiceAccount", "entityOperatorTopicOpRoleBinding", "entityOperatorUserOpRoleBinding",
+                        "entityOperatorTopicOpAncillaryCm", "entityOperatorUserOpAncillaryCm", "entityOperatorSecret")
+                .add("entityOperatorReady", ReconciliationState::entityOperatorReady, "entityOperatorDeployment");
+
+        graph.add("getKafkaExporterDescription", ReconciliationState::getKafkaExporterDescription, kafkaDone)
+                .add("kafkaExporterServiceAccount", ReconciliationState::kafkaExporterServiceAccount, "getKafkaExporterDescription")
+                .add("kafkaExporterSecret", state -> state.kafkaExporterSecret(this::dateSupplier), "getKafkaExporterDescription")
+                .add("kafkaExporterService", ReconciliationState::kafkaExporterService, "getKafkaExporterDescription")
+                .add("kafkaExporterDeployment", ReconciliationState::kafkaExporterDeployment,
+                        "kafkaExporterServiceAccount", "kafkaExporterSecret", "kafkaExporterService")
+                .add("kafkaExporterReady", ReconciliationState::kafkaExporterReady, "kafkaExporterDeployment");
+
+        graph.add("getJmxTransDescription", ReconciliationState::getJmxTransDescription, kafkaDone)
+                .add("jmxTransServiceAccount", ReconciliationState::jmxTransServiceAccount, "getJmxTransDescription")
+                .add("jmxTransConfigMap", ReconciliationState::jmxTransConfigMap, "getJmxTransDescription")
+                .add("jmxTransDeployment", ReconciliationState::jmxTransDeployment, "jmxTransServiceAccount", "jmxTransConfigMap")
+                .add("jmxTransDeploymentReady", ReconciliationState::jmxTransDeploymentReady, "jmxTransDeployment");
+
+        return graph;
+    }
+
+    private void zookeeperSteps(ReconcileGraph<ReconciliationState> graph, String after) {
+        graph.add("getZookeeperDescription", ReconciliationState::getZookeeperDescription, after)
+                // Steps acting on the pods, in order
+                .add("zkManualPodCleaning", ReconciliationState::zkManualPodCleaning, "getZookeeperDescription")
+                .add("zkNetPolicy", ReconciliationState::zkNetPolicy, "getZookeeperDescription")
+                .add("zkManualRollingUpdate", ReconciliationState::zkManualRollingUpdate, "zkManualPodCleaning", "zkNetPolicy")
+                .add("zkVersionChange", ReconciliationState::zkVersionChange, "zkManualRollingUpdate")
+                .add("zkPvcs", ReconciliationState::zkPvcs, "zkVersionChange")
+                // Other resources used by the StatefulSet
+                .add("zookeeperServiceAccount", ReconciliationState::zookeeperServiceAccount, "getZookeeperDescription")
+                .add("zkService", ReconciliationState::zkService, "getZookeeperDescription")
+                .add("zkHeadlessService", ReconciliationState::zkHeadlessService, "getZookeeperDescription")
+                .add("zkAncillaryCm", ReconciliationState::zkAncillaryCm, "getZookeeperDescription")
+                .add("zkNodesSecret", state -> state.zkNodesSecret(this::dateSupplier), "getZookeeperDescription")
+                .add("zkPodDisruptionBudget", ReconciliationState::zkPodDisruptionBudget, "getZookeeperDescription")
+                .add("zkStatefulSet", ReconciliationState::zkStatefulSet,
+                        "zkPvcs", "zookeeperServiceAccount", "zkService", "zkHeadlessService", "zkAncillaryCm",
+                        "zkNodesSecret", "zkPodDisruptionBudget")
+                .add("zkScaling34", ReconciliationState::zkScaling34, "zkStatefulSet")
+                .add("zkScalingDown35", ReconciliationState::zkScalingDown35, "zkScaling34")
+                .add("zkRollingUpdate", ReconciliationState::zkRollingUpdate, "zkScalingDown35")
+                .add("zkPodsReady", ReconciliationState::zkPodsReady, "zkRollingUpdate")
+                .add("zkScalingUp35", ReconciliationState::zkScalingUp35, "zkPodsReady")
+                .add("zkScalingCheck35", ReconciliationState::zkScalingCheck35, "zkScalingUp35")
+                .add("zkServiceEndpointReadiness", ReconciliationState::zkServiceEndpointReadiness, "zkScalingCheck35")
+                .add("zkHeadlessServiceEndpointReadiness", ReconciliationState::zkHeadlessServiceEndpointReadiness, "zkScalingCheck35")
+                .add("zkPersistentClaimDeletion", ReconciliationState::zkPersistentClaimDeletion,
+                        "zkServiceEndpointReadiness", "zkHeadlessServiceEndpointReadiness");
+    }
+
+    private void kafkaSteps(ReconcileGraph<ReconciliationState> graph, String after) {
+        graph.add("getKafkaClusterDescription", ReconciliationState::getKafkaClusterDescription, after)
+                .add("checkKafkaSpec", state -> state.checkKafkaSpec(this::dateSupplier), "getKafkaClusterDescription")
+                // Steps acting on the pods, in order
+                .add("kafkaManualPodCleaning", ReconciliationState::kafkaManualPodCleaning, "checkKafkaSpec")
+                .add("kafkaNetPolicy", ReconciliationState::kafkaNetPolicy, "checkKafkaSpec")
+                .add("kafkaManualRollingUpdate", ReconciliationState::kafkaManualRollingUpdate, "kafkaManualPodCleaning", "kafkaNetPolicy")
+                .add("kafkaVersionChange", ReconciliationState::kafkaVersionChange, "kafkaManualRollingUpdate")
+                .add("kafkaPvcs", ReconciliationState::kafkaPvcs, "kafkaVersionChange")
+                .add("kafkaScaleDown", ReconciliationState::kafkaScaleDown, "kafkaPvcs")
+                // Other resources used by the StatefulSet
+                .add("kafkaInitServiceAccount", ReconciliationState::kafkaInitServiceAccount, "checkKafkaSpec")
+                .add("kafkaInitClusterRoleBinding", ReconciliationState::kafkaInitClusterRoleBinding, "checkKafkaSpec")
+                .add("kafkaJmxSecret", ReconciliationState::kafkaJmxSecret, "checkKafkaSpec")
+                .add("kafkaPodDisruptionBudget", ReconciliationState::kafkaPodDisruptionBudget, "checkKafkaSpec")
+                .add("customTlsListenerCertificate", ReconciliationState::customTlsListenerCertificate, "checkKafkaSpec")
+                .add("customExternalListenerCertificate", ReconciliationState::customExternalListenerCertificate, "checkKafkaSpec")
+                // The version change might regenerate the broker configuration, so it has to see the same
+                // (not yet known) external addresses as before
+                .add("kafkaService", ReconciliationState::kafkaService, "kafkaVersionChange")
+                .add("kafkaHeadlessService", ReconciliationState::kafkaHeadlessService, "kafkaVersionChange")
+                .add("kafkaExternalBootstrapService", ReconciliationState::kafkaExternalBootstrapService, "kafkaVersionChange")
+                .add("kafkaReplicaServices", ReconciliationState::kafkaReplicaServices, "kafkaVersionChange")
+                .add("kafkaBootstrapRoute", ReconciliationState::kafkaBootstrapRoute, "kafkaVersionChange")
+                .add("kafkaReplicaRoutes", ReconciliationState::kafkaReplicaRoutes, "kafkaVersionChange")
+                .add("kafkaBootstrapIngress", ReconciliationState::kafkaBootstrapIngress, "kafkaVersionChange")
+                .add("kafkaReplicaIngress", ReconciliationState::kafkaReplicaIngress, "kafkaVersionChange")
+                // The readiness steps add to the listener status, so they run in order after the plain and TLS listeners
+                .add("kafkaExternalBootstrapServiceReady", ReconciliationState::kafkaExternalBootstrapServiceReady,
+                        "kafkaService", "kafkaExternalBootstrapService")
+                .add("kafkaReplicaServicesReady", ReconciliationState::kafkaReplicaServicesReady,
+                        "kafkaExternalBootstrapServiceReady", "kafkaReplicaServices")
+                .add("kafkaBootstrapRouteReady", ReconciliationState::kafkaBootstrapRouteReady,
+                        "kafkaReplicaServicesReady", "kafkaBootstrapRoute")
+                .add("kafkaReplicaRoutesReady", ReconciliationState::kafkaReplicaRoutesReady,
+                        "kafkaBootstrapRouteReady", "kafkaReplicaRoutes")
+                // Certificates and broker configuration need all the external addresses
+                .add("kafkaGenerateCertificates", state -> state.kafkaGenerateCertificates(this::dateSupplier),
+                        "kafkaReplicaRoutesReady", "kafkaBootstrapIngress", "kafkaReplicaIngress")
+                .add("kafkaAncillaryCm", ReconciliationState::kafkaAncillaryCm,
+                        "kafkaReplicaRoutesReady", "kafkaBootstrapIngress", "kafkaReplicaIngress")
+                .add("kafkaBrokersSecret", ReconciliationState::kafkaBrokersSecret, "kafkaGenerateCertificates")
+                .add("kafkaStatefulSet", ReconciliationState::kafkaStatefulSet,
+                        "kafkaScaleDown", "kafkaInitServiceAccount", "kafkaInitClusterRoleBinding", "kafkaJmxSecret",
+                        "kafkaPodDisruptionBudget", "customTlsListenerCertificate", "customExternalListenerCertificate",
+                        "kafkaHeadlessService", "kafkaAncillaryCm", "kafkaBrokersSecret")
+                .add("kafkaRollingUpdate", ReconciliationState::kafkaRollingUpdate, "kafkaStatefulSet")
+                .add("kafkaScaleUp", ReconciliationState::kafkaScaleUp, "kafkaRollingUpdate")
+                .add("kafkaPodsReady", ReconciliationState::kafkaPodsReady, "kafkaScaleUp")
+                .add("kafkaServiceEndpointReady", ReconciliationState::kafkaServiceEndpointReady, "kafkaPodsReady")
+                .add("kafkaHeadlessServiceEndpointReady", ReconciliationState::kafkaHeadlessServiceEndpointReady, "kafkaPodsReady")
+                .add("kafkaNodePortExternalListenerStatus", ReconciliationState::kafkaNodePortExternalListenerStatus,
+                        "kafkaServiceEndpointReady", "kafkaHeadlessServiceEndpointReady")
+                .add("kafkaPersistentClaimDeletion", ReconciliationState::kafkaPersistentClaimDeletion, "kafkaNodePortExternalListenerStatus")
+                .add("kafkaTlsListenerCertificatesToStatus", ReconciliationState::kafkaTlsListenerCertificatesToStatus, "kafkaPersistentClaimDeletion")
+                .add("kafkaExternalListenerCertificatesToStatus", ReconciliationState::kafkaExternalListenerCertificatesToStatus, "kafkaTlsListenerCertificatesToStatus");
+    }
+
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
         return new ReconciliationState(reconciliation, kafkaAssembly);
     }
@@ -551,7 +734,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.CERTIFICATES).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -1785,7 +1968,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
                 future -> {
                     String serviceName = KafkaCluster.externalBootstrapServiceName(name);
                     Future<Void> address = null;
@@ -1906,7 +2089,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
                 future -> {
                     int replicas = kafkaCluster.getReplicas();
                     List<Future> serviceFutures = new ArrayList<>(replicas);
@@ -2023,7 +2206,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
                 future -> {
                     String routeName = KafkaCluster.serviceName(name);
                     //Future future = Future.future();
@@ -2067,7 +2250,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
                 future -> {
                     int replicas = kafkaCluster.getReplicas();
                     List<Future> routeFutures = new ArrayList<>(replicas);
@@ -2135,7 +2318,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.CERTIFICATES).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -2644,8 +2827,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         // We have to wait for the pod to be actually deleted
                         log.debug("{}: Checking if Pod {} has been deleted", reconciliation, podName);
 
-                        Future<Void> waitForDeletion = podOperations.waitFor(namespace, podName, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
-                            Pod deletion = podOperations.get(namespace, podName);
+                        Future<Void> waitForDeletion = podOperations.waitForResource(namespace, podName, pollingIntervalMs, timeoutMs, deletion -> {
                             log.trace("Checking if Pod {} in namespace {} has been deleted or recreated", podName, namespace);
                             return deletion == null;
                         });
@@ -2663,8 +2845,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
                             log.debug("{}: Checking if PVC {} for Pod {} has been deleted", reconciliation, pvcName, podName);
 
-                            Future<Void> waitForDeletion = pvcOperations.waitFor(namespace, pvcName, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
-                                PersistentVolumeClaim deletion = pvcOperations.get(namespace, pvcName);
+                            Future<Void> waitForDeletion = pvcOperations.waitForResource(namespace, pvcName, pollingIntervalMs, timeoutMs, deletion -> {
                                 log.trace("Checking if {} {} in namespace {} has been deleted", pvc.getKind(), pvcName, namespace);
                                 return deletion == null || (deletion.getMetadata() != null && !uid.equals(deletion.getMetadata().getUid()));
                             });
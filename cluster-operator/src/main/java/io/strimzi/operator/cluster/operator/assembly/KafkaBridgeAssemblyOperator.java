@@ -25,6 +25,7 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ShardOwnershipLostException;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -93,15 +94,20 @@ public class KafkaBridgeAssemblyOperator extends AbstractAssemblyOperator<Kubern
 
         log.debug("{}: Updating Kafka Bridge cluster", reconciliation);
         kafkaBridgeServiceAccount(namespace, bridge)
-            .compose(i -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(scale -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService()))
-            .compose(i -> configMapOperations.reconcile(namespace, bridge.getAncillaryConfigName(), logAndMetricsConfigMap))
-            .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget()))
-            .compose(i -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-            .compose(i -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(i -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs))
-            .compose(i -> deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs))
+            .compose(whileOwned(reconciliation, i -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(whileOwned(reconciliation, scale -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService())))
+            .compose(whileOwned(reconciliation, i -> configMapOperations.reconcile(namespace, bridge.getAncillaryConfigName(), logAndMetricsConfigMap)))
+            .compose(whileOwned(reconciliation, i -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget())))
+            .compose(whileOwned(reconciliation, i -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+            .compose(whileOwned(reconciliation, i -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(whileOwned(reconciliation, i -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
+            .compose(whileOwned(reconciliation, i -> deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
             .setHandler(reconciliationResult -> {
+                if (reconciliationResult.failed() && reconciliationResult.cause() instanceof ShardOwnershipLostException) {
+                    // The status is up to the new owner now
+                    createOrUpdatePromise.fail(reconciliationResult.cause());
+                    return;
+                }
                 StatusUtils.setStatusConditionAndObservedGeneration(assemblyResource, kafkaBridgeStatus, reconciliationResult.mapEmpty());
                 int port = KafkaBridgeCluster.DEFAULT_REST_API_PORT;
                 if (bridge.getHttp() != null) {
@@ -27,6 +27,7 @@ import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ShardOwnershipLostException;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
@@ -134,18 +135,23 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                         return Future.succeededFuture();
                     }
                 })
-                .compose(i -> connectServiceAccount(namespace, connect))
-                .compose(i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnect))))
-                .compose(i -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas()))
-                .compose(scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService()))
-                .compose(i -> configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget()))
-                .compose(i -> deploymentOperations.reconcile(namespace, connect.getName(), connect.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus))
+                .compose(whileOwned(reconciliation, i -> connectServiceAccount(namespace, connect)))
+                .compose(whileOwned(reconciliation, i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnect)))))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas())))
+                .compose(whileOwned(reconciliation, scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService())))
+                .compose(whileOwned(reconciliation, i -> configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap)))
+                .compose(whileOwned(reconciliation, i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget())))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.reconcile(namespace, connect.getName(), connect.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas())))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(whileOwned(reconciliation, i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus)))
                 .setHandler(reconciliationResult -> {
+                    if (reconciliationResult.failed() && reconciliationResult.cause() instanceof ShardOwnershipLostException) {
+                        // The status is up to the new owner now
+                        createOrUpdatePromise.fail(reconciliationResult.cause());
+                        return;
+                    }
                     StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnect, kafkaConnectStatus, reconciliationResult);
                     kafkaConnectStatus.setUrl(KafkaConnectResources.url(connect.getCluster(), namespace, KafkaConnectCluster.REST_API_PORT));
 
@@ -29,6 +29,7 @@ import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ShardOwnershipLostException;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentConfigOperator;
@@ -140,21 +141,26 @@ public class KafkaConnectS2IAssemblyOperator extends AbstractConnectOperator<Ope
                                 "Kafka Connect S2I deployment cannot be enabled.");
                     }
                 })
-                .compose(i -> connectServiceAccount(namespace, connect))
-                .compose(i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnectS2I))))
-                .compose(i -> deploymentConfigOperations.scaleDown(namespace, connect.getName(), connect.getReplicas()))
-                .compose(scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService()))
-                .compose(i -> configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap))
-                .compose(i -> deploymentConfigOperations.reconcile(namespace, connect.getName(), connect.generateDeploymentConfig(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.sourceImageStreamName(connect.getCluster()), connect.generateSourceImageStream()))
-                .compose(i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.targetImageStreamName(connect.getCluster()), connect.generateTargetImageStream()))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget()))
-                .compose(i -> buildConfigOperations.reconcile(namespace, KafkaConnectS2IResources.buildConfigName(connect.getCluster()), connect.generateBuildConfig()))
-                .compose(i -> deploymentConfigOperations.scaleUp(namespace, connect.getName(), connect.getReplicas()))
-                .compose(i -> deploymentConfigOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> deploymentConfigOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> reconcileConnectors(reconciliation, kafkaConnectS2I, kafkaConnectS2Istatus))
+                .compose(whileOwned(reconciliation, i -> connectServiceAccount(namespace, connect)))
+                .compose(whileOwned(reconciliation, i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnectS2I)))))
+                .compose(whileOwned(reconciliation, i -> deploymentConfigOperations.scaleDown(namespace, connect.getName(), connect.getReplicas())))
+                .compose(whileOwned(reconciliation, scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService())))
+                .compose(whileOwned(reconciliation, i -> configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap)))
+                .compose(whileOwned(reconciliation, i -> deploymentConfigOperations.reconcile(namespace, connect.getName(), connect.generateDeploymentConfig(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(whileOwned(reconciliation, i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.sourceImageStreamName(connect.getCluster()), connect.generateSourceImageStream())))
+                .compose(whileOwned(reconciliation, i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.targetImageStreamName(connect.getCluster()), connect.generateTargetImageStream())))
+                .compose(whileOwned(reconciliation, i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget())))
+                .compose(whileOwned(reconciliation, i -> buildConfigOperations.reconcile(namespace, KafkaConnectS2IResources.buildConfigName(connect.getCluster()), connect.generateBuildConfig())))
+                .compose(whileOwned(reconciliation, i -> deploymentConfigOperations.scaleUp(namespace, connect.getName(), connect.getReplicas())))
+                .compose(whileOwned(reconciliation, i -> deploymentConfigOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(whileOwned(reconciliation, i -> deploymentConfigOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(whileOwned(reconciliation, i -> reconcileConnectors(reconciliation, kafkaConnectS2I, kafkaConnectS2Istatus)))
                 .setHandler(reconciliationResult -> {
+                    if (reconciliationResult.failed() && reconciliationResult.cause() instanceof ShardOwnershipLostException) {
+                        // The status is up to the new owner now
+                        createOrUpdatePromise.fail(reconciliationResult.cause());
+                        return;
+                    }
                     StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnectS2I, kafkaConnectS2Istatus, reconciliationResult);
                     kafkaConnectS2Istatus.setUrl(KafkaConnectS2IResources.url(connect.getCluster(), namespace, KafkaConnectS2ICluster.REST_API_PORT));
                     kafkaConnectS2Istatus.setBuildConfigName(KafkaConnectS2IResources.buildConfigName(connect.getCluster()));
@@ -25,6 +25,7 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ShardOwnershipLostException;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -96,14 +97,19 @@ public class KafkaMirrorMakerAssemblyOperator extends AbstractAssemblyOperator<K
 
         log.debug("{}: Updating Kafka Mirror Maker cluster", reconciliation);
         mirrorMakerServiceAccount(namespace, mirror)
-                .compose(i -> deploymentOperations.scaleDown(namespace, mirror.getName(), mirror.getReplicas()))
-                .compose(i -> configMapOperations.reconcile(namespace, mirror.getAncillaryConfigName(), logAndMetricsConfigMap))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, mirror.getName(), mirror.generatePodDisruptionBudget()))
-                .compose(i -> deploymentOperations.reconcile(namespace, mirror.getName(), mirror.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> deploymentOperations.scaleUp(namespace, mirror.getName(), mirror.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, mirror.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> deploymentOperations.readiness(namespace, mirror.getName(), 1_000, operationTimeoutMs))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.scaleDown(namespace, mirror.getName(), mirror.getReplicas())))
+                .compose(whileOwned(reconciliation, i -> configMapOperations.reconcile(namespace, mirror.getAncillaryConfigName(), logAndMetricsConfigMap)))
+                .compose(whileOwned(reconciliation, i -> podDisruptionBudgetOperator.reconcile(namespace, mirror.getName(), mirror.generatePodDisruptionBudget())))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.reconcile(namespace, mirror.getName(), mirror.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.scaleUp(namespace, mirror.getName(), mirror.getReplicas())))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.waitForObserved(namespace, mirror.getName(), 1_000, operationTimeoutMs)))
+                .compose(whileOwned(reconciliation, i -> deploymentOperations.readiness(namespace, mirror.getName(), 1_000, operationTimeoutMs)))
                 .setHandler(reconciliationResult -> {
+                    if (reconciliationResult.failed() && reconciliationResult.cause() instanceof ShardOwnershipLostException) {
+                        // The status is up to the new owner now
+                        createOrUpdatePromise.fail(reconciliationResult.cause());
+                        return;
+                    }
                         StatusUtils.setStatusConditionAndObservedGeneration(assemblyResource, kafkaMirrorMakerStatus, reconciliationResult);
 
                         updateStatus(assemblyResource, reconciliation, kafkaMirrorMakerStatus).setHandler(statusResult -> {
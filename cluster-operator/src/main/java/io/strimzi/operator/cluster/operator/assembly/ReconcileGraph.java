@@ -0,0 +1,221 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.OperatorMetrics;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>A set of named reconciliation steps, each of which declares the steps it depends on.
+ * Executing the graph runs every step once all of its dependencies have completed successfully,
+ * so steps which don't depend on each other (directly or transitively) run concurrently.</p>
+ *
+ * <p>A step has to be added after all of its dependencies, which means the graph cannot contain cycles.
+ * When a step fails no further steps are started, and the execution fails with the cause of the first failure
+ * once all the steps which were already running have completed.</p>
+ *
+ * <p>All steps are given the same state object. Steps which run concurrently must not modify the same parts of it
+ * and their callbacks are expected to run on the same Vert.x context.</p>
+ *
+ * <p>The duration of every step is recorded in the {@link OperatorMetrics} the graph was created with.</p>
+ *
+ * <p>An optional {@linkplain #precondition(Supplier) precondition} is checked before each step is started,
+ * and the step fails without being run when it does not hold.</p>
+ *
+ * @param <S> The type of the reconciliation state.
+ */
+public class ReconcileGraph<S> {
+
+    private static final Logger log = LogManager.getLogger(ReconcileGraph.class);
+
+    private final String description;
+    private final OperatorMetrics metrics;
+    private final String kind;
+    private final Map<String, Step<S>> steps = new LinkedHashMap<>();
+    private Supplier<Future<Void>> precondition = Future::succeededFuture;
+
+    private static class Step<S> {
+        private final String name;
+        private final Function<S, Future<S>> action;
+        private final int dependencies;
+        private final List<Step<S>> dependents = new ArrayList<>();
+
+        Step(String name, Function<S, Future<S>> action, int dependencies) {
+            this.name = name;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param description A description of what is being reconciled, used for logging.
+     */
+    public ReconcileGraph(String description) {
+        this(description, OperatorMetrics.noop(), null);
+    }
+
+    /**
+     * Constructor.
+     * @param description A description of what is being reconciled, used for logging.
+     * @param metrics The metrics in which the duration of the steps is recorded.
+     * @param kind The kind of the resource being reconciled, used to tag the metrics.
+     */
+    public ReconcileGraph(String description, OperatorMetrics metrics, String kind) {
+        this.description = description;
+        this.metrics = metrics;
+        this.kind = kind;
+    }
+
+    /**
+     * Adds a step to the graph.
+     * @param name The name of the step, which has to be unique within the graph.
+     * @param action The step.
+     * @param dependencies The names of the (previously added) steps which have to complete before this step is run.
+     * @return This graph.
+     */
+    public ReconcileGraph<S> add(String name, Function<S, Future<S>> action, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " has already been added");
+        }
+        Step<S> step = new Step<>(name, action, dependencies.length);
+        for (String dependency : dependencies) {
+            Step<S> dependencyStep = steps.get(dependency);
+            if (dependencyStep == null) {
+                throw new IllegalArgumentException("Step " + name + " depends on unknown step " + dependency);
+            }
+            dependencyStep.dependents.add(step);
+        }
+        steps.put(name, step);
+        return this;
+    }
+
+    /**
+     * Sets a precondition which is checked before each step is started.
+     * @param precondition Returns a future which fails when the steps should no longer be run.
+     * @return This graph.
+     */
+    public ReconcileGraph<S> precondition(Supplier<Future<Void>> precondition) {
+        this.precondition = precondition;
+        return this;
+    }
+
+    /**
+     * @return The names of the steps in the order they were added.
+     */
+    public List<String> steps() {
+        return Collections.unmodifiableList(new ArrayList<>(steps.keySet()));
+    }
+
+    /**
+     * Executes the steps of this graph.
+     * @param state The state passed to every step.
+     * @return A future which completes with the given state when all the steps have completed,
+     * or fails when any of them failed.
+     */
+    public Future<S> execute(S state) {
+        return new Execution(state).start();
+    }
+
+    private class Execution {
+        private final S state;
+        private final Promise<S> promise = Promise.promise();
+        private final Map<Step<S>, Integer> remainingDependencies = new HashMap<>();
+        private int running = 0;
+        private int completed = 0;
+        private Throwable failure;
+
+        Execution(S state) {
+            this.state = state;
+        }
+
+        Future<S> start() {
+            List<Step<S>> ready = new ArrayList<>();
+            synchronized (this) {
+                for (Step<S> step : steps.values()) {
+                    remainingDependencies.put(step, step.dependencies);
+                    if (step.dependencies == 0) {
+                        ready.add(step);
+                    }
+                }
+                running = ready.size();
+            }
+            if (ready.isEmpty()) {
+                promise.complete(state);
+            }
+            for (Step<S> step : ready) {
+                run(step);
+            }
+            return promise.future();
+        }
+
+        private void run(Step<S> step) {
+            log.trace("{}: Starting step {}", description, step.name);
+            long startNanos = System.nanoTime();
+            Future<S> result;
+            try {
+                result = precondition.get().compose(ignored -> step.action.apply(state));
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+            result.setHandler(res -> {
+                if (kind != null) {
+                    metrics.step(kind, step.name, res.succeeded(), System.nanoTime() - startNanos);
+                }
+                completed(step, res);
+            });
+        }
+
+        private void completed(Step<S> step, AsyncResult<S> result) {
+            List<Step<S>> ready = new ArrayList<>();
+            boolean finished;
+            synchronized (this) {
+                running--;
+                if (result.failed()) {
+                    log.debug("{}: Step {} failed", description, step.name);
+                    if (failure == null) {
+                        failure = result.cause();
+                    }
+                } else {
+                    completed++;
+                    if (failure == null) {
+                        for (Step<S> dependent : step.dependents) {
+                            if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                                ready.add(dependent);
+                            }
+                        }
+                    }
+                }
+                running += ready.size();
+                finished = running == 0;
+            }
+            for (Step<S> next : ready) {
+                run(next);
+            }
+            if (finished) {
+                if (failure != null) {
+                    promise.fail(failure);
+                } else if (completed == steps.size()) {
+                    promise.complete(state);
+                } else {
+                    promise.fail(new IllegalStateException("Only " + completed + " of " + steps.size() + " steps were run"));
+                }
+            }
+        }
+    }
+}
@@ -18,36 +18,187 @@ import org.apache.kafka.common.config.TopicConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
 
 /**
- * Determines whether the given broker can be rolled without affecting
+ * Determines whether the given broker, or set of brokers, can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ * An instance can be reused for a whole rolling restart: the topic descriptions are taken once and indexed by broker,
+ * and each check only describes again the topics with a replica on the brokers being checked
+ * (plus any topics created since), so the partitions affected by a restart are refreshed before they matter.
  */
 class KafkaAvailability {
 
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
     private final Admin ac;
-    private final Future<Collection<TopicDescription>> descriptions;
+    private volatile Future<Snapshot> snapshot;
+    private final Map<String, Config> topicConfigs = new ConcurrentHashMap<>();
 
     KafkaAvailability(Admin ac) {
         this.ac = ac;
+        this.snapshot = fullSnapshot();
+    }
+
+    /**
+     * An immutable snapshot of the topic descriptions of the cluster,
+     * indexed by the brokers with a replica of some partition of each topic.
+     */
+    static class Snapshot {
+        /** The topic descriptions, in index order */
+        private final TopicDescription[] topics;
+        /** The names of the topics, with their index */
+        private final Map<String, Integer> topicIndex;
+        /** For each broker, the sorted indices of the topics with a replica on that broker */
+        private final Map<Integer, int[]> brokerTopics;
+
+        Snapshot(Collection<TopicDescription> descriptions) {
+            this.topics = descriptions.toArray(new TopicDescription[0]);
+            this.topicIndex = new HashMap<>(topics.length * 2);
+            // First pass: which brokers each topic has replicas on, and how many topics each broker has
+            int[][] topicBrokers = new int[topics.length][];
+            Map<Integer, int[]> counts = new HashMap<>();
+            for (int topic = 0; topic < topics.length; topic++) {
+                topicIndex.put(topics[topic].name(), topic);
+                Set<Integer> brokers = new HashSet<>();
+                for (TopicPartitionInfo pi : topics[topic].partitions()) {
+                    for (Node replica : pi.replicas()) {
+                        brokers.add(replica.id());
+                    }
+                }
+                int[] ids = new int[brokers.size()];
+                int i = 0;
+                for (Integer broker : brokers) {
+                    ids[i++] = broker;
+                    counts.computeIfAbsent(broker, b -> new int[1])[0]++;
+                }
+                topicBrokers[topic] = ids;
+            }
+            // Second pass: fill in the index
+            this.brokerTopics = new HashMap<>(counts.size() * 2);
+            Map<Integer, int[]> cursors = new HashMap<>(counts.size() * 2);
+            for (Map.Entry<Integer, int[]> entry : counts.entrySet()) {
+                brokerTopics.put(entry.getKey(), new int[entry.getValue()[0]]);
+                cursors.put(entry.getKey(), new int[1]);
+            }
+            for (int topic = 0; topic < topics.length; topic++) {
+                for (int broker : topicBrokers[topic]) {
+                    brokerTopics.get(broker)[cursors.get(broker)[0]++] = topic;
+                }
+            }
+        }
+
+        /**
+         * @return The names of the topics with a replica on any of the given brokers.
+         */
+        Set<String> topicsOn(Set<Integer> brokers) {
+            Set<String> result = new HashSet<>();
+            for (Integer broker : brokers) {
+                int[] indices = brokerTopics.get(broker);
+                if (indices != null) {
+                    for (int topic : indices) {
+                        result.add(topics[topic].name());
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * @return Whether this snapshot includes the given topic.
+         */
+        boolean contains(String topicName) {
+            return topicIndex.containsKey(topicName);
+        }
+
+        /**
+         * @param names The names of the topics which currently exist.
+         * @param described Fresh descriptions of some of those topics.
+         * @return A new snapshot of the given topics, using the fresh descriptions where given
+         * and the descriptions in this snapshot otherwise.
+         */
+        Snapshot update(Set<String> names, Collection<TopicDescription> described) {
+            Map<String, TopicDescription> merged = new HashMap<>(names.size() * 2);
+            for (TopicDescription td : topics) {
+                if (names.contains(td.name())) {
+                    merged.put(td.name(), td);
+                }
+            }
+            for (TopicDescription td : described) {
+                if (names.contains(td.name())) {
+                    merged.put(td.name(), td);
+                }
+            }
+            return new Snapshot(merged.values());
+        }
+
+        /**
+         * @return The descriptions of the given topics which are in this snapshot.
+         */
+        List<TopicDescription> descriptions(Set<String> names) {
+            List<TopicDescription> result = new ArrayList<>(names.size());
+            for (String name : names) {
+                Integer topic = topicIndex.get(name);
+                if (topic != null) {
+                    result.add(topics[topic]);
+                }
+            }
+            return result;
+        }
+    }
+
+    private Future<Snapshot> fullSnapshot() {
         // 1. Get all topic names
         Future<Set<String>> topicNames = topicNames();
         // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
+        return topicNames.compose(names -> {
             log.debug("Got {} topic names", names.size());
             log.trace("Topic names {}", names);
             return describeTopics(names);
-        });
+        }).map(Snapshot::new);
+    }
+
+    /**
+     * Get fresh descriptions of the topics with a replica on any of the given brokers, plus any topics created since
+     * the snapshot was taken, and update the snapshot with them.
+     * Only those topics are described, rather than every topic in the cluster.
+     * If the snapshot could not be taken a new one is taken.
+     */
+    private Future<Set<TopicDescription>> refresh(Set<Integer> podIds) {
+        Future<Snapshot> current = snapshot;
+        if (current.failed()) {
+            current = fullSnapshot();
+            snapshot = current;
+        }
+        return current.compose(previous -> topicNames().compose(names -> {
+            Set<String> toDescribe = previous.topicsOn(podIds);
+            toDescribe.retainAll(names);
+            for (String name : names) {
+                if (!previous.contains(name)) {
+                    toDescribe.add(name);
+                }
+            }
+            log.debug("Refreshing {} of {} topic descriptions", toDescribe.size(), names.size());
+            Future<Collection<TopicDescription>> described = toDescribe.isEmpty()
+                    ? Future.succeededFuture(Collections.emptyList()) : describeTopics(toDescribe);
+            return described.map(tds -> {
+                Snapshot updated = previous.update(names, tds);
+                snapshot = Future.succeededFuture(updated);
+                Set<TopicDescription> topicsOnGivenBrokers = new HashSet<>(updated.descriptions(updated.topicsOn(podIds)));
+                return topicsOnGivenBrokers;
+            });
+        }));
     }
 
     /**
@@ -56,15 +207,23 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         log.debug("Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBrokers(Collections.singleton(podId));
+    }
+
+    /**
+     * Determine whether all the given brokers can be rolled at the same time without affecting
+     * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}, that is
+     * whether no partition would be left with fewer than {@code min.in.sync.replicas} in-sync replicas
+     * if all of them were restarted.
+     */
+    Future<Boolean> canRoll(Set<Integer> podIds) {
+        log.debug("Determining whether brokers {} can be rolled together", podIds);
+        return canRollBrokers(podIds);
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    log.debug("Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    private Future<Boolean> canRollBrokers(Set<Integer> podIds) {
+        Future<Set<TopicDescription>> topicsOnGivenBroker = refresh(podIds)
+                .recover(error -> {
                     log.warn(error);
                     return Future.failedFuture(error);
                 });
@@ -77,18 +236,18 @@ class KafkaAvailability {
         return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podIds, topicNameToConfig, td));
             if (!canRoll) {
-                log.debug("Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+                log.debug("Restart pods {} would remove them from ISR, stalling producers with acks=all", podIds);
             }
             return canRoll;
         }).recover(error -> {
-            log.warn("Error determining whether it is safe to restart pod {}", podId, error);
+            log.warn("Error determining whether it is safe to restart pods {}", podIds, error);
             return Future.failedFuture(error);
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
+    private boolean wouldAffectAvailability(Set<Integer> brokers, Map<String, Config> nameToConfig, TopicDescription td) {
         Config config = nameToConfig.get(td.name());
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         int minIsr;
@@ -103,23 +262,24 @@ class KafkaAvailability {
         for (TopicPartitionInfo pi : td.partitions()) {
             List<Node> isr = pi.isr();
             if (minIsr >= 0) {
+                int restartedInIsr = count(isr, brokers);
                 if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
+                        && count(pi.replicas(), brokers) > 0) {
                     logIsrReplicas(td, pi, isr);
-                    log.info("{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
+                    log.info("{}/{} is already underreplicated (|ISR|={}, {}={}); one of brokers {} has a replica, " +
                                     "so should not be restarted right now (it might be first to catch up).",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
                     return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
+                } else if (restartedInIsr > 0
+                        && isr.size() - restartedInIsr < minIsr) {
                     if (minIsr < pi.replicas().size()) {
                         logIsrReplicas(td, pi, isr);
-                        log.info("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                        log.info("{}/{} will be underreplicated (|ISR|={} and {}={}) if brokers {} are restarted.",
+                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
                         return true;
                     } else {
-                        log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} relicas.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if brokers {} are restarted, but there are only {} relicas.",
+                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers,
                                 pi.replicas().size());
                     }
                 }
@@ -138,45 +298,45 @@ class KafkaAvailability {
         return nodes.stream().map(n -> String.valueOf(n.id())).collect(Collectors.joining(",", "[", "]"));
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private int count(List<Node> nodes, Set<Integer> brokers) {
+        return (int) nodes.stream().filter(node -> brokers.contains(node.id())).count();
     }
 
+    /**
+     * Get the configs of the given topics. Configs are cached, so only the configs of topics
+     * which have not been seen before are described.
+     */
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
-        log.debug("Getting topic configs for {} topics", topicNames.size());
-        List<ConfigResource> configs = topicNames.stream()
-                .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
-                .collect(Collectors.toList());
+        Map<String, Config> result = new HashMap<>(topicNames.size() * 2);
+        List<ConfigResource> configs = new ArrayList<>();
+        for (String topicName : topicNames) {
+            Config config = topicConfigs.get(topicName);
+            if (config != null) {
+                result.put(topicName, config);
+            } else {
+                configs.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName));
+            }
+        }
+        if (configs.isEmpty()) {
+            return Future.succeededFuture(result);
+        }
+        log.debug("Getting topic configs for {} topics", configs.size());
         Promise<Map<String, Config>> promise = Promise.promise();
         ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
             if (error != null) {
                 promise.fail(error);
             } else {
-                log.debug("Got topic configs for {} topics", topicNames.size());
-                promise.complete(topicNameToConfig.entrySet().stream()
-                        .collect(Collectors.toMap(
-                            entry -> entry.getKey().name(),
-                            entry -> entry.getValue())));
+                log.debug("Got topic configs for {} topics", configs.size());
+                for (Map.Entry<ConfigResource, Config> entry : topicNameToConfig.entrySet()) {
+                    topicConfigs.put(entry.getKey().name(), entry.getValue());
+                    result.put(entry.getKey().name(), entry.getValue());
+                }
+                promise.complete(result);
             }
         });
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            log.trace("{}", td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
@@ -27,7 +27,9 @@ import org.apache.logging.log4j.Logger;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -75,6 +77,20 @@ import java.util.function.Supplier;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>When the maximum batch size is greater than one, up to that many pods are considered at the same time,
+ * and a pod is restarted while others are still being restarted if {@link KafkaAvailability} determines that
+ * all of them can be restarted together, that is when they share no partition which would be left
+ * with fewer than {@code min.in.sync.replicas} in-sync replicas. With rack awareness this typically means
+ * that pods in the same rack are restarted together. A pod which does not fit in the current batch,
+ * as well as the controller while other pods are still to be rolled, waits for the batch to finish without
+ * using up its attempts. The roll fails when a pod has been waiting while no pod finished rolling for longer than
+ * the operation timeout. The controller is still rolled last.</p>
+ *
+ * <p>A single AdminClient, and a single {@link KafkaAvailability} with its snapshot of the topic descriptions,
+ * is used for the whole roll to determine availability. They are replaced only when an error occurs using them.
+ * The controller is still determined through a short-lived AdminClient bootstrapped from the pod being considered,
+ * so that a pod which cannot be reached is restarted by its final attempt.</p>
  */
 public class KafkaRoller {
 
@@ -91,6 +107,15 @@ public class KafkaRoller {
     private final Supplier<BackOff> backoffSupplier;
     protected String namespace;
     private final AdminClientProvider adminClientProvider;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+    private final Set<Integer> restarting = new HashSet<>();
+    /** When a pod last finished rolling, or when the roll started, which bounds how long pods wait for each other */
+    private volatile long lastProgressNanos;
+    /** The AdminClient shared by all the attempts of this roll, or null if it has not been created yet */
+    private Admin sharedAdminClient;
+    /** The availability checker created with {@link #sharedAdminClient}, which keeps its topic snapshot across attempts */
+    private KafkaAvailability sharedAvailability;
 
     KafkaRoller(Vertx vertx, PodOperator podOperations,
                 long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -103,6 +128,19 @@ public class KafkaRoller {
                 long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
                 StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                 AdminClientProvider adminClientProvider) {
+        this(vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, 1);
+    }
+
+    KafkaRoller(Vertx vertx, PodOperator podOperations,
+                long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                AdminClientProvider adminClientProvider, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.executor = Executors.newScheduledThreadPool(maxBatchSize, runnable -> new Thread(runnable, "kafka-roller"));
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -124,9 +162,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, String> podNeedsRestart;
 
@@ -140,6 +175,7 @@ public class KafkaRoller {
      */
     Future<Void> rollingRestart(Function<Pod, String> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
+        this.lastProgressNanos = System.nanoTime();
         List<Future> futures = new ArrayList<>(numPods);
         List<Integer> podIds = new ArrayList<>(numPods);
         for (int podId = 0; podId < numPods; podId++) {
@@ -153,7 +189,8 @@ public class KafkaRoller {
         }
         Promise<Void> result = Promise.promise();
         CompositeFuture.join(futures).setHandler(ar -> {
-            singleExecutor.shutdown();
+            executor.shutdown();
+            closeSharedAdminClient();
             vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
         });
         return result.future();
@@ -162,6 +199,8 @@ public class KafkaRoller {
     private static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
+        /** When the pod started waiting for other pods to be rolled, or -1 if it is not waiting */
+        long waitingSinceNanos = -1;
         RestartContext(Supplier<BackOff> backOffSupplier) {
             promise = Promise.promise();
             backOff = backOffSupplier.get();
@@ -181,7 +220,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or batch-at-a-time) so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -190,23 +229,27 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             log.debug("Considering restart of pod {} after delay of {} {}", podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx.backOff.done());
+                lastProgressNanos = System.nanoTime();
                 ctx.promise.complete();
             } catch (InterruptedException e) {
                 // Let the executor deal with interruption.
                 Thread.currentThread().interrupt();
+            } catch (RetryLater e) {
+                retryLater(podId, ctx, e);
             } catch (FatalProblem e) {
                 log.info("Could not restart pod {}, giving up after {} attempts/{}ms",
                         podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
             } catch (Exception e) {
+                ctx.waitingSinceNanos = -1;
                 if (ctx.backOff.done()) {
                     log.info("Could not roll pod {}, giving up after {} attempts/{}ms",
                             podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
@@ -224,6 +267,25 @@ public class KafkaRoller {
         return ctx.promise.future();
     }
 
+    /**
+     * Reschedule the rolling of a pod which has to wait for other pods, unless no pod has been rolled
+     * for more than {@link #operationTimeoutMs} while it was waiting, in which case the pod fails with a timeout.
+     */
+    private void retryLater(int podId, RestartContext ctx, RetryLater e) {
+        long now = System.nanoTime();
+        if (ctx.waitingSinceNanos < 0) {
+            ctx.waitingSinceNanos = now;
+        }
+        if (now - Math.max(ctx.waitingSinceNanos, lastProgressNanos) > TimeUnit.MILLISECONDS.toNanos(operationTimeoutMs)) {
+            log.info("Could not roll pod {}, giving up after waiting for other pods for {}ms: {}", podId, operationTimeoutMs, e.getMessage());
+            ctx.promise.fail(new io.strimzi.operator.common.operator.resource.TimeoutException("Exceeded timeout of "
+                    + operationTimeoutMs + "ms while waiting to roll pod " + podName(podId) + ": " + e.getMessage()));
+        } else {
+            log.debug("Pod {} will be reconsidered later: {}", podId, e.getMessage());
+            schedule(podId, pollingIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
     /**
      * Restart the given pod now if necessary according to {@link #podNeedsRestart}.
      * This method blocks.
@@ -232,9 +294,10 @@ public class KafkaRoller {
      * @throws InterruptedException Interrupted while waiting.
      * @throws ForceableProblem Some error. Not thrown when finalAttempt==true.
      * @throws UnforceableProblem Some error, still thrown when finalAttempt==true.
+     * @throws RetryLater The pod has to wait for other pods to be rolled first.
      */
     private void restartIfNecessary(int podId, boolean finalAttempt)
-            throws InterruptedException, ForceableProblem, UnforceableProblem, FatalProblem {
+            throws InterruptedException, ForceableProblem, UnforceableProblem, FatalProblem, RetryLater {
         Pod pod;
         try {
             pod = podOperations.get(namespace, KafkaCluster.kafkaPodName(cluster, podId));
@@ -245,30 +308,33 @@ public class KafkaRoller {
         String reasonToRestartPod = podNeedsRestart.apply(pod);
         if (reasonToRestartPod != null && !reasonToRestartPod.isEmpty()) {
             log.info("Pod {} needs to be restarted. Reason: {}", podId, reasonToRestartPod);
-            Admin adminClient = null;
             try {
-                try {
-                    adminClient = adminClient(podId);
-                    Integer controller = controller(podId, adminClient, operationTimeoutMs, TimeUnit.MILLISECONDS);
-                    int stillRunning = podToContext.reduceValuesToInt(100, v -> v.promise.future().isComplete() ? 0 : 1,
-                            0, Integer::sum);
-                    if (controller == podId && stillRunning > 1) {
-                        log.debug("Pod {} is controller and there are other pods to roll", podId);
-                        throw new ForceableProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
+                int controller = probeController(podId);
+                Admin adminClient = sharedAdminClient(podId);
+                int stillRunning = podToContext.reduceValuesToInt(100, v -> v.promise.future().isComplete() ? 0 : 1,
+                        0, Integer::sum);
+                if (controller == podId && stillRunning > 1) {
+                    log.debug("Pod {} is controller and there are other pods to roll", podId);
+                    String message = "Pod " + podName(podId) + " is currently the controller and there are other pods still to roll";
+                    if (maxBatchSize > 1) {
+                        throw new RetryLater(message);
+                    }
+                    throw new ForceableProblem(message);
+                } else if (maxBatchSize > 1) {
+                    restartInBatch(adminClient, pod, podId);
+                } else {
+                    if (canRoll(adminClient, podId, 60_000, TimeUnit.MILLISECONDS)) {
+                        log.debug("Pod {} can be rolled now", podId);
+                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                     } else {
-                        if (canRoll(adminClient, podId, 60_000, TimeUnit.MILLISECONDS)) {
-                            log.debug("Pod {} can be rolled now", podId);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
-                        } else {
-                            log.debug("Pod {} cannot be rolled right now", podId);
-                            throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
-                        }
+                        log.debug("Pod {} cannot be rolled right now", podId);
+                        throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
                     }
-                } finally {
-                    closeLoggingAnyError(adminClient);
                 }
             } catch (ForceableProblem e) {
-                if (finalAttempt) {
+                if (finalAttempt && maxBatchSize > 1) {
+                    restartInBatch(null, pod, podId);
+                } else if (finalAttempt) {
                     restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                 } else {
                     throw e;
@@ -285,6 +351,137 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Restart the given pod together with the pods which are already being restarted, if that does not
+     * affect availability, and wait for it to be ready.
+     * This method blocks.
+     * @param adminClient The AdminClient used to determine availability, or null to force the restart
+     *                    of the pod once no other pods are being restarted.
+     * @param pod The pod to roll.
+     * @param podId The id of the pod to roll.
+     * @throws RetryLater The batch is full, or the pod cannot be rolled together with the pods already being rolled.
+     */
+    private void restartInBatch(Admin adminClient, Pod pod, int podId)
+            throws InterruptedException, ForceableProblem, UnforceableProblem, FatalProblem, RetryLater {
+        Set<Integer> others;
+        synchronized (restarting) {
+            checkBatchHasRoom(adminClient);
+            others = new HashSet<>(restarting);
+        }
+        // The availability check can take a while, so it is done without holding the lock
+        if (adminClient != null) {
+            boolean rollable;
+            if (others.isEmpty()) {
+                rollable = canRoll(adminClient, podId, 60_000, TimeUnit.MILLISECONDS);
+            } else {
+                Set<Integer> batch = new HashSet<>(others);
+                batch.add(podId);
+                rollable = canRollTogether(adminClient, batch, 60_000, TimeUnit.MILLISECONDS);
+            }
+            if (!rollable && others.isEmpty()) {
+                log.debug("Pod {} cannot be rolled right now", podId);
+                throw new UnforceableProblem("Pod " + podName(podId) + " is currently not rollable");
+            } else if (!rollable) {
+                throw new RetryLater("Pod " + podName(podId) + " cannot be rolled together with pods " + others);
+            }
+        }
+        synchronized (restarting) {
+            // Pods which finished rolling in the meantime don't matter, but pods which joined the batch were not
+            // part of the availability check
+            checkBatchHasRoom(adminClient);
+            if (!others.containsAll(restarting)) {
+                throw new RetryLater("Pods " + restarting + " started rolling while checking pod " + podName(podId));
+            }
+            restarting.add(podId);
+            log.debug("Pod {} can be rolled now, together with pods {}", podId, restarting);
+        }
+        try {
+            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+        } finally {
+            synchronized (restarting) {
+                restarting.remove(podId);
+            }
+        }
+    }
+
+    /**
+     * Checks whether another pod can join the batch of pods being rolled. Has to be called holding the lock on
+     * {@link #restarting}.
+     * @param adminClient The AdminClient used to determine availability, or null if the pod is forced to roll
+     *                    on its own.
+     * @throws RetryLater The batch is full.
+     */
+    private void checkBatchHasRoom(Admin adminClient) throws RetryLater {
+        if (adminClient == null ? !restarting.isEmpty() : restarting.size() >= maxBatchSize) {
+            throw new RetryLater("Pods " + restarting + " are being rolled");
+        }
+    }
+
+    /**
+     * Determines the controller through an AdminClient bootstrapped from the given pod, which is closed afterwards.
+     * This also checks that the pod itself can be reached: when it cannot, the resulting {@link ForceableProblem}
+     * lets the final attempt force the restart of the pod, even if the shared AdminClient, bootstrapped from
+     * another pod, would find it not rollable.
+     */
+    private int probeController(int podId) throws ForceableProblem, InterruptedException {
+        Admin probe = adminClient(podId);
+        try {
+            return controller(podId, probe, operationTimeoutMs, TimeUnit.MILLISECONDS);
+        } finally {
+            closeLoggingAnyError(probe);
+        }
+    }
+
+    /**
+     * Returns the AdminClient shared by the attempts of this roll, creating it, bootstrapped from the given pod,
+     * if necessary.
+     */
+    private synchronized Admin sharedAdminClient(int podId) throws ForceableProblem {
+        if (sharedAdminClient == null) {
+            sharedAdminClient = adminClient(podId);
+        }
+        return sharedAdminClient;
+    }
+
+    /**
+     * Returns the availability checker for the given AdminClient, which is shared by the attempts of this roll
+     * if the given AdminClient is the shared one.
+     */
+    private synchronized KafkaAvailability sharedAvailability(Admin adminClient) {
+        if (adminClient != sharedAdminClient) {
+            return availability(adminClient);
+        }
+        if (sharedAvailability == null) {
+            sharedAvailability = availability(adminClient);
+        }
+        return sharedAvailability;
+    }
+
+    /**
+     * Close the given AdminClient after an error using it, so that a new one is created by the next attempt.
+     * Does nothing if the shared AdminClient has already been replaced.
+     */
+    private void discardSharedAdminClient(Admin adminClient) {
+        synchronized (this) {
+            if (adminClient == null || adminClient != sharedAdminClient) {
+                return;
+            }
+            sharedAdminClient = null;
+            sharedAvailability = null;
+        }
+        closeLoggingAnyError(adminClient);
+    }
+
+    private void closeSharedAdminClient() {
+        Admin adminClient;
+        synchronized (this) {
+            adminClient = sharedAdminClient;
+            sharedAdminClient = null;
+            sharedAvailability = null;
+        }
+        closeLoggingAnyError(adminClient);
+    }
+
     private void closeLoggingAnyError(Admin adminClient) {
         if (adminClient != null) {
             try {
@@ -315,6 +512,13 @@ public class KafkaRoller {
         }
     }
 
+    /** The pod has to wait for other pods, which doesn't count as a failed attempt */
+    static final class RetryLater extends Exception {
+        RetryLater(String msg) {
+            super(msg);
+        }
+    }
+
     /** Immediately aborts rolling */
     static final class FatalProblem extends Exception {
         FatalProblem(String msg, Throwable cause) {
@@ -324,8 +528,24 @@ public class KafkaRoller {
 
     private boolean canRoll(Admin adminClient, int podId, long timeout, TimeUnit unit)
             throws ForceableProblem, InterruptedException {
-        return await(availability(adminClient).canRoll(podId), timeout, unit,
-            t -> new ForceableProblem("An error while trying to determine rollability", t));
+        try {
+            return await(sharedAvailability(adminClient).canRoll(podId), timeout, unit,
+                t -> new ForceableProblem("An error while trying to determine rollability", t));
+        } catch (ForceableProblem e) {
+            discardSharedAdminClient(adminClient);
+            throw e;
+        }
+    }
+
+    private boolean canRollTogether(Admin adminClient, Set<Integer> podIds, long timeout, TimeUnit unit)
+            throws ForceableProblem, InterruptedException {
+        try {
+            return await(sharedAvailability(adminClient).canRoll(podIds), timeout, unit,
+                t -> new ForceableProblem("An error while trying to determine rollability", t));
+        } catch (ForceableProblem e) {
+            discardSharedAdminClient(adminClient);
+            throw e;
+        }
     }
 
     /**
@@ -25,6 +25,7 @@ public class KafkaSetOperator extends StatefulSetOperator {
     private static final Logger log = LogManager.getLogger(KafkaSetOperator.class);
 
     private final AdminClientProvider adminClientProvider;
+    private volatile int rollingBatchSize = 1;
 
     /**
      * Constructor
@@ -40,6 +41,15 @@ public class KafkaSetOperator extends StatefulSetOperator {
         this.adminClientProvider = adminClientProvider;
     }
 
+    /**
+     * Allows up to {@code maxBatchSize} Kafka pods to be restarted at the same time by rolling updates,
+     * as long as restarting them together doesn't affect the availability of any partition.
+     * @param maxBatchSize The maximum number of pods restarted at the same time.
+     */
+    public void enableBatchRolling(int maxBatchSize) {
+        this.rollingBatchSize = maxBatchSize;
+    }
+
     @Override
     protected boolean shouldIncrementGeneration(StatefulSetDiff diff) {
         return !diff.isEmpty() && needsRollingUpdate(diff);
@@ -69,7 +79,7 @@ public class KafkaSetOperator extends StatefulSetOperator {
     public Future<Void> maybeRollingUpdate(StatefulSet sts, Function<Pod, String> podNeedsRestart,
                                            Secret clusterCaCertSecret, Secret coKeySecret) {
         return new KafkaRoller(vertx, podOperations, 1_000, operationTimeoutMs,
-            () -> new BackOff(250, 2, 10), sts, clusterCaCertSecret, coKeySecret, adminClientProvider)
+            () -> new BackOff(250, 2, 10), sts, clusterCaCertSecret, coKeySecret, adminClientProvider, rollingBatchSize)
                 .rollingRestart(podNeedsRestart);
     }
 
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.KafkaBridgeList;
 import io.strimzi.api.kafka.KafkaConnectList;
 import io.strimzi.api.kafka.KafkaConnectS2IList;
@@ -30,6 +31,8 @@ import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
@@ -53,6 +56,11 @@ import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
 @SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
 public class ResourceOperatorSupplier {
     public final SecretOperator secretOperations;
@@ -184,4 +192,52 @@ public class ResourceOperatorSupplier {
         this.nodeOperator = nodeOperator;
         this.zkScalerProvider = zkScalerProvider;
     }
+
+    /**
+     * Makes the operators for namespaced resources serve their reads of the resources created by the operator,
+     * which have the {@code strimzi.io/cluster} label, from a watch-backed local cache instead of querying
+     * the Kubernetes API server each time. Other resources in the same namespaces are neither listed nor watched.
+     * The operators for the custom resources are not cached: the custom resource being reconciled
+     * has to be read from the API server, since the cache's watch may not yet have seen the change
+     * which triggered the reconciliation.
+     *
+     * @param resyncIntervalMs The interval in milliseconds between full re-lists of the cached resources.
+     */
+    public void enableCache(long resyncIntervalMs) {
+        for (AbstractResourceOperator<?, ?, ?, ?, ?> operator : resourceOperators()) {
+            if (!(operator instanceof CrdOperator)) {
+                operator.enableLabelCache(Labels.STRIMZI_CLUSTER_LABEL, resyncIntervalMs);
+            }
+        }
+    }
+
+    /**
+     * Registers the patch counters of all the resource operators in the given registry.
+     * @param registry The registry.
+     */
+    public void bindTo(MeterRegistry registry) {
+        for (AbstractResourceOperator<?, ?, ?, ?, ?> operator : resourceOperators()) {
+            operator.bindTo(registry);
+        }
+        clusterRoleBindingOperator.bindTo(registry);
+    }
+
+    /**
+     * @return The resource operators, without those of the kinds which are not available on this platform.
+     */
+    private List<AbstractResourceOperator<?, ?, ?, ?, ?>> resourceOperators() {
+        List<AbstractResourceOperator<?, ?, ?, ?, ?>> operators = new ArrayList<>();
+        for (AbstractResourceOperator<?, ?, ?, ?, ?> operator : asList(serviceOperations, routeOperations,
+                zkSetOperations, kafkaSetOperations, configMapOperations, secretOperations, pvcOperations,
+                deploymentOperations, serviceAccountOperations, roleBindingOperations, networkPolicyOperator,
+                podDisruptionBudgetOperator, podOperations, ingressOperations, imagesStreamOperations,
+                buildConfigOperations, deploymentConfigOperations, kafkaOperator, connectOperator,
+                connectS2IOperator, mirrorMakerOperator, kafkaBridgeOperator, kafkaConnectorOperator,
+                mirrorMaker2Operator)) {
+            if (operator != null) {
+                operators.add(operator);
+            }
+        }
+        return operators;
+    }
 }
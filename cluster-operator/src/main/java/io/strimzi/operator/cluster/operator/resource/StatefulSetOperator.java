@@ -19,6 +19,7 @@ import io.strimzi.operator.cluster.ClusterOperator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -296,6 +297,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
 
         if (diff.changesVolumeClaimTemplates() || diff.changesVolumeSize()) {
             // When volume claim templates change, we need to delete the STS and re-create it
+            patchApplied();
             return internalReplace(namespace, name, current, desired, false);
         } else {
             return super.internalPatch(namespace, name, current, desired, false);
@@ -325,8 +327,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
 
             operation().inNamespace(namespace).withName(name).cascading(cascading).withGracePeriod(-1L).delete();
 
-            Future<Void> deletedFut = waitFor(namespace, name, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
-                StatefulSet sts = get(namespace, name);
+            Future<Void> deletedFut = waitForResource(namespace, name, pollingIntervalMs, timeoutMs, sts -> {
                 log.trace("Checking if {} {} in namespace {} has been deleted", resourceKind, name, namespace);
                 return sts == null;
             });
@@ -359,7 +360,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
      */
     public Future<Void> deleteAsync(String namespace, String name, boolean cascading) {
         Promise<Void> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
                 try {
                     Boolean deleted = operation().inNamespace(namespace).withName(name).cascading(cascading).withGracePeriod(-1L).delete();
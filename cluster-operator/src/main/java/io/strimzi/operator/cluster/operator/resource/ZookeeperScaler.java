@@ -9,6 +9,7 @@ import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -191,7 +192,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private Future<Map<String, String>> getCurrentConfig(ZooKeeperAdmin zkAdmin)    {
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.ZOOKEEPER).executeBlocking(promise -> {
             try {
                 byte[] config = zkAdmin.getConfig(false, null);
                 Map<String, String> servers = parseConfig(config);
@@ -215,7 +216,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers)    {
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.ZOOKEEPER).executeBlocking(promise -> {
             try {
                 log.debug("Updating Zookeeper configuration to {}", newServers);
                 byte[] newConfig = zkAdmin.reconfigure(null, null, serversMapToList(newServers), -1, null);
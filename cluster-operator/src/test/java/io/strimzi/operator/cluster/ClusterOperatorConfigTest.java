@@ -6,9 +6,11 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.ShardMembership;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
@@ -230,4 +232,67 @@ public class ClusterOperatorConfigTest {
             ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
         });
     }
+
+    @Test
+    public void testSharding() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getSharding(), is(ShardMembership.Mode.NONE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_SHARDING, "Namespace");
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_OPERATOR_NAMESPACE, "operator-namespace");
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getSharding(), is(ShardMembership.Mode.NAMESPACE));
+        assertThat(config.getOperatorNamespace(), is("operator-namespace"));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_SHARDING, "cluster");
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
+
+    @Test
+    public void testKafkaRollingBatchSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollingBatchSize(), is(1));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE, "3");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollingBatchSize(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
+
+    @Test
+    public void testCertManager() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "Java");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(CertManagerType.JAVA));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
+
+    @Test
+    public void testUnchangedReconciliationInterval() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getUnchangedReconciliationIntervalMs(), is(0L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_UNCHANGED_RECONCILIATION_INTERVAL_MS, "3600000");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getUnchangedReconciliationIntervalMs(), is(3_600_000L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_UNCHANGED_RECONCILIATION_INTERVAL_MS, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
 }
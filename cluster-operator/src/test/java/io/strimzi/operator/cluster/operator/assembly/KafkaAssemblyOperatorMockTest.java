@@ -393,6 +393,47 @@ public class KafkaAssemblyOperatorMockTest {
                 KafkaCluster.headlessServiceName(CLUSTER_NAME));
     }
 
+    /**
+     * Test the fingerprint of an unchanged cluster is stable, and that deleting a service changes it
+     * so that the service is re-created even with the fingerprints enabled
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testUpdateClusterWithoutServicesWithFingerprints(Params params, VertxTestContext context) throws InterruptedException, ExecutionException, TimeoutException {
+        KafkaAssemblyOperator kco = createCluster(params, context);
+        kco.enableFingerprints(60_000);
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME);
+        Kafka kafka = kafkaAssembly(NAMESPACE, CLUSTER_NAME).get();
+        String service = KafkaCluster.serviceName(CLUSTER_NAME);
+
+        CountDownLatch fingerprintAsync = new CountDownLatch(1);
+        kco.reconcile(reconciliation)
+            .compose(v -> kco.fingerprint(reconciliation, kafka))
+            .compose(first -> kco.fingerprint(reconciliation, kafka).map(second -> {
+                context.verify(() -> assertThat(first, is(notNullValue())));
+                context.verify(() -> assertThat(second, is(first)));
+                return second;
+            }))
+            .setHandler(ar -> {
+                if (ar.failed()) ar.cause().printStackTrace();
+                context.verify(() -> assertThat(ar.succeeded(), is(true)));
+                fingerprintAsync.countDown();
+            });
+        if (!fingerprintAsync.await(60, TimeUnit.SECONDS)) {
+            context.failNow(new Throwable("Test timeout"));
+        }
+
+        mockClient.services().inNamespace(NAMESPACE).withName(service).cascading(true).delete();
+        Checkpoint updateAsync = context.checkpoint();
+        kco.reconcile(reconciliation).setHandler(ar -> {
+            if (ar.failed()) ar.cause().printStackTrace();
+            context.verify(() -> assertThat(ar.succeeded(), is(true)));
+            context.verify(() -> assertThat("Expected service " + service + " to have been recreated",
+                    mockClient.services().inNamespace(NAMESPACE).withName(service).get(), is(notNullValue())));
+            updateAsync.flag();
+        });
+    }
+
     @ParameterizedTest
     @MethodSource("data")
     public void testUpdateClusterWithoutZkStatefulSet(Params params, VertxTestContext context) throws InterruptedException, ExecutionException, TimeoutException {
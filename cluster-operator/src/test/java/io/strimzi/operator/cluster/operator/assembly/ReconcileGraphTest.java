@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.OperatorMetrics;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconcileGraphTest {
+
+    /**
+     * Records which steps were started and lets the test decide when each of them completes.
+     */
+    static class Steps {
+        final List<String> started = new ArrayList<>();
+        final Map<String, Promise<List<String>>> promises = new HashMap<>();
+
+        Future<List<String>> step(String name) {
+            started.add(name);
+            Promise<List<String>> promise = Promise.promise();
+            promises.put(name, promise);
+            return promise.future();
+        }
+
+        void complete(String name) {
+            promises.get(name).complete(started);
+        }
+    }
+
+    private static ReconcileGraph<List<String>> diamond(Steps steps) {
+        return new ReconcileGraph<List<String>>("test")
+                .add("a", s -> steps.step("a"))
+                .add("b", s -> steps.step("b"), "a")
+                .add("c", s -> steps.step("c"), "a")
+                .add("d", s -> steps.step("d"), "b", "c");
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently() {
+        Steps steps = new Steps();
+        Future<List<String>> result = diamond(steps).execute(steps.started);
+
+        assertThat(steps.started, is(asList("a")));
+        steps.complete("a");
+        assertThat(steps.started, is(asList("a", "b", "c")));
+        steps.complete("c");
+        assertThat(steps.started, is(asList("a", "b", "c")));
+        steps.complete("b");
+        assertThat(steps.started, is(asList("a", "b", "c", "d")));
+        assertThat(result.isComplete(), is(false));
+        steps.complete("d");
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailureWaitsForRunningStepsAndStopsTheRest() {
+        Steps steps = new Steps();
+        Future<List<String>> result = diamond(steps).execute(steps.started);
+
+        steps.complete("a");
+        steps.promises.get("b").fail("Failed");
+        assertThat(result.isComplete(), is(false));
+
+        steps.complete("c");
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Failed"));
+        assertThat(steps.started, is(asList("a", "b", "c")));
+    }
+
+    @Test
+    public void testExceptionFailsTheStep() {
+        Future<String> result = new ReconcileGraph<String>("test")
+                .add("a", s -> {
+                    throw new RuntimeException("Thrown");
+                })
+                .execute("state");
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Thrown"));
+    }
+
+    @Test
+    public void testFailedPreconditionStopsTheSteps() {
+        Steps steps = new Steps();
+        List<Boolean> holds = new ArrayList<>(asList(true));
+        Future<List<String>> result = diamond(steps)
+                .precondition(() -> holds.get(0) ? Future.succeededFuture() : Future.failedFuture("Lost"))
+                .execute(steps.started);
+
+        holds.set(0, false);
+        steps.complete("a");
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Lost"));
+        assertThat(steps.started, is(asList("a")));
+    }
+
+    @Test
+    public void testStepsAreTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Future<String> result = new ReconcileGraph<String>("test", new OperatorMetrics(registry), "Kafka")
+                .add("a", Future::succeededFuture)
+                .add("b", s -> Future.failedFuture("Failed"), "a")
+                .execute("state");
+
+        assertThat(result.failed(), is(true));
+        assertThat(registry.get("strimzi.reconciliation.step").tags("kind", "Kafka", "step", "a", "outcome", "success").timer().count(), is(1L));
+        assertThat(registry.get("strimzi.reconciliation.step").tags("kind", "Kafka", "step", "b", "outcome", "failure").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testDependenciesMustBeAddedFirst() {
+        ReconcileGraph<String> graph = new ReconcileGraph<String>("test")
+                .add("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.add("b", Future::succeededFuture, "c"));
+        assertThrows(IllegalArgumentException.class, () -> graph.add("a", Future::succeededFuture));
+        assertThat(graph.steps(), is(asList("a")));
+    }
+}
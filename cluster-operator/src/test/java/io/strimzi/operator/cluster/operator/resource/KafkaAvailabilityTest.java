@@ -25,6 +25,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,12 +37,17 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -348,6 +354,76 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testBrokersSharingPartitionsCannotBeRolledTogether(VertxTestContext context) {
+        KSB ksb = new KSB()
+            .addNewTopic("A", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                .addNewPartition(0)
+                    .replicaOn(0, 1, 2)
+                    .leader(0)
+                    .isr(0, 1, 2)
+                .endPartition()
+            .endTopic()
+
+            .addBroker(3);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ksb.ac());
+
+        Checkpoint a = context.checkpoint(2);
+        kafkaAvailability.canRoll(new HashSet<>(Arrays.asList(0, 1))).setHandler(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll,
+                    "brokers 0 and 1 should not be rollable together, being minisr = 2 and both in the isr of the same partition");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(new HashSet<>(Arrays.asList(0, 3))).setHandler(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll,
+                    "brokers 0 and 3 should be rollable together, broker 3 having no partitions");
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testOnlyTopicsOnTheGivenBrokersAreDescribedAgain(VertxTestContext context) {
+        KSB ksb = new KSB()
+            .addNewTopic("A", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                .addNewPartition(0)
+                    .replicaOn(0, 1, 2)
+                    .leader(0)
+                    .isr(0, 1, 2)
+                .endPartition()
+            .endTopic()
+            .addNewTopic("B", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                .addNewPartition(0)
+                    .replicaOn(1, 2, 3)
+                    .leader(1)
+                    .isr(1, 2, 3)
+                .endPartition()
+            .endTopic();
+        Admin ac = ksb.ac();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0).setHandler(context.succeeding(canRoll0 -> context.verify(() -> {
+            assertTrue(canRoll0);
+            ArgumentCaptor<Collection<String>> described = ArgumentCaptor.forClass(Collection.class);
+            verify(ac, times(2)).describeTopics(described.capture());
+            // The snapshot, then only the topic on broker 0
+            assertThat(new HashSet<>(described.getAllValues().get(0)), is(new HashSet<>(asList("A", "B"))));
+            assertThat(new HashSet<>(described.getAllValues().get(1)), is(singleton("A")));
+
+            // Broker 2 drops out of the ISR of A after the snapshot was taken
+            ksb.addNewTopic("A", false).addNewPartition(0).isr(0, 1);
+            kafkaAvailability.canRoll(1).setHandler(context.succeeding(canRoll1 -> context.verify(() -> {
+                assertFalse(canRoll1, "broker 1 should not be rollable, the fresh ISR of A being at minisr = 2");
+                a.flag();
+            })));
+        })));
+    }
+
     @Test
     public void testAboveMinIsr(VertxTestContext context) {
         KSB ksb = new KSB()
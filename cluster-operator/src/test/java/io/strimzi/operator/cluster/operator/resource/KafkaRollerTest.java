@@ -14,6 +14,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -34,6 +35,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -49,9 +51,14 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -118,6 +125,63 @@ public class KafkaRollerTest {
                 asList(2, 3, 4, 0, 1));
     }
 
+    @Test
+    public void testRollInBatchesWithPod2AsController(VertxTestContext testContext) {
+        restarted = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        doReturn(true).when(podOps).isReady(anyString(), anyString());
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Promise<Void> ready = Promise.promise();
+            vertx.setTimer(100, timerId -> {
+                inFlight.decrementAndGet();
+                ready.complete();
+            });
+            return ready.future();
+        }).when(podOps).readiness(any(), any(), anyLong(), anyLong());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, 3,
+            null, null, null,
+            brokerId -> succeededFuture(true),
+            2);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> "roll")
+            .setHandler(testContext.succeeding(v -> testContext.verify(() -> {
+                List<Integer> restarted = restarted();
+                assertThat(restarted.size(), is(5));
+                assertThat(restarted.subList(0, 4), containsInAnyOrder(0, 1, 3, 4));
+                assertThat(restarted.get(4), is(2));
+                assertThat(maxInFlight.get(), is(greaterThan(1)));
+                assertThat(maxInFlight.get(), is(lessThanOrEqualTo(3)));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRollInBatchesTimesOutWhenPodsWaitForEachOther(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        // Every pod claims to be the controller, so each waits for the others to be rolled first
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, 3,
+            null, null, null,
+            brokerId -> succeededFuture(true)) {
+            @Override
+            int controller(int podId, Admin ac, long timeout, TimeUnit unit) {
+                return podId;
+            }
+        };
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> "roll")
+            .setHandler(testContext.failing(e -> testContext.verify(() -> {
+                assertThat(e, instanceOf(TimeoutException.class));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
     @Test
     public void pod0NotReadyAfterRolling(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -228,6 +292,39 @@ public class KafkaRollerTest {
                 asList(0, 1, 2, 3, 4));
     }
 
+    @Test
+    public void testUnreachableNonFirstPodIsForceRestartedWhenNotRollable(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        // Pod 3 cannot be reached, and restarting it would leave a partition under its min.insync.replicas
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+            null, null, null,
+            brokerId -> succeededFuture(brokerId != 3),
+            -1) {
+            private final Map<Admin, Integer> bootstrapPods = Collections.synchronizedMap(new IdentityHashMap<>());
+
+            @Override
+            protected Admin adminClient(Integer podId) throws ForceableProblem {
+                Admin ac = super.adminClient(podId);
+                bootstrapPods.put(ac, podId);
+                return ac;
+            }
+
+            @Override
+            int controller(int podId, Admin ac, long timeout, TimeUnit unit) throws ForceableProblem {
+                if (Integer.valueOf(3).equals(bootstrapPods.get(ac))) {
+                    throw new ForceableProblem("Error while trying to determine the cluster controller from pod " + podName(podId),
+                            new java.util.concurrent.TimeoutException());
+                }
+                return super.controller(podId, ac, timeout, unit);
+            }
+        };
+        // Pod 3 is restarted by its final attempt
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 2, 4, 3));
+    }
+
     @Test
     public void testRollHandlesErrorWhenClosingAdminClient(VertxTestContext testContext) {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -465,9 +562,19 @@ public class KafkaRollerTest {
                                   Throwable controllerException,
                                   Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, 1,
+                acOpenException, acCloseException, controllerException, canRollFn, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                  PodOperator podOps, int maxBatchSize,
+                                  RuntimeException acOpenException, Throwable acCloseException,
+                                  Throwable controllerException,
+                                  Function<Integer, Future<Boolean>> canRollFn,
+                                  int... controllers) {
             super(KafkaRollerTest.vertx, podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret);
+                sts, clusterCaCertSecret, coKeySecret, null, maxBatchSize);
             this.controllers = controllers;
             this.controllerCall = 0;
             this.acOpenException = acOpenException;
@@ -514,6 +621,11 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(Set<Integer> podIds) {
+                    return succeededFuture(true);
+                }
             };
         }
 
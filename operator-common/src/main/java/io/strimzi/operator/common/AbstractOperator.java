@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.ResourceVisitor;
@@ -22,10 +23,15 @@ import io.vertx.core.shareddata.Lock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
@@ -41,6 +47,12 @@ import static io.strimzi.operator.common.Util.async;
  * <li>add support for operator-side {@linkplain #validate(HasMetadata) validation}.
  *     This can be used to automatically log warnings about source resources which used deprecated part of the CR API.
  *
+ * <li>optionally skips reconciliations of resources which have not changed since they were last
+ *     successfully reconciled, as determined by their {@linkplain #fingerprint(Reconciliation, HasMetadata) fingerprint}.
+ *
+ * <li>optionally skips reconciliations of resources which are owned by another replica of the operator,
+ *     as determined by a {@link ShardMembership}.
+ *
  * </ul>
  * @param <T> The Java representation of the Kubernetes resource, e.g. {@code Kafka} or {@code KafkaConnect}
  * @param <S> The "Resource Operator" for the source resource type. Typically this will be some instantiation of
@@ -58,6 +70,24 @@ public abstract class AbstractOperator<
     protected final Vertx vertx;
     protected final S resourceOperator;
     private final String kind;
+    private volatile ReconciliationQueue queue;
+    private volatile long unchangedReconciliationIntervalMs = 0;
+    private volatile OperatorMetrics metrics = OperatorMetrics.noop();
+    private volatile ShardMembership shardMembership;
+    private final Map<NamespaceAndName, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * The fingerprint of a resource computed after it was successfully reconciled.
+     */
+    private static class Fingerprint {
+        private final String value;
+        private final long nanoTime;
+
+        Fingerprint(String value, long nanoTime) {
+            this.value = value;
+            this.nanoTime = nanoTime;
+        }
+    }
 
     public AbstractOperator(Vertx vertx, String kind, S resourceOperator) {
         this.vertx = vertx;
@@ -70,6 +100,107 @@ public abstract class AbstractOperator<
         return kind;
     }
 
+    /**
+     * Makes subsequent {@linkplain #enqueue(Reconciliation, ReconciliationQueue.Priority) enqueued} reconciliations
+     * go through a {@link ReconciliationQueue}, which deduplicates them and limits how many run concurrently.
+     * @param maxConcurrency The maximum number of reconciliations to run concurrently.
+     */
+    public void enableQueue(int maxConcurrency) {
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, this, maxConcurrency);
+        queue.setMetrics(metrics);
+        this.queue = queue;
+    }
+
+    /**
+     * Makes this operator, and its {@link ReconciliationQueue} if it has one, record the timers described by
+     * {@link OperatorMetrics} in the given registry.
+     * @param registry The registry.
+     */
+    public void enableMetrics(MeterRegistry registry) {
+        this.metrics = new OperatorMetrics(registry);
+        ReconciliationQueue queue = this.queue;
+        if (queue != null) {
+            queue.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * Makes this operator reconcile only the resources which the given membership assigns to this replica.
+     * @param shardMembership The membership.
+     */
+    public void enableSharding(ShardMembership shardMembership) {
+        this.shardMembership = shardMembership;
+    }
+
+    /**
+     * @param namespace The namespace of the resource.
+     * @param name The name of the resource.
+     * @return true if the given resource should be reconciled by this replica of the operator.
+     */
+    public boolean isOwned(String namespace, String name) {
+        ShardMembership shardMembership = this.shardMembership;
+        return shardMembership == null || shardMembership.owns(namespace, name);
+    }
+
+    /**
+     * Checks whether this replica still owns the resource being reconciled. Reconciliations which take a long time
+     * call this before each of their writes, so that they stop once the resource has moved to another replica,
+     * rather than only checking ownership when they start.
+     * @param reconciliation The reconciliation.
+     * @return A succeeded future if the resource is still owned, otherwise a future failed with
+     * {@link ShardOwnershipLostException}.
+     */
+    protected Future<Void> checkOwned(Reconciliation reconciliation) {
+        if (isOwned(reconciliation.namespace(), reconciliation.name())) {
+            return Future.succeededFuture();
+        }
+        log.info("{}: {} {} is now reconciled by another replica, aborting", reconciliation, kind, reconciliation.name());
+        return Future.failedFuture(new ShardOwnershipLostException(kind + " " + reconciliation.name()
+                + " is now reconciled by another replica"));
+    }
+
+    /**
+     * Wraps a step of a reconciliation so that it only runs if this replica still owns the resource,
+     * for use as a {@link Future#compose(Function)} stage.
+     * @param reconciliation The reconciliation.
+     * @param step The step.
+     * @param <U> The result type of the previous step.
+     * @param <V> The result type of the step.
+     * @return The wrapped step, which fails with {@link ShardOwnershipLostException} rather than running the step
+     * once the resource is no longer owned.
+     */
+    protected <U, V> Function<U, Future<V>> whileOwned(Reconciliation reconciliation, Function<U, Future<V>> step) {
+        return previous -> checkOwned(reconciliation).compose(ignored -> step.apply(previous));
+    }
+
+    /**
+     * @return The metrics recorded by this operator.
+     */
+    protected OperatorMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Makes reconciliations of a resource whose {@linkplain #fingerprint(Reconciliation, HasMetadata) fingerprint}
+     * has not changed since it was last successfully reconciled complete without calling
+     * {@link #createOrUpdate(Reconciliation, HasMetadata)}, unless the last full reconciliation happened more than
+     * {@code unchangedReconciliationIntervalMs} ago.
+     * @param unchangedReconciliationIntervalMs The maximum time between full reconciliations of an unchanged resource.
+     */
+    public void enableFingerprints(long unchangedReconciliationIntervalMs) {
+        this.unchangedReconciliationIntervalMs = unchangedReconciliationIntervalMs;
+    }
+
+    @Override
+    public Future<Void> enqueue(Reconciliation reconciliation, ReconciliationQueue.Priority priority) {
+        ReconciliationQueue queue = this.queue;
+        if (queue != null) {
+            return queue.enqueue(reconciliation, priority);
+        } else {
+            return reconcile(reconciliation);
+        }
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -103,6 +234,20 @@ public abstract class AbstractOperator<
      */
     protected abstract Future<Boolean> delete(Reconciliation reconciliation);
 
+    /**
+     * Asynchronously computes a fingerprint of the given {@code resource} and of everything its reconciliation
+     * depends on, such as the resources created for it. Two equal fingerprints mean that a reconciliation
+     * would not change anything. This should be much cheaper to compute than a reconciliation, for example by
+     * using only cached reads.
+     * The default implementation returns null, meaning that every reconciliation is a full one.
+     * @param reconciliation The reconciliation.
+     * @param resource The resource.
+     * @return A Future which completes with the fingerprint, or with null if the resource should always be fully reconciled.
+     */
+    protected Future<String> fingerprint(Reconciliation reconciliation, T resource) {
+        return Future.succeededFuture(null);
+    }
+
     /**
      * Reconcile assembly resources in the given namespace having the given {@code name}.
      * Reconciliation works by getting the assembly resource (e.g. {@code KafkaUser})
@@ -115,16 +260,34 @@ public abstract class AbstractOperator<
     public final Future<Void> reconcile(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
+        if (!isOwned(namespace, name)) {
+            log.debug("{}: {} {} is reconciled by another replica", reconciliation, kind, name);
+            return Future.succeededFuture();
+        }
+        long startNanos = System.nanoTime();
+        AtomicBoolean unchangedResult = new AtomicBoolean();
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () -> {
             T cr = resourceOperator.get(namespace, name);
+            NamespaceAndName key = new NamespaceAndName(namespace, name);
             if (cr != null) {
                 validate(cr);
-                log.info("{}: {} {} should be created or updated", reconciliation, kind, name);
-                return createOrUpdate(reconciliation, cr).recover(createResult -> {
-                    log.error("{}: createOrUpdate failed", reconciliation, createResult);
-                    return Future.failedFuture(createResult);
+                return isUnchanged(reconciliation, key, cr).compose(unchanged -> {
+                    if (unchanged) {
+                        unchangedResult.set(true);
+                        log.info("{}: {} {} has not changed since it was last reconciled", reconciliation, kind, name);
+                        return Future.succeededFuture();
+                    }
+                    log.info("{}: {} {} should be created or updated", reconciliation, kind, name);
+                    fingerprints.remove(key);
+                    return createOrUpdate(reconciliation, cr)
+                            .compose(createResult -> rememberFingerprint(reconciliation, key, cr))
+                            .recover(createResult -> {
+                                log.error("{}: createOrUpdate failed", reconciliation, createResult);
+                                return Future.failedFuture(createResult);
+                            });
                 });
             } else {
+                fingerprints.remove(key);
                 log.info("{}: {} {} should be deleted", reconciliation, kind, name);
                 return delete(reconciliation).map(deleteResult -> {
                     if (deleteResult) {
@@ -141,12 +304,51 @@ public abstract class AbstractOperator<
         });
         Promise<Void> result = Promise.promise();
         handler.setHandler(reconcileResult -> {
+            String outcome;
+            if (reconcileResult.succeeded()) {
+                outcome = unchangedResult.get() ? OperatorMetrics.OUTCOME_UNCHANGED : OperatorMetrics.OUTCOME_SUCCESS;
+            } else {
+                outcome = reconcileResult.cause() instanceof UnableToAcquireLockException ? OperatorMetrics.OUTCOME_LOCKED : OperatorMetrics.OUTCOME_FAILURE;
+            }
+            metrics.reconciliation(kind, outcome, System.nanoTime() - startNanos);
             handleResult(reconciliation, reconcileResult);
             result.handle(reconcileResult);
         });
         return result.future();
     }
 
+    private Future<Boolean> isUnchanged(Reconciliation reconciliation, NamespaceAndName key, T cr) {
+        Fingerprint previous = fingerprints.get(key);
+        if (previous == null
+                || unchangedReconciliationIntervalMs <= 0
+                || System.nanoTime() - previous.nanoTime > TimeUnit.MILLISECONDS.toNanos(unchangedReconciliationIntervalMs)) {
+            return Future.succeededFuture(false);
+        }
+        return fingerprint(reconciliation, cr)
+                .map(current -> current != null && current.equals(previous.value))
+                .otherwise(error -> {
+                    log.debug("{}: Failed to compute fingerprint", reconciliation, error);
+                    return false;
+                });
+    }
+
+    private Future<Void> rememberFingerprint(Reconciliation reconciliation, NamespaceAndName key, T cr) {
+        if (unchangedReconciliationIntervalMs <= 0) {
+            return Future.succeededFuture();
+        }
+        return fingerprint(reconciliation, cr)
+                .map(value -> {
+                    if (value != null) {
+                        fingerprints.put(key, new Fingerprint(value, System.nanoTime()));
+                    }
+                    return (Void) null;
+                })
+                .otherwise(error -> {
+                    log.debug("{}: Failed to compute fingerprint", reconciliation, error);
+                    return null;
+                });
+    }
+
     /**
      * The exception by which Futures returned by {@link #withLock(Reconciliation, long, Callable)} are failed when
      * the lock cannot be acquired within the timeout.
@@ -168,7 +370,9 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
         final String lockName = getLockName(namespace, name);
+        long lockRequestedNanos = System.nanoTime();
         vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
+            metrics.lockWait(kind, res.succeeded(), System.nanoTime() - lockRequestedNanos);
             if (res.succeeded()) {
                 log.debug("{}: Lock {} acquired", reconciliation, lockName);
                 Lock lock = res.result();
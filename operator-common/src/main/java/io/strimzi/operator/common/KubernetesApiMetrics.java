@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * An OkHttp interceptor which counts the requests made to the Kubernetes API in the
+ * {@code strimzi.kubernetes.api.requests} counter, tagged by the HTTP {@code method} and
+ * the {@code resource} type, e.g. {@code pods} or {@code kafkas}.
+ * Dividing its rate by the rate of {@code strimzi.reconciliation} gives the average number of
+ * API calls per reconciliation.
+ */
+public class KubernetesApiMetrics implements Interceptor {
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor.
+     * @param registry The registry in which the counter is registered.
+     */
+    public KubernetesApiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Counter.builder("strimzi.kubernetes.api.requests")
+                .description("Number of requests made to the Kubernetes API")
+                .tag("method", request.method())
+                .tag("resource", resource(request.url().pathSegments()))
+                .register(registry)
+                .increment();
+        return chain.proceed(request);
+    }
+
+    /**
+     * Gets the resource type from the path of a Kubernetes API URL, such as {@code /api/v1/namespaces/ns/pods/name}
+     * or {@code /apis/kafka.strimzi.io/v1beta1/kafkas}.
+     * @param segments The segments of the path.
+     * @return The resource type, or "other" for paths which are not resource paths.
+     */
+    static String resource(List<String> segments) {
+        int index;
+        if (segments.size() > 1 && "api".equals(segments.get(0))) {
+            index = 2;
+        } else if (segments.size() > 2 && "apis".equals(segments.get(0))) {
+            index = 3;
+        } else {
+            return "other";
+        }
+        if (segments.size() > index + 2 && "namespaces".equals(segments.get(index))) {
+            index += 2;
+        }
+        return segments.size() > index && !segments.get(index).isEmpty() ? segments.get(index) : "other";
+    }
+}
@@ -40,6 +40,18 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Request the reconciliation of the resource identified by the given reconciliation.
+     * Operators which use a {@link ReconciliationQueue} will run the reconciliation once it reaches the head
+     * of the queue. By default the reconciliation is run immediately.
+     * @param reconciliation The resource.
+     * @param priority The priority of the reconciliation.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> enqueue(Reconciliation reconciliation, ReconciliationQueue.Priority priority) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -62,7 +74,7 @@ public interface Operator {
             List<Future> futures = new ArrayList<>();
             for (NamespaceAndName resourceRef : desiredNames) {
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(enqueue(reconciliation, ReconciliationQueue.Priority.LOW));
             }
             CompositeFuture.join(futures).map((Void) null).setHandler(handler);
         } else {
@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The timers recording where the time of reconciliations is spent:</p>
+ *
+ * <ul>
+ * <li>{@code strimzi.reconciliation}: whole reconciliations, tagged by the {@code kind} of the resource
+ *     and the {@code outcome} of the reconciliation.</li>
+ * <li>{@code strimzi.reconciliation.step}: the individual steps of a reconciliation, tagged by {@code kind},
+ *     {@code step} and {@code outcome}.</li>
+ * <li>{@code strimzi.reconciliation.queue.wait}: the time reconciliations waited in a {@link ReconciliationQueue}
+ *     before being started, tagged by {@code kind}.</li>
+ * <li>{@code strimzi.reconciliation.lock.wait}: the time reconciliations waited for the lock of their resource,
+ *     tagged by {@code kind} and whether the lock was {@code acquired}.</li>
+ * </ul>
+ *
+ * <p>The number of calls to the Kubernetes API is recorded separately by {@link KubernetesApiMetrics}.</p>
+ */
+public class OperatorMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_UNCHANGED = "unchanged";
+    public static final String OUTCOME_LOCKED = "locked";
+
+    private static final OperatorMetrics NOOP = new OperatorMetrics(new CompositeMeterRegistry());
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor.
+     * @param registry The registry in which the timers are registered.
+     */
+    public OperatorMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @return An instance which doesn't record anything.
+     */
+    public static OperatorMetrics noop() {
+        return NOOP;
+    }
+
+    /**
+     * Records a completed reconciliation.
+     * @param kind The kind of the reconciled resource.
+     * @param outcome The outcome, one of the {@code OUTCOME_*} constants.
+     * @param nanos The duration of the reconciliation.
+     */
+    public void reconciliation(String kind, String outcome, long nanos) {
+        Timer.builder("strimzi.reconciliation")
+                .description("Time taken by reconciliations")
+                .tag("kind", kind)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a completed reconciliation step.
+     * @param kind The kind of the reconciled resource.
+     * @param step The name of the step.
+     * @param succeeded Whether the step succeeded.
+     * @param nanos The duration of the step.
+     */
+    public void step(String kind, String step, boolean succeeded, long nanos) {
+        Timer.builder("strimzi.reconciliation.step")
+                .description("Time taken by the steps of reconciliations")
+                .tag("kind", kind)
+                .tag("step", step)
+                .tag("outcome", succeeded ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time a reconciliation waited in the queue before being started.
+     * @param kind The kind of the reconciled resource.
+     * @param nanos The time waited.
+     */
+    public void queueWait(String kind, long nanos) {
+        Timer.builder("strimzi.reconciliation.queue.wait")
+                .description("Time reconciliations waited in the queue before being started")
+                .tag("kind", kind)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time a reconciliation waited for the lock of its resource.
+     * @param kind The kind of the reconciled resource.
+     * @param acquired Whether the lock was acquired.
+     * @param nanos The time waited.
+     */
+    public void lockWait(String kind, boolean acquired, long nanos) {
+        Timer.builder("strimzi.reconciliation.lock.wait")
+                .description("Time reconciliations waited for the lock of their resource")
+                .tag("kind", kind)
+                .tag("acquired", Boolean.toString(acquired))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
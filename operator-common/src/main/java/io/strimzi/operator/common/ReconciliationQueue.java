@@ -0,0 +1,237 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>A work queue of reconciliations for a single {@link Operator}.</p>
+ *
+ * <ul>
+ * <li>Reconciliations are keyed by the {@link NamespaceAndName} of the resource. A reconciliation enqueued while
+ *     another one for the same resource is already waiting is merged into the waiting one.
+ *     A reconciliation enqueued while one for the same resource is running is held back until the running one
+ *     has finished, so that at most one reconciliation of a resource is running at any time.</li>
+ * <li>At most {@code maxConcurrency} reconciliations are running at any time.</li>
+ * <li>{@link Priority#HIGH} reconciliations (those triggered by watch events) are started before
+ *     {@link Priority#LOW} ones (those triggered by the periodic timer).</li>
+ * <li>A failed reconciliation is enqueued again with {@link Priority#LOW} after an exponentially increasing delay,
+ *     up to {@code maxRetries} times.</li>
+ * </ul>
+ */
+public class ReconciliationQueue {
+
+    private static final Logger log = LogManager.getLogger(ReconciliationQueue.class);
+
+    public static final long DEFAULT_RETRY_INITIAL_DELAY_MS = 1_000L;
+    public static final long DEFAULT_RETRY_MAX_DELAY_MS = 120_000L;
+    public static final int DEFAULT_MAX_RETRIES = 5;
+
+    /**
+     * The priority of a reconciliation.
+     */
+    public enum Priority {
+        /** For reconciliations triggered by a change to the resource, for example by a watch event */
+        HIGH,
+        /** For reconciliations triggered by the periodic timer or by retries */
+        LOW
+    }
+
+    private final Vertx vertx;
+    private final Operator operator;
+    private final int maxConcurrency;
+    private final long retryInitialDelayMs;
+    private final long retryMaxDelayMs;
+    private final int maxRetries;
+
+    private final Set<NamespaceAndName> high = new LinkedHashSet<>();
+    private final Set<NamespaceAndName> low = new LinkedHashSet<>();
+    private final Map<NamespaceAndName, Pending> pending = new HashMap<>();
+    private final Set<NamespaceAndName> running = new HashSet<>();
+    private final Map<NamespaceAndName, Integer> failures = new HashMap<>();
+    private volatile OperatorMetrics metrics = OperatorMetrics.noop();
+
+    /**
+     * A reconciliation waiting to be run, and the promises of all the callers merged into it.
+     */
+    private static class Pending {
+        private final Reconciliation reconciliation;
+        private Priority priority;
+        private final List<Promise<Void>> promises = new ArrayList<>(1);
+        private final long enqueuedNanos = System.nanoTime();
+
+        Pending(Reconciliation reconciliation, Priority priority) {
+            this.reconciliation = reconciliation;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Constructor using the default retry settings.
+     * @param vertx The Vertx instance.
+     * @param operator The operator which reconciles the resources.
+     * @param maxConcurrency The maximum number of reconciliations to run concurrently.
+     */
+    public ReconciliationQueue(Vertx vertx, Operator operator, int maxConcurrency) {
+        this(vertx, operator, maxConcurrency, DEFAULT_RETRY_INITIAL_DELAY_MS, DEFAULT_RETRY_MAX_DELAY_MS, DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * Constructor.
+     * @param vertx The Vertx instance.
+     * @param operator The operator which reconciles the resources.
+     * @param maxConcurrency The maximum number of reconciliations to run concurrently.
+     * @param retryInitialDelayMs The delay before the first retry of a failed reconciliation.
+     * @param retryMaxDelayMs The maximum delay between retries of a failed reconciliation.
+     * @param maxRetries The maximum number of consecutive retries of a failed reconciliation.
+     */
+    public ReconciliationQueue(Vertx vertx, Operator operator, int maxConcurrency,
+                               long retryInitialDelayMs, long retryMaxDelayMs, int maxRetries) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.vertx = vertx;
+        this.operator = operator;
+        this.maxConcurrency = maxConcurrency;
+        this.retryInitialDelayMs = retryInitialDelayMs;
+        this.retryMaxDelayMs = retryMaxDelayMs;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Sets the metrics in which the time reconciliations wait in this queue is recorded.
+     * @param metrics The metrics.
+     */
+    public void setMetrics(OperatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Enqueues the given reconciliation.
+     * @param reconciliation The reconciliation.
+     * @param priority The priority.
+     * @return A future which completes with the outcome of the (possibly merged) reconciliation of the resource.
+     */
+    public Future<Void> enqueue(Reconciliation reconciliation, Priority priority) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        Promise<Void> promise = Promise.promise();
+        synchronized (this) {
+            Pending existing = pending.get(key);
+            if (existing != null) {
+                log.debug("{}: Merged into already queued {}", reconciliation, existing.reconciliation);
+                existing.promises.add(promise);
+                if (priority.compareTo(existing.priority) < 0) {
+                    existing.priority = priority;
+                    if (low.remove(key)) {
+                        high.add(key);
+                    }
+                }
+            } else {
+                Pending added = new Pending(reconciliation, priority);
+                added.promises.add(promise);
+                pending.put(key, added);
+                if (!running.contains(key)) {
+                    queueOf(priority).add(key);
+                }
+            }
+        }
+        dispatch();
+        return promise.future();
+    }
+
+    /**
+     * @return The number of reconciliations waiting to run.
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * @return The number of reconciliations currently running.
+     */
+    public synchronized int running() {
+        return running.size();
+    }
+
+    private Set<NamespaceAndName> queueOf(Priority priority) {
+        return priority == Priority.HIGH ? high : low;
+    }
+
+    private void dispatch() {
+        List<Pending> toStart = new ArrayList<>();
+        synchronized (this) {
+            while (running.size() < maxConcurrency && (!high.isEmpty() || !low.isEmpty())) {
+                Iterator<NamespaceAndName> it = !high.isEmpty() ? high.iterator() : low.iterator();
+                NamespaceAndName key = it.next();
+                it.remove();
+                running.add(key);
+                toStart.add(pending.remove(key));
+            }
+        }
+        for (Pending next : toStart) {
+            start(next);
+        }
+    }
+
+    private void start(Pending next) {
+        Reconciliation reconciliation = next.reconciliation;
+        metrics.queueWait(reconciliation.kind(), System.nanoTime() - next.enqueuedNanos);
+        Future<Void> result;
+        try {
+            result = operator.reconcile(reconciliation);
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+        result.setHandler(ar -> complete(next, ar));
+    }
+
+    private void complete(Pending done, AsyncResult<Void> result) {
+        Reconciliation reconciliation = done.reconciliation;
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        long retryDelay = -1;
+        synchronized (this) {
+            running.remove(key);
+            if (result.succeeded()) {
+                failures.remove(key);
+            } else {
+                int attempt = failures.merge(key, 1, Integer::sum);
+                if (attempt <= maxRetries) {
+                    retryDelay = Math.min(retryMaxDelayMs, retryInitialDelayMs << Math.min(attempt - 1, 30));
+                } else {
+                    failures.remove(key);
+                }
+            }
+            Pending next = pending.get(key);
+            if (next != null) {
+                queueOf(next.priority).add(key);
+            }
+        }
+        if (retryDelay >= 0) {
+            log.info("{}: Will be retried in {}ms", reconciliation, retryDelay);
+            vertx.setTimer(Math.max(1, retryDelay), timerId -> enqueue(
+                    new Reconciliation("retry", reconciliation.kind(), reconciliation.namespace(), reconciliation.name()),
+                    Priority.LOW));
+        }
+        for (Promise<Void> promise : done.promises) {
+            promise.handle(result);
+        }
+        dispatch();
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Divides the resources reconciled by several replicas of an operator between the replicas, so that each
+ * resource is reconciled by exactly one of them.</p>
+ *
+ * <ul>
+ * <li>Each replica holds a lease in the form of a {@code ConfigMap} in the operator's namespace, which it renews
+ *     every third of the lease duration. A replica whose lease has not been renewed for a whole lease duration,
+ *     as observed by the other replicas, is no longer a member. Expired leases are deleted.</li>
+ * <li>The resources are assigned to the live members by consistent hashing of their namespace and name
+ *     (or of just their namespace), so that a change of membership moves only the resources of the members
+ *     which joined or left.</li>
+ * <li>A resource which moves from a member which is still live to a member which just joined is only taken over
+ *     once the membership has been stable for a lease duration, by which time the previous owner has seen the
+ *     change and stopped reconciling it. A replica which cannot renew its own lease stops reconciling anything.</li>
+ * <li>Listeners are notified when the membership changes and again once it has settled, so that they can
+ *     reconcile the resources the replica has gained.</li>
+ * </ul>
+ */
+public class ShardMembership {
+
+    private static final Logger log = LogManager.getLogger(ShardMembership.class);
+
+    public static final long DEFAULT_LEASE_DURATION_MS = 15_000L;
+
+    private static final int VIRTUAL_NODES = 64;
+    private static final String HOLDER_KEY = "holderIdentity";
+    private static final String RENEW_TIME_KEY = "renewTime";
+    private static final String RENEWALS_KEY = "renewals";
+
+    /**
+     * How resources are divided between the replicas.
+     */
+    public enum Mode {
+        /** Every replica reconciles every resource */
+        NONE,
+        /** Resources are divided by their namespace and name */
+        RESOURCE,
+        /** Resources are divided by their namespace, so that all the resources in a namespace have the same owner */
+        NAMESPACE
+    }
+
+    private final Vertx vertx;
+    private final ConfigMapOperator configMapOperations;
+    private final String namespace;
+    private final String group;
+    private final String identity;
+    private final Mode mode;
+    private final long leaseDurationMs;
+    private final Labels labels;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    // Only accessed from the renewal timer
+    private final Map<String, Observation> observations = new HashMap<>();
+    private long renewals = 0;
+
+    private volatile View view;
+    private volatile long lastRenewalNanos = -1;
+    private volatile boolean stopped = false;
+
+    /**
+     * The last value of the renewal counter seen in the lease of another member, and when it was first seen.
+     */
+    private static class Observation {
+        private final String renewals;
+        private final long nanoTime;
+
+        Observation(String renewals, long nanoTime) {
+            this.renewals = renewals;
+            this.nanoTime = nanoTime;
+        }
+    }
+
+    /**
+     * An immutable view of the membership and of the resulting assignment of resources.
+     */
+    static class View {
+        private final Set<String> members;
+        private final NavigableMap<Long, String> ring = new TreeMap<>();
+        private final View previous;
+        private final long sinceNanos;
+
+        View(Set<String> members, View previous, long sinceNanos) {
+            this.members = Collections.unmodifiableSet(new TreeSet<>(members));
+            this.previous = previous;
+            this.sinceNanos = sinceNanos;
+            for (String member : this.members) {
+                for (int i = 0; i < VIRTUAL_NODES; i++) {
+                    ring.put(hash(member + "#" + i), member);
+                }
+            }
+        }
+
+        String owner(String key) {
+            if (ring.isEmpty()) {
+                return null;
+            }
+            Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+            return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+        }
+
+        Set<String> members() {
+            return members;
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param vertx The Vertx instance.
+     * @param configMapOperations The operator used to maintain the leases. It should not be cached.
+     * @param namespace The namespace holding the leases.
+     * @param group The name of the group of replicas, used to name and label the leases.
+     * @param identity The identity of this replica, which has to be unique within the group.
+     * @param mode How resources are divided.
+     * @param leaseDurationMs The time after which a lease which has not been renewed expires.
+     */
+    public ShardMembership(Vertx vertx, ConfigMapOperator configMapOperations, String namespace, String group,
+                           String identity, Mode mode, long leaseDurationMs) {
+        if (mode == Mode.NONE) {
+            throw new IllegalArgumentException("Sharding mode " + mode + " does not need a membership");
+        }
+        this.vertx = vertx;
+        this.configMapOperations = configMapOperations;
+        this.namespace = namespace;
+        this.group = group;
+        this.identity = identity;
+        this.mode = mode;
+        this.leaseDurationMs = leaseDurationMs;
+        this.labels = Labels.forStrimziKind(group + "-member");
+        this.view = new View(Collections.emptySet(), null, System.nanoTime());
+    }
+
+    /**
+     * @return The identity of this replica, taken from the {@code HOSTNAME} environment variable, which Kubernetes
+     * sets to the name of the pod, or a random one if it is not set.
+     */
+    public static String defaultIdentity() {
+        String hostname = System.getenv("HOSTNAME");
+        return hostname != null && !hostname.isEmpty() ? hostname : UUID.randomUUID().toString();
+    }
+
+    /**
+     * @return The identity of this replica.
+     */
+    public String identity() {
+        return identity;
+    }
+
+    /**
+     * @return The identities of the current members.
+     */
+    public Set<String> members() {
+        return view.members();
+    }
+
+    /**
+     * Adds a listener which is called when the membership changes and once it has settled,
+     * that is when the set of resources owned by this replica might have grown.
+     * @param listener The listener.
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Acquires the lease of this replica and starts renewing it.
+     * @return A future which completes once the initial membership is known, or fails if the first attempt
+     * to acquire the lease failed, in which case it is retried.
+     */
+    public Future<Void> start() {
+        log.info("Starting shard membership of {} in group {} in namespace {}", identity, group, namespace);
+        Promise<Void> started = Promise.promise();
+        refresh().setHandler(ar -> {
+            scheduleRefresh();
+            started.handle(ar);
+        });
+        return started.future();
+    }
+
+    /**
+     * Stops renewing the lease of this replica and deletes it, so that the other members can take over
+     * its resources without waiting for the lease to expire.
+     * @return A future which completes once the lease has been deleted.
+     */
+    public Future<Void> stop() {
+        stopped = true;
+        lastRenewalNanos = -1;
+        return configMapOperations.reconcile(namespace, leaseName(identity), null).map((Void) null);
+    }
+
+    /**
+     * Determines whether this replica should reconcile the given resource.
+     * @param resourceNamespace The namespace of the resource.
+     * @param resourceName The name of the resource.
+     * @return true if the resource is owned by this replica.
+     */
+    public boolean owns(String resourceNamespace, String resourceName) {
+        long now = System.nanoTime();
+        long lastRenewal = lastRenewalNanos;
+        if (lastRenewal < 0 || now - lastRenewal > TimeUnit.MILLISECONDS.toNanos(leaseDurationMs)) {
+            return false;
+        }
+        return owns(view, key(resourceNamespace, resourceName), now);
+    }
+
+    boolean owns(View view, String key, long now) {
+        if (!identity.equals(view.owner(key))) {
+            return false;
+        } else if (now - view.sinceNanos >= TimeUnit.MILLISECONDS.toNanos(leaseDurationMs) || view.previous == null) {
+            return true;
+        }
+        String previousOwner = view.previous.owner(key);
+        return previousOwner == null || identity.equals(previousOwner) || !view.members.contains(previousOwner);
+    }
+
+    private String key(String resourceNamespace, String resourceName) {
+        return mode == Mode.NAMESPACE ? resourceNamespace : resourceNamespace + "/" + resourceName;
+    }
+
+    private String leaseName(String member) {
+        return group + "-member-" + member;
+    }
+
+    private void scheduleRefresh() {
+        if (!stopped) {
+            vertx.setTimer(Math.max(1, leaseDurationMs / 3), timerId -> refresh().setHandler(ignored -> scheduleRefresh()));
+        }
+    }
+
+    private Future<Void> refresh() {
+        if (stopped) {
+            return Future.succeededFuture();
+        }
+        Promise<Void> result = Promise.promise();
+        renew().compose(v -> configMapOperations.listAsync(namespace, labels)).setHandler(ar -> {
+            if (ar.succeeded()) {
+                update(ar.result());
+                result.complete();
+            } else {
+                log.warn("Failed to renew the shard lease of {}", identity, ar.cause());
+                result.fail(ar.cause());
+            }
+        });
+        return result.future();
+    }
+
+    private Future<Void> renew() {
+        long renewalNanos = System.nanoTime();
+        Map<String, String> data = new HashMap<>(3);
+        data.put(HOLDER_KEY, identity);
+        data.put(RENEW_TIME_KEY, Instant.now().toString());
+        data.put(RENEWALS_KEY, Long.toString(++renewals));
+        ConfigMap lease = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(leaseName(identity))
+                    .withNamespace(namespace)
+                    .withLabels(labels.toMap())
+                .endMetadata()
+                .withData(data)
+                .build();
+        return configMapOperations.reconcile(namespace, leaseName(identity), lease).map(r -> {
+            lastRenewalNanos = renewalNanos;
+            return (Void) null;
+        });
+    }
+
+    private void update(List<ConfigMap> leases) {
+        long now = System.nanoTime();
+        long leaseDurationNanos = TimeUnit.MILLISECONDS.toNanos(leaseDurationMs);
+        Set<String> members = new TreeSet<>();
+        members.add(identity);
+        Set<String> seen = new TreeSet<>();
+        List<Future> expired = new ArrayList<>();
+        for (ConfigMap lease : leases) {
+            Map<String, String> data = lease.getData();
+            String holder = data != null ? data.get(HOLDER_KEY) : null;
+            if (holder == null || identity.equals(holder)) {
+                continue;
+            }
+            seen.add(holder);
+            String value = data.get(RENEWALS_KEY);
+            Observation observation = observations.get(holder);
+            if (observation == null || !String.valueOf(value).equals(observation.renewals)) {
+                observation = new Observation(String.valueOf(value), now);
+                observations.put(holder, observation);
+            }
+            if (now - observation.nanoTime <= leaseDurationNanos) {
+                members.add(holder);
+            } else {
+                log.info("Shard lease of {} has expired", holder);
+                observations.remove(holder);
+                expired.add(configMapOperations.reconcile(namespace, lease.getMetadata().getName(), null));
+            }
+        }
+        observations.keySet().retainAll(seen);
+        if (!expired.isEmpty()) {
+            CompositeFuture.join(expired).setHandler(ar -> {
+                if (ar.failed()) {
+                    log.debug("Failed to delete expired shard leases", ar.cause());
+                }
+            });
+        }
+
+        View current = view;
+        if (!members.equals(current.members())) {
+            // When this replica has just joined, the resources were owned by the other members
+            Set<String> others = new TreeSet<>(members);
+            others.remove(identity);
+            View previous = current.members().isEmpty() ? new View(others, null, now) : current;
+            view = new View(members, previous, now);
+            log.info("Shard members of group {} are now {}", group, members);
+            notifyListeners();
+            vertx.setTimer(leaseDurationMs, timerId -> notifyListeners());
+        }
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Shard membership listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * The FNV-1a hash with the finalization step of MurmurHash3, which spreads similar strings,
+     * such as the virtual nodes of a member, over the whole ring.
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93e185ec53bL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
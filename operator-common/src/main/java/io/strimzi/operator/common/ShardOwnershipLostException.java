@@ -0,0 +1,15 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+/**
+ * Thrown to abort a reconciliation of a resource which, according to the {@link ShardMembership},
+ * is no longer owned by this replica of the operator.
+ */
+public class ShardOwnershipLostException extends RuntimeException {
+    public ShardOwnershipLostException(String message) {
+        super(message);
+    }
+}
@@ -5,7 +5,11 @@
 package io.strimzi.operator.common;
 
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -29,12 +33,19 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class Util {
 
     private static final Logger LOGGER = LogManager.getLogger(Util.class);
 
+    /**
+     * The minimal poll interval used by {@link #waitFor(Vertx, String, long, long, BooleanSupplier, Function)}
+     * while its watch is open.
+     */
+    public static final long WATCH_FALLBACK_POLL_INTERVAL_MS = 10_000;
+
     public static <T> Future<T> async(Vertx vertx, Supplier<T> supplier) {
         Promise<T> result = Promise.promise();
         vertx.executeBlocking(
@@ -58,51 +69,184 @@ public class Util {
      * @return A future that completes when the given {@code ready} indicates readiness.
      */
     public static Future<Void> waitFor(Vertx vertx, String logContext, long pollIntervalMs, long timeoutMs, BooleanSupplier ready) {
-        Promise<Void> promise = Promise.promise();
+        return waitFor(vertx, logContext, pollIntervalMs, timeoutMs, ready, null);
+    }
+
+    /**
+     * Like {@link #waitFor(Vertx, String, long, long, BooleanSupplier)}, but additionally uses a watch to
+     * check {@code ready} as soon as there is a change to what is being waited for.
+     * While the watch is open polling is only used as a fallback, with an interval of at least
+     * {@link #WATCH_FALLBACK_POLL_INTERVAL_MS}.
+     * When the watch cannot be opened or gets closed, we fall back to polling every {@code pollIntervalMs}.
+     *
+     * @param vertx The vertx instance.
+     * @param logContext A string used for context in logging.
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param ready Determines when the wait is complete by returning true.
+     * @param watch Opens a watch which notifies the given watcher about changes to what is being waited for, or null to only poll.
+     * @param <T> The type of the watched resource.
+     * @return A future that completes when the given {@code ready} indicates readiness.
+     */
+    public static <T> Future<Void> waitFor(Vertx vertx, String logContext, long pollIntervalMs, long timeoutMs, BooleanSupplier ready, Function<Watcher<T>, Watch> watch) {
         LOGGER.debug("Waiting for {} to get ready", logContext);
-        long deadline = System.currentTimeMillis() + timeoutMs;
-        Handler<Long> handler = new Handler<Long>() {
-            @Override
-            public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-                    future -> {
-                        try {
-                            if (ready.getAsBoolean())   {
-                                future.complete();
-                            } else {
-                                LOGGER.trace("{} is not ready", logContext);
-                                future.fail("Not ready yet");
-                            }
-                        } catch (Throwable e) {
-                            LOGGER.warn("Caught exception while waiting for {} to get ready", logContext, e);
-                            future.fail(e);
+        Waiter<T> waiter = new Waiter<>(vertx, logContext, pollIntervalMs, timeoutMs, ready);
+        if (watch != null) {
+            waiter.openWatch(watch);
+        }
+        // Check readiness ourselves the first time
+        waiter.check();
+        return waiter.promise.future();
+    }
+
+    /**
+     * The state of a single {@code waitFor}. All its methods apart from the watcher callbacks
+     * are called on the same Vert.x context.
+     */
+    private static class Waiter<T> implements Handler<Long> {
+        private final Vertx vertx;
+        private final Context context;
+        private final String logContext;
+        private final long pollIntervalMs;
+        private final long timeoutMs;
+        private final long deadline;
+        private final BooleanSupplier ready;
+        private final Promise<Void> promise = Promise.promise();
+        private long interval;
+        private long timerId = -1;
+        private boolean checking = false;
+        private boolean recheck = false;
+        private Watch watch;
+
+        Waiter(Vertx vertx, String logContext, long pollIntervalMs, long timeoutMs, BooleanSupplier ready) {
+            this.vertx = vertx;
+            this.context = vertx.getOrCreateContext();
+            this.logContext = logContext;
+            this.pollIntervalMs = pollIntervalMs;
+            this.timeoutMs = timeoutMs;
+            this.deadline = System.currentTimeMillis() + timeoutMs;
+            this.ready = ready;
+            this.interval = pollIntervalMs;
+        }
+
+        void openWatch(Function<Watcher<T>, Watch> watch) {
+            Watcher<T> watcher = new Watcher<T>() {
+                @Override
+                public void eventReceived(Action action, T resource) {
+                    LOGGER.trace("{} has changed ({})", logContext, action);
+                    context.runOnContext(ignored -> changed());
+                }
+
+                @Override
+                public void onClose(KubernetesClientException cause) {
+                    context.runOnContext(ignored -> watchClosed(cause));
+                }
+            };
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).<Watch>executeBlocking(
+                future -> future.complete(watch.apply(watcher)),
+                false,
+                res -> {
+                    if (res.failed() || res.result() == null) {
+                        LOGGER.debug("Could not watch {}, polling only", logContext, res.cause());
+                    } else if (promise.future().isComplete()) {
+                        closeWatch(res.result());
+                    } else {
+                        this.watch = res.result();
+                        this.interval = Math.max(pollIntervalMs, WATCH_FALLBACK_POLL_INTERVAL_MS);
+                        // Something might have changed before the watch was open
+                        changed();
+                    }
+                });
+        }
+
+        private void watchClosed(KubernetesClientException cause) {
+            if (watch != null && !promise.future().isComplete()) {
+                LOGGER.debug("Watch for {} has been closed, polling only", logContext, cause);
+                watch = null;
+                interval = pollIntervalMs;
+                changed();
+            }
+        }
+
+        private void changed() {
+            if (promise.future().isComplete()) {
+                return;
+            } else if (checking) {
+                recheck = true;
+            } else {
+                if (timerId != -1) {
+                    vertx.cancelTimer(timerId);
+                    timerId = -1;
+                }
+                check();
+            }
+        }
+
+        @Override
+        public void handle(Long timerId) {
+            this.timerId = -1;
+            check();
+        }
+
+        void check() {
+            checking = true;
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
+                future -> {
+                    try {
+                        if (ready.getAsBoolean())   {
+                            future.complete();
+                        } else {
+                            LOGGER.trace("{} is not ready", logContext);
+                            future.fail("Not ready yet");
                         }
-                    },
-                    true,
-                    res -> {
-                        if (res.succeeded()) {
-                            LOGGER.debug("{} is ready", logContext);
-                            promise.complete();
+                    } catch (Throwable e) {
+                        LOGGER.warn("Caught exception while waiting for {} to get ready", logContext, e);
+                        future.fail(e);
+                    }
+                },
+                true,
+                res -> {
+                    checking = false;
+                    if (res.succeeded()) {
+                        LOGGER.debug("{} is ready", logContext);
+                        finish();
+                        promise.complete();
+                    } else {
+                        long timeLeft = deadline - System.currentTimeMillis();
+                        if (timeLeft <= 0) {
+                            String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be ready", timeoutMs, logContext);
+                            LOGGER.error(exceptionMessage);
+                            finish();
+                            promise.fail(new TimeoutException(exceptionMessage));
+                        } else if (recheck) {
+                            recheck = false;
+                            check();
                         } else {
-                            long timeLeft = deadline - System.currentTimeMillis();
-                            if (timeLeft <= 0) {
-                                String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be ready", timeoutMs, logContext);
-                                LOGGER.error(exceptionMessage);
-                                promise.fail(new TimeoutException(exceptionMessage));
-                            } else {
-                                // Schedule ourselves to run again
-                                vertx.setTimer(Math.min(pollIntervalMs, timeLeft), this);
-                            }
+                            // Schedule ourselves to run again
+                            timerId = vertx.setTimer(Math.min(interval, timeLeft), this);
                         }
                     }
-                );
-            }
-        };
+                }
+            );
+        }
 
-        // Call the handler ourselves the first time
-        handler.handle(null);
+        private void finish() {
+            recheck = false;
+            if (watch != null) {
+                closeWatch(watch);
+                watch = null;
+            }
+        }
 
-        return promise.future();
+        private void closeWatch(Watch watch) {
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
+                future -> {
+                    watch.close();
+                    future.complete();
+                },
+                false,
+                res -> { });
+        }
     }
 
     /**
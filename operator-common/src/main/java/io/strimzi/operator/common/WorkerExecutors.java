@@ -0,0 +1,314 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>The named worker pools used by the operators to run blocking code, with one pool for each kind of
+ * blocking work, so that for example slow ZooKeeper calls cannot starve calls to the Kubernetes API.</p>
+ *
+ * <p>There is one set of pools for each Vert.x instance, which is created with the configured sizes
+ * by {@link #configure(Vertx, Map)} or with the default sizes on first use.
+ * The pools count the tasks waiting for a thread and the time they waited, which can be exposed
+ * as metrics by binding the pools to a {@link MeterRegistry}.</p>
+ */
+public class WorkerExecutors implements Shareable, MeterBinder {
+
+    private static final Logger log = LogManager.getLogger(WorkerExecutors.class);
+
+    private static final String LOCAL_MAP_NAME = WorkerExecutors.class.getName();
+    private static final long MAX_EXECUTE_TIME_NS = TimeUnit.SECONDS.toNanos(120);
+
+    /**
+     * The kinds of blocking work.
+     */
+    public enum Pool {
+        /** Calls to the Kubernetes API. */
+        KUBERNETES("kubernetes-ops-pool", "STRIMZI_KUBERNETES_OPS_POOL_SIZE", 10),
+        /** Calls to ZooKeeper. */
+        ZOOKEEPER("zookeeper-ops-pool", "STRIMZI_ZOOKEEPER_OPS_POOL_SIZE", 4),
+        /** Calls to the Kafka brokers, using the Admin client or the authorizer. */
+        KAFKA_ADMIN("kafka-admin-ops-pool", "STRIMZI_KAFKA_ADMIN_OPS_POOL_SIZE", 4),
+        /** CPU bound generation and renewal of certificates. */
+        CERTIFICATES("certificate-ops-pool", "STRIMZI_CERTIFICATE_OPS_POOL_SIZE", 2);
+
+        private final String poolName;
+        private final String envVar;
+        private final int defaultSize;
+
+        Pool(String poolName, String envVar, int defaultSize) {
+            this.poolName = poolName;
+            this.envVar = envVar;
+            this.defaultSize = defaultSize;
+        }
+
+        /**
+         * @return The name of the Vert.x worker pool.
+         */
+        public String poolName() {
+            return poolName;
+        }
+
+        /**
+         * @return The environment variable configuring the size of the pool.
+         */
+        public String envVar() {
+            return envVar;
+        }
+
+        /**
+         * @return The default size of the pool.
+         */
+        public int defaultSize() {
+            return defaultSize;
+        }
+    }
+
+    private final Map<Pool, InstrumentedExecutor> executors;
+
+    private WorkerExecutors(Vertx vertx, Map<Pool, Integer> sizes) {
+        Map<Pool, InstrumentedExecutor> executors = new EnumMap<>(Pool.class);
+        for (Pool pool : Pool.values()) {
+            int size = sizes.getOrDefault(pool, pool.defaultSize());
+            executors.put(pool, new InstrumentedExecutor(pool, size, vertx.createSharedWorkerExecutor(pool.poolName(), size, MAX_EXECUTE_TIME_NS)));
+        }
+        this.executors = Collections.unmodifiableMap(executors);
+    }
+
+    /**
+     * Creates the pools of the given Vert.x instance with the sizes configured in the given environment.
+     * This has to be called before the pools are first used, otherwise they keep their default sizes.
+     *
+     * @param vertx The Vert.x instance.
+     * @param env The environment, in which the sizes are configured using the {@link Pool#envVar()} variables.
+     * @return The pools.
+     * @throws InvalidConfigurationException If any of the sizes is not a positive integer.
+     */
+    public static WorkerExecutors configure(Vertx vertx, Map<String, String> env) {
+        Map<Pool, Integer> sizes = new EnumMap<>(Pool.class);
+        for (Pool pool : Pool.values()) {
+            sizes.put(pool, parseSize(pool, env.get(pool.envVar())));
+        }
+        WorkerExecutors created = new WorkerExecutors(vertx, sizes);
+        WorkerExecutors existing = localMap(vertx).putIfAbsent(LOCAL_MAP_NAME, created);
+        if (existing != null) {
+            log.warn("Worker pools have already been created, ignoring their configured sizes");
+            return existing;
+        }
+        log.info("Worker pools: {}", created);
+        return created;
+    }
+
+    /**
+     * @param vertx The Vert.x instance.
+     * @return The pools of the given Vert.x instance, which are created with the default sizes if they have not been configured.
+     */
+    public static WorkerExecutors get(Vertx vertx) {
+        LocalMap<String, WorkerExecutors> map = localMap(vertx);
+        WorkerExecutors executors = map.get(LOCAL_MAP_NAME);
+        if (executors == null) {
+            WorkerExecutors created = new WorkerExecutors(vertx, Collections.emptyMap());
+            executors = map.putIfAbsent(LOCAL_MAP_NAME, created);
+            if (executors == null) {
+                executors = created;
+            }
+        }
+        return executors;
+    }
+
+    /**
+     * @param vertx The Vert.x instance.
+     * @param pool The kind of blocking work.
+     * @return The executor for the given kind of blocking work.
+     */
+    public static InstrumentedExecutor executor(Vertx vertx, Pool pool) {
+        return get(vertx).executor(pool);
+    }
+
+    /**
+     * @param pool The kind of blocking work.
+     * @return The executor for the given kind of blocking work.
+     */
+    public InstrumentedExecutor executor(Pool pool) {
+        return executors.get(pool);
+    }
+
+    private static LocalMap<String, WorkerExecutors> localMap(Vertx vertx) {
+        return vertx.sharedData().getLocalMap(LOCAL_MAP_NAME);
+    }
+
+    private static int parseSize(Pool pool, String value) {
+        if (value == null) {
+            return pool.defaultSize();
+        }
+        try {
+            int size = Integer.parseInt(value.trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below
+        }
+        throw new InvalidConfigurationException(pool.envVar() + " should be a positive integer, but was " + value);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (InstrumentedExecutor executor : executors.values()) {
+            String name = executor.pool.poolName();
+            Gauge.builder("strimzi.worker.pool.size", executor, InstrumentedExecutor::size)
+                    .description("Number of threads of the worker pool")
+                    .tag("pool", name)
+                    .register(registry);
+            Gauge.builder("strimzi.worker.pool.queued", executor, InstrumentedExecutor::queued)
+                    .description("Number of tasks waiting for a thread of the worker pool")
+                    .tag("pool", name)
+                    .register(registry);
+            Gauge.builder("strimzi.worker.pool.active", executor, InstrumentedExecutor::active)
+                    .description("Number of tasks being executed by the worker pool")
+                    .tag("pool", name)
+                    .register(registry);
+            FunctionTimer.builder("strimzi.worker.pool.wait", executor, InstrumentedExecutor::started, InstrumentedExecutor::totalWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("Time tasks waited for a thread of the worker pool")
+                    .tag("pool", name)
+                    .register(registry);
+            FunctionCounter.builder("strimzi.worker.pool.completed", executor, InstrumentedExecutor::completed)
+                    .description("Number of tasks executed by the worker pool")
+                    .tag("pool", name)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (InstrumentedExecutor executor : executors.values()) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(executor.pool.poolName()).append('=').append(executor.size);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A worker executor which keeps count of the tasks waiting for a thread and of how long they waited.
+     */
+    public static class InstrumentedExecutor {
+        private final Pool pool;
+        private final int size;
+        private final WorkerExecutor executor;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+
+        InstrumentedExecutor(Pool pool, int size, WorkerExecutor executor) {
+            this.pool = pool;
+            this.size = size;
+            this.executor = executor;
+        }
+
+        /**
+         * Runs the given blocking code on this pool, see {@link WorkerExecutor#executeBlocking(Handler, boolean, Handler)}.
+         *
+         * @param blockingCodeHandler Handler representing the blocking code to run.
+         * @param ordered If true then executions for the same context are executed serially.
+         * @param resultHandler Handler that will be called when the blocking code is complete.
+         * @param <T> The type of the result.
+         */
+        public <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+            long submitted = System.nanoTime();
+            queued.incrementAndGet();
+            executor.<T>executeBlocking(promise -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                started.incrementAndGet();
+                totalWaitNanos.addAndGet(System.nanoTime() - submitted);
+                try {
+                    blockingCodeHandler.handle(promise);
+                } finally {
+                    active.decrementAndGet();
+                    completed.incrementAndGet();
+                }
+            }, ordered, resultHandler);
+        }
+
+        /**
+         * Like {@link #executeBlocking(Handler, boolean, Handler)} called with ordered = true.
+         *
+         * @param blockingCodeHandler Handler representing the blocking code to run.
+         * @param resultHandler Handler that will be called when the blocking code is complete.
+         * @param <T> The type of the result.
+         */
+        public <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler) {
+            executeBlocking(blockingCodeHandler, true, resultHandler);
+        }
+
+        /**
+         * @return The number of threads of this pool.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return The number of tasks waiting for a thread.
+         */
+        public int queued() {
+            return queued.get();
+        }
+
+        /**
+         * @return The number of tasks being executed.
+         */
+        public int active() {
+            return active.get();
+        }
+
+        /**
+         * @return The number of tasks which have started executing.
+         */
+        public long started() {
+            return started.get();
+        }
+
+        /**
+         * @return The number of tasks which have been executed.
+         */
+        public long completed() {
+            return completed.get();
+        }
+
+        /**
+         * @return The total time the started tasks waited for a thread, in nanoseconds.
+         */
+        public long totalWaitNanos() {
+            return totalWaitNanos.get();
+        }
+    }
+}
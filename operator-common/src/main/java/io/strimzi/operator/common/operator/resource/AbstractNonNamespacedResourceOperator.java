@@ -12,7 +12,10 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -37,13 +40,14 @@ import java.util.function.Predicate;
  * @param <R> The resource operations.
  */
 public abstract class AbstractNonNamespacedResourceOperator<C extends KubernetesClient, T extends HasMetadata,
-        L extends KubernetesResourceList/*<T>*/, D, R extends Resource<T, D>> {
+        L extends KubernetesResourceList/*<T>*/, D, R extends Resource<T, D>> implements MeterBinder {
 
     protected final Logger log = LogManager.getLogger(getClass());
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
     private final long operationTimeoutMs;
+    private final PatchCounters patches = new PatchCounters();
 
     /**
      * Constructor.
@@ -90,7 +94,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
                 T current = operation().withName(name).get();
                 if (desired != null) {
@@ -173,6 +177,12 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
 
     protected Future<ReconcileResult<T>> internalPatch(String name, T current, T desired, boolean cascading) {
         try {
+            if (new ResourceDiff<>(resourceKind, current, desired, null).isEmpty()) {
+                log.debug("{} {} has not been patched because resources are equal", resourceKind, name);
+                patches.skipped();
+                return Future.succeededFuture(ReconcileResult.noop(current));
+            }
+            patches.applied();
             T result = operation().withName(name).cascading(cascading).patch(desired);
             log.debug("{} {} has been patched", resourceKind, name);
             return Future.succeededFuture(wasChanged(current, result) ?
@@ -183,6 +193,31 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         }
     }
 
+    /**
+     * Registers the numbers of {@linkplain #appliedPatches() applied} and {@linkplain #skippedPatches() skipped}
+     * patches as the {@code strimzi.resource.patches} counter, tagged by {@code kind}, {@code operator}
+     * and {@code outcome}.
+     * @param registry The registry.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        patches.bindTo(registry, resourceKind, getClass().getSimpleName());
+    }
+
+    /**
+     * @return The number of patches which have been sent to the Kubernetes API server.
+     */
+    public long appliedPatches() {
+        return patches.appliedPatches();
+    }
+
+    /**
+     * @return The number of patches which have been skipped because the current resource already matched the desired resource.
+     */
+    public long skippedPatches() {
+        return patches.skippedPatches();
+    }
+
     private boolean wasChanged(T oldVersion, T newVersion) {
         if (oldVersion != null
                 && oldVersion.getMetadata() != null
@@ -226,7 +261,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
      */
     public Future<T> getAsync(String name) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
                 T resource = get(name);
                 future.complete(resource);
@@ -251,7 +286,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
      */
     public Future<List<T>> listAsync(Labels selector) {
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
                 List<T> resource = list(selector);
                 future.complete(resource);
@@ -15,7 +15,10 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -27,7 +30,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -40,12 +46,17 @@ import java.util.function.BiPredicate;
  * @param <R> The resource operations.
  */
 public abstract class AbstractResourceOperator<C extends KubernetesClient, T extends HasMetadata,
-        L extends KubernetesResourceList/*<T>*/, D, R extends Resource<T, D>> {
+        L extends KubernetesResourceList/*<T>*/, D, R extends Resource<T, D>> implements MeterBinder {
 
     protected final Logger log = LogManager.getLogger(getClass());
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
+    private volatile ResourceCache<T, L> cache;
+    /** The key of the label which the resources held in {@link #cache} have */
+    private volatile String cacheLabel;
+    private final Map<String, ResourceCache<T, L>> namedCaches = new ConcurrentHashMap<>();
+    private final PatchCounters patches = new PatchCounters();
 
     /**
      * Constructor.
@@ -61,6 +72,80 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected abstract MixedOperation<T, L, D, R> operation();
 
+    /**
+     * Makes subsequent reads of the resources having a label with the given key be served from a local cache
+     * of this kind of resource which is kept up to date using watches restricted to that label.
+     * {@link #get(String, String)}, {@link #getAsync(String, String)} and the existence check in
+     * {@link #reconcile(String, String, HasMetadata)} look up resources missing from the cache on the API server,
+     * while {@link #list(String, Labels)} and {@link #listAsync(String, Labels)} are only served from the cache
+     * when their selector requires the label.
+     * @param labelKey The key of the label of the resources to cache, for example {@link Labels#STRIMZI_CLUSTER_LABEL}.
+     * @param resyncIntervalMs The interval in milliseconds between full re-lists of the cached namespaces.
+     */
+    public void enableLabelCache(String labelKey, long resyncIntervalMs) {
+        if (cache == null) {
+            cacheLabel = labelKey;
+            cache = new ResourceCache<>(vertx, resourceKind,
+                namespace -> {
+                    FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> operation = AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)
+                            ? operation().inAnyNamespace() : operation().inNamespace(namespace);
+                    return operation.withLabel(labelKey);
+                },
+                resyncIntervalMs);
+        }
+    }
+
+    /**
+     * Makes subsequent reads of the resources with the given {@code name} ({@link #get(String, String)},
+     * {@link #getAsync(String, String)} and the existence check in {@link #reconcile(String, String, HasMetadata)})
+     * be served from a local cache which is kept up to date using a watch restricted to that name.
+     * Reads of resources with other names are not affected.
+     * @param name The name of the resources to cache.
+     * @param resyncIntervalMs The interval in milliseconds between full re-lists of the cached resources.
+     */
+    public void enableCache(String name, long resyncIntervalMs) {
+        namedCaches.computeIfAbsent(name, n -> new ResourceCache<>(vertx, resourceKind,
+            namespace -> {
+                FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> operation = AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)
+                        ? operation().inAnyNamespace() : operation().inNamespace(namespace);
+                return operation.withField("metadata.name", n);
+            },
+            resyncIntervalMs));
+    }
+
+    /**
+     * Stops using the local caches enabled by {@link #enableLabelCache(String, long)} and {@link #enableCache(String, long)},
+     * closing their watches.
+     */
+    public void disableCache() {
+        ResourceCache<T, L> cache = this.cache;
+        this.cache = null;
+        if (cache != null) {
+            cache.close();
+        }
+        namedCaches.values().removeIf(namedCache -> {
+            namedCache.close();
+            return true;
+        });
+    }
+
+    /**
+     * @param selector The labels which the listed resources must have, or null.
+     * @return The cache holding all the resources matching the given selector, or null if they have to be listed from the API server.
+     */
+    private ResourceCache<T, L> cacheForList(Map<String, String> selector) {
+        ResourceCache<T, L> cache = this.cache;
+        return cache != null && selector != null && selector.containsKey(cacheLabel) ? cache : null;
+    }
+
+    /**
+     * @return The cache serving reads of the resources with the given name, or null if they are read from the API server.
+     */
+    private ResourceCache<T, L> cacheFor(String name) {
+        ResourceCache<T, L> namedCache = namedCaches.get(name);
+        return namedCache != null ? namedCache : this.cache;
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -91,9 +176,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                T current = getCurrent(namespace, name, desired != null);
                 if (desired != null) {
                     if (current == null) {
                         log.debug("{} {}/{} does not exist, creating it", resourceKind, namespace, name);
@@ -117,7 +202,50 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
             false,
             promise
         );
-        return promise.future();
+        return promise.future().map(result -> {
+            updateCache(namespace, name, result);
+            return result;
+        });
+    }
+
+    /**
+     * Gets the current state of the resource being reconciled. When the cache is enabled and the resource
+     * is not in it we ask the API server directly before creating the resource, since the cache might not
+     * yet have observed a recent creation. The same applies before deleting a resource when the cache only
+     * holds the resources with a label, since the resource might not have that label.
+     */
+    private T getCurrent(String namespace, String name, boolean confirmAbsence) {
+        ResourceCache<T, L> cache = cacheFor(name);
+        if (cache != null) {
+            T current = cache.get(namespace, name);
+            if (current != null || !confirmAbsence && cache != this.cache) {
+                return current;
+            }
+        }
+        return operation().inNamespace(namespace).withName(name).get();
+    }
+
+    private void updateCache(String namespace, String name, ReconcileResult<T> result) {
+        if (result.resourceOpt().isPresent()) {
+            updateCache(result.resourceOpt().get());
+        } else if (result == ReconcileResult.deleted()) {
+            ResourceCache<T, L> cache = cacheFor(name);
+            if (cache != null) {
+                cache.remove(namespace, name);
+            }
+        }
+    }
+
+    /**
+     * Updates the cache (if enabled) with a resource returned by the API server from an operation
+     * other than {@link #reconcile(String, String, HasMetadata)}.
+     * @param resource The resource returned by the API server.
+     */
+    protected void updateCache(T resource) {
+        ResourceCache<T, L> cache = cacheFor(resource.getMetadata().getName());
+        if (cache != null) {
+            cache.update(resource);
+        }
     }
 
     /**
@@ -164,6 +292,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     protected Future<ReconcileResult<T>> internalPatch(String namespace, String name, T current, T desired, boolean cascading) {
         try {
+            if (new ResourceDiff<>(resourceKind, current, desired, ignorableRemovals()).isEmpty()) {
+                log.debug("{} {} in namespace {} has not been patched because resources are equal", resourceKind, name, namespace);
+                patchSkipped();
+                return Future.succeededFuture(ReconcileResult.noop(current));
+            }
+            patchApplied();
             T result = operation().inNamespace(namespace).withName(name).cascading(cascading).patch(desired);
             log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
             return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
@@ -173,6 +307,56 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         }
     }
 
+    /**
+     * Returns the paths of fields which Kubernetes sets to a default value when they are not specified,
+     * and whose absence from the desired resource therefore doesn't require the resource to be patched.
+     * @return A pattern matching the JSON pointers of those fields, or null if there are none.
+     */
+    protected Pattern ignorableRemovals() {
+        return null;
+    }
+
+    /**
+     * Counts a patch which is sent to the Kubernetes API server, for subclasses which patch or replace
+     * resources without calling {@link #internalPatch(String, String, HasMetadata, HasMetadata, boolean)}.
+     */
+    protected void patchApplied() {
+        patches.applied();
+    }
+
+    /**
+     * Counts a patch which is skipped because the current resource already matches the desired resource,
+     * for subclasses which compare resources without calling {@link #internalPatch(String, String, HasMetadata, HasMetadata, boolean)}.
+     */
+    protected void patchSkipped() {
+        patches.skipped();
+    }
+
+    /**
+     * Registers the numbers of {@linkplain #appliedPatches() applied} and {@linkplain #skippedPatches() skipped}
+     * patches as the {@code strimzi.resource.patches} counter, tagged by {@code kind}, {@code operator}
+     * and {@code outcome}.
+     * @param registry The registry.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        patches.bindTo(registry, resourceKind, getClass().getSimpleName());
+    }
+
+    /**
+     * @return The number of patches which have been sent to the Kubernetes API server.
+     */
+    public long appliedPatches() {
+        return patches.appliedPatches();
+    }
+
+    /**
+     * @return The number of patches which have been skipped because the current resource already matched the desired resource.
+     */
+    public long skippedPatches() {
+        return patches.skippedPatches();
+    }
+
     protected boolean wasChanged(T oldVersion, T newVersion) {
         if (oldVersion != null
                 && oldVersion.getMetadata() != null
@@ -202,12 +386,14 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     /**
      * Synchronously gets the resource with the given {@code name} in the given {@code namespace}.
+     * When the cache is enabled, a resource missing from the cache is looked up on the API server,
+     * since callers commonly create or regenerate resources they believe to be absent.
      * @param namespace The namespace.
      * @param name The name.
      * @return The resource, or null if it doesn't exist.
      */
     public T get(String namespace, String name) {
-        return operation().inNamespace(namespace).withName(name).get();
+        return getCurrent(namespace, name, true);
     }
 
     /**
@@ -218,7 +404,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      */
     public Future<T> getAsync(String namespace, String name) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
                 T resource = get(namespace, name);
                 future.complete(resource);
@@ -235,7 +421,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      */
     @SuppressWarnings("unchecked")
     public List<T> list(String namespace, Labels selector) {
-        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
+        ResourceCache<T, L> cache = cacheForList(selector != null ? selector.toMap() : null);
+        if (cache != null) {
+            return cache.list(namespace, selector.toMap());
+        } else if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
             return listInNamespace(namespace, selector);
@@ -284,17 +473,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
-                List<T> resources;
-
-                if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
-                    resources = listInAnyNamespace(selector);
-                } else {
-                    resources = listInNamespace(namespace, selector);
-                }
-
-                future.complete(resources);
+                future.complete(list(namespace, selector));
             }, true, result
         );
         return result.future();
@@ -303,8 +484,14 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
     @SuppressWarnings("unchecked")
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(
             future -> {
+                ResourceCache<T, L> cache = cacheForList(selector.map(LabelSelector::getMatchLabels).orElse(null));
+                if (cache != null
+                        && (selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty())) {
+                    future.complete(cache.list(namespace, selector.get().getMatchLabels()));
+                    return;
+                }
                 FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> operation;
                 if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
                     operation = operation().inAnyNamespace();
@@ -322,7 +509,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
-     * is ready.
+     * is ready. The predicate is tested whenever the resource changes, and every {@code pollIntervalMs} when
+     * the resource cannot be watched.
      *
      * @param namespace The namespace.
      * @param name The resource name.
@@ -337,6 +525,25 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             pollIntervalMs,
             timeoutMs,
-            () -> predicate.test(namespace, name));
+            () -> predicate.test(namespace, name),
+            (Watcher<T> watcher) -> operation().inNamespace(namespace).withName(name).watch(watcher));
+    }
+
+    /**
+     * Like {@link #waitFor(String, String, long, long, BiPredicate)}, but the predicate is tested on the resource
+     * as read from the API server (or null if it doesn't exist). The cache is never used for this, since it might
+     * lag behind the watch which triggers the test.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate.
+     * @return A future that completes when the predicate holds for the resource identified by the given
+     * {@code namespace} and {@code name}.
+     */
+    public Future<Void> waitForResource(String namespace, String name, long pollIntervalMs, final long timeoutMs, Predicate<T> predicate) {
+        return waitFor(namespace, name, pollIntervalMs, timeoutMs,
+            (ignore1, ignore2) -> predicate.test(operation().inNamespace(namespace).withName(name).get()));
     }
 }
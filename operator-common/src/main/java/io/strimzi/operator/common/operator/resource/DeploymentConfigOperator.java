@@ -59,18 +59,16 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
      * generation sequence number of the desired state.
      */
     public Future<Void> waitForObserved(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isObserved);
+        return waitForResource(namespace, name, pollIntervalMs, timeoutMs, this::isObserved);
     }
 
     /**
      * Check if a deployment configuration has been observed.
      *
-     * @param namespace The namespace.
-     * @param name The resource name.
+     * @param dep The DeploymentConfig, or null if it doesn't exist.
      * @return Whether the deployment has been observed.
      */
-    private boolean isObserved(String namespace, String name) {
-        DeploymentConfig dep = get(namespace, name);
+    private boolean isObserved(DeploymentConfig dep) {
         if (dep != null)   {
             return dep.getMetadata().getGeneration().equals(dep.getStatus().getObservedGeneration());
         } else {
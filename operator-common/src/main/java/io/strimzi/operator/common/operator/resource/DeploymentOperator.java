@@ -97,18 +97,16 @@ public class DeploymentOperator extends AbstractScalableResourceOperator<Kuberne
      * generation sequence number of the desired state.
      */
     public Future<Void> waitForObserved(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isObserved);
+        return waitForResource(namespace, name, pollIntervalMs, timeoutMs, this::isObserved);
     }
 
     /**
      * Check if a deployment has been observed.
      *
-     * @param namespace The namespace.
-     * @param name The resource name.
+     * @param dep The Deployment, or null if it doesn't exist.
      * @return Whether the deployment has been observed.
      */
-    private boolean isObserved(String namespace, String name) {
-        Deployment dep = get(namespace, name);
+    private boolean isObserved(Deployment dep) {
         if (dep != null)   {
             return dep.getMetadata().getGeneration().equals(dep.getStatus().getObservedGeneration());
         } else {
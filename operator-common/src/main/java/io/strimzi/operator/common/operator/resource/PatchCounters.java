@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the patches of a resource operator which are sent to the Kubernetes API server and those which are skipped
+ * because the current resource already matches the desired resource.
+ */
+class PatchCounters {
+
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    void applied() {
+        applied.incrementAndGet();
+    }
+
+    void skipped() {
+        skipped.incrementAndGet();
+    }
+
+    long appliedPatches() {
+        return applied.get();
+    }
+
+    long skippedPatches() {
+        return skipped.get();
+    }
+
+    /**
+     * Registers the counts as the {@code strimzi.resource.patches} counter, tagged by {@code kind}, {@code operator}
+     * and {@code outcome}.
+     * @param registry The registry.
+     * @param kind The kind of resource.
+     * @param operator The name of the resource operator.
+     */
+    void bindTo(MeterRegistry registry, String kind, String operator) {
+        register(registry, kind, operator, "applied", applied);
+        register(registry, kind, operator, "skipped", skipped);
+    }
+
+    private static void register(MeterRegistry registry, String kind, String operator, String outcome, AtomicLong count) {
+        FunctionCounter.builder("strimzi.resource.patches", count, AtomicLong::get)
+                .description("Number of patches of Kubernetes resources sent to the API server or skipped because they would not change anything")
+                .tag("kind", kind)
+                .tag("operator", operator)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -27,6 +27,12 @@ public class PodDisruptionBudgetOperator extends AbstractResourceOperator<Kubern
 
     @Override
     protected Future<ReconcileResult<PodDisruptionBudget>> internalPatch(String namespace, String name, PodDisruptionBudget current, PodDisruptionBudget desired, boolean cascading) {
+        if (new ResourceDiff<>(resourceKind, current, desired, ignorableRemovals()).isEmpty()) {
+            log.debug("{} {} in namespace {} has not been replaced because resources are equal", resourceKind, name, namespace);
+            patchSkipped();
+            return Future.succeededFuture(ReconcileResult.noop(current));
+        }
+        patchApplied();
         Promise<ReconcileResult<PodDisruptionBudget>> promise = Promise.promise();
         internalDelete(namespace, name).setHandler(delRes -> {
             if (delRes.succeeded())    {
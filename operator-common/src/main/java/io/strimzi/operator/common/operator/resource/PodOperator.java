@@ -71,9 +71,9 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
         log.debug("{}}: Waiting for pod {} to be deleted", logContext, podName);
         Future<Void> podReconcileFuture =
                 reconcile(namespace, podName, null).compose(ignore -> {
-                    Future<Void> del = waitFor(namespace, podName, pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
+                    Future<Void> del = waitForResource(namespace, podName, pollingIntervalMs, timeoutMs, current -> {
                         // predicate - changed generation means pod has been updated
-                        String newUid = getPodUid(get(namespace, podName));
+                        String newUid = getPodUid(current);
                         boolean done = !deleted.equals(newUid);
                         if (done) {
                             log.debug("Rolling pod {} finished", podName);
@@ -13,10 +13,15 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.regex.Pattern;
+
 /**
  * Operations for {@code PersistentVolumeClaim}s.
  */
 public class PvcOperator extends AbstractResourceOperator<KubernetesClient, PersistentVolumeClaim, PersistentVolumeClaimList, DoneablePersistentVolumeClaim, Resource<PersistentVolumeClaim, DoneablePersistentVolumeClaim>> {
+
+    private static final Pattern IGNORABLE_REMOVALS = Pattern.compile("^/spec/volumeMode$");
+
     /**
      * Constructor
      * @param vertx The Vertx instance
@@ -31,6 +36,11 @@ public class PvcOperator extends AbstractResourceOperator<KubernetesClient, Pers
         return client.persistentVolumeClaims();
     }
 
+    @Override
+    protected Pattern ignorableRemovals() {
+        return IGNORABLE_REMOVALS;
+    }
+
     /**
      * Patches the resource with the given namespace and name to match the given desired resource
      * and completes the given future accordingly.
@@ -0,0 +1,306 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.WatchListDeletable;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.operator.common.WorkerExecutors;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A local cache of the resources of a single kind, populated by a list and kept up to date by a watch
+ * started from the resourceVersion of that list.
+ * The cache is maintained separately for each namespace it is asked about (or for
+ * {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}), and the list is repeated periodically
+ * to recover from any events missed by the watch.
+ * Resources returned from the cache are copies, so callers are free to modify them.
+ *
+ * @param <T> The Kubernetes resource type.
+ * @param <L> The list variant of the Kubernetes resource type.
+ */
+public class ResourceCache<T extends HasMetadata, L extends KubernetesResourceList/*<T>*/> {
+
+    private static final Logger log = LogManager.getLogger(ResourceCache.class);
+
+    public static final long DEFAULT_RESYNC_INTERVAL_MS = 300_000;
+
+    private final Vertx vertx;
+    private final String resourceKind;
+    private final Function<String, WatchListDeletable<T, L, Boolean, Watch, Watcher<T>>> operation;
+    private final long resyncIntervalMs;
+    private final Map<String, NamespaceCache> namespaces = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     * @param vertx The vertx instance.
+     * @param resourceKind The kind of Kubernetes resource (used for logging).
+     * @param operation Function returning the list/watch operation for a namespace.
+     * @param resyncIntervalMs The interval in milliseconds between full re-lists of each namespace.
+     */
+    public ResourceCache(Vertx vertx, String resourceKind,
+                         Function<String, WatchListDeletable<T, L, Boolean, Watch, Watcher<T>>> operation,
+                         long resyncIntervalMs) {
+        this.vertx = vertx;
+        this.resourceKind = resourceKind;
+        this.operation = operation;
+        this.resyncIntervalMs = resyncIntervalMs;
+    }
+
+    /**
+     * Synchronously gets the resource with the given {@code name} in the given {@code namespace} from the cache,
+     * populating the cache for the namespace first if necessary.
+     * @param namespace The namespace.
+     * @param name The name.
+     * @return A copy of the cached resource, or null if it doesn't exist.
+     */
+    public T get(String namespace, String name) {
+        return copy(namespaceCache(namespace).synced().get(key(namespace, name)));
+    }
+
+    /**
+     * Synchronously lists the resources in the given {@code namespace} which have all the given {@code labels},
+     * populating the cache for the namespace first if necessary.
+     * @param namespace The namespace, or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}.
+     * @param labels The labels to match, or null to match all resources.
+     * @return Copies of the matching cached resources.
+     */
+    public List<T> list(String namespace, Map<String, String> labels) {
+        List<T> result = new ArrayList<>();
+        for (T resource : namespaceCache(namespace).synced().values()) {
+            if (matches(resource, labels)) {
+                result.add(copy(resource));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates the cache with a resource returned by the API server, for example as the result of a create or patch,
+     * so that subsequent reads observe it even before the corresponding watch event arrives.
+     * @param resource The resource.
+     */
+    public void update(T resource) {
+        if (resource != null && resource.getMetadata() != null) {
+            String namespace = resource.getMetadata().getNamespace();
+            String name = resource.getMetadata().getName();
+            forEachCacheOf(namespace, cache -> cache.put(key(namespace, name), resource));
+        }
+    }
+
+    /**
+     * Removes the resource with the given {@code name} in the given {@code namespace} from the cache.
+     * @param namespace The namespace.
+     * @param name The name.
+     */
+    public void remove(String namespace, String name) {
+        forEachCacheOf(namespace, cache -> cache.remove(key(namespace, name)));
+    }
+
+    /**
+     * Stops all watches and periodic re-lists and discards the cached resources.
+     */
+    public void close() {
+        for (NamespaceCache cache : namespaces.values()) {
+            cache.close();
+        }
+        namespaces.clear();
+    }
+
+    private void forEachCacheOf(String namespace, Consumer<NamespaceCache> action) {
+        NamespaceCache cache = namespaces.get(namespace);
+        if (cache != null) {
+            action.accept(cache);
+        }
+        cache = namespaces.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        if (cache != null) {
+            action.accept(cache);
+        }
+    }
+
+    private NamespaceCache namespaceCache(String namespace) {
+        return namespaces.computeIfAbsent(namespace, NamespaceCache::new);
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    private static boolean matches(HasMetadata resource, Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return true;
+        }
+        Map<String, String> actual = resource.getMetadata().getLabels();
+        if (actual == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            if (!Objects.equals(label.getValue(), actual.get(label.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two resourceVersions. These are opaque strings in the Kubernetes API, but in practice they
+     * are numeric, in which case we use them to avoid replacing a cached resource with an older one.
+     */
+    private boolean isOlder(T candidate, T existing) {
+        if (existing == null
+                || candidate.getMetadata().getResourceVersion() == null
+                || existing.getMetadata().getResourceVersion() == null) {
+            return false;
+        }
+        try {
+            long candidateVersion = Long.parseLong(candidate.getMetadata().getResourceVersion());
+            long existingVersion = Long.parseLong(existing.getMetadata().getResourceVersion());
+            return candidateVersion < existingVersion;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copy(T resource) {
+        if (resource == null) {
+            return null;
+        }
+        try {
+            return (T) Serialization.jsonMapper().readValue(Serialization.jsonMapper().writeValueAsBytes(resource), resource.getClass());
+        } catch (IOException e) {
+            throw new KubernetesClientException("Failed to copy cached " + resourceKind + " " + resource.getMetadata().getName(), e);
+        }
+    }
+
+    /**
+     * The cached resources of a single namespace (or of all namespaces).
+     */
+    private class NamespaceCache implements Watcher<T> {
+        private final String namespace;
+        /** Replaced as a whole on each (re)sync, so that readers never see a partially populated cache */
+        private volatile Map<String, T> resources = new ConcurrentHashMap<>();
+        private volatile boolean synced = false;
+        private volatile boolean closed = false;
+        private Watch watch;
+        private long resyncTimer = -1;
+
+        NamespaceCache(String namespace) {
+            this.namespace = namespace;
+        }
+
+        /**
+         * @return The cached resources, after populating them if the cache is not in sync.
+         */
+        Map<String, T> synced() {
+            if (!synced) {
+                sync();
+            }
+            return resources;
+        }
+
+        @SuppressWarnings("unchecked") // due to L extends KubernetesResourceList/*<T>*/
+        synchronized void sync() {
+            if (closed) {
+                throw new IllegalStateException("The " + resourceKind + " cache has been closed");
+            }
+            if (watch != null) {
+                watch.close();
+                watch = null;
+            }
+            WatchListDeletable<T, L, Boolean, Watch, Watcher<T>> op = operation.apply(namespace);
+            L list = op.list();
+            Map<String, T> listed = new ConcurrentHashMap<>();
+            for (T resource : (List<T>) list.getItems()) {
+                listed.put(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()), resource);
+            }
+            resources = listed;
+            String resourceVersion = list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+            watch = resourceVersion != null ? op.watch(resourceVersion, this) : op.watch(this);
+            synced = true;
+            log.debug("Cached {} {} resources in namespace {} at resourceVersion {}", listed.size(), resourceKind, namespace, resourceVersion);
+            if (resyncTimer == -1 && resyncIntervalMs > 0) {
+                resyncTimer = vertx.setPeriodic(resyncIntervalMs, timer -> resync());
+            }
+        }
+
+        private void resync() {
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KUBERNETES).executeBlocking(future -> {
+                sync();
+                future.complete();
+            }, false, res -> {
+                if (res.failed()) {
+                    log.warn("Failed to resync {} cache in namespace {}", resourceKind, namespace, res.cause());
+                    synced = false;
+                }
+            });
+        }
+
+        void put(String key, T resource) {
+            resources.compute(key, (k, existing) -> isOlder(resource, existing) ? existing : resource);
+        }
+
+        void remove(String key) {
+            resources.remove(key);
+        }
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            String key = key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+            switch (action) {
+                case ADDED:
+                case MODIFIED:
+                    put(key, resource);
+                    break;
+                case DELETED:
+                    remove(key);
+                    break;
+                case ERROR:
+                    log.warn("Error event received for {} cache in namespace {}", resourceKind, namespace);
+                    synced = false;
+                    break;
+                default:
+                    log.warn("Unknown action {} received for {} cache in namespace {}", action, resourceKind, namespace);
+            }
+        }
+
+        @Override
+        public void onClose(KubernetesClientException cause) {
+            if (cause != null) {
+                // Typically the resourceVersion we started from is too old, so the next read has to list again
+                log.info("Watch for {} cache in namespace {} closed, it will be re-synced", resourceKind, namespace, cause);
+                synced = false;
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            synced = false;
+            if (resyncTimer != -1) {
+                vertx.cancelTimer(resyncTimer);
+            }
+            if (watch != null) {
+                watch.close();
+                watch = null;
+            }
+            resources = new ConcurrentHashMap<>();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.zjsonpatch.JsonDiff;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.regex.Pattern;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Structural diff between the current and the desired state of a resource, used to decide whether
+ * patching the resource would change it at all.
+ * Differences in fields which are populated by Kubernetes and which a patch cannot change are ignored.
+ * Operators can additionally ignore the removal of fields which Kubernetes sets to a default value
+ * when they are not specified in the desired resource.
+ */
+public class ResourceDiff<T extends HasMetadata> extends AbstractResourceDiff {
+
+    private static final Logger log = LogManager.getLogger(ResourceDiff.class.getName());
+
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
+        "^(/metadata/creationTimestamp"
+        + "|/metadata/resourceVersion"
+        + "|/metadata/generation"
+        + "|/metadata/uid"
+        + "|/metadata/selfLink"
+        + "|/metadata/managedFields(/.*)?"
+        + "|/metadata/deletionTimestamp"
+        + "|/metadata/deletionGracePeriodSeconds"
+        + "|/status(/.*)?)$");
+
+    private final boolean isEmpty;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceKind The kind of the resource (used for logging).
+     * @param current The current resource.
+     * @param desired The desired resource.
+     * @param ignorableRemovals The paths of fields defaulted by Kubernetes, whose absence from the desired resource
+     *                          is not a difference, or null if there are none.
+     */
+    public ResourceDiff(String resourceKind, T current, T desired, Pattern ignorableRemovals) {
+        JsonNode source = patchMapper().valueToTree(current);
+        JsonNode target = patchMapper().valueToTree(desired);
+        JsonNode diff = JsonDiff.asJson(source, target);
+        int num = 0;
+        for (JsonNode d : diff) {
+            String pathValue = d.get("path").asText();
+            if (IGNORABLE_PATHS.matcher(pathValue).matches()
+                    || ignorableRemovals != null
+                        && "remove".equals(d.path("op").asText())
+                        && ignorableRemovals.matcher(pathValue).matches()) {
+                log.trace("{} {}/{} ignoring diff {}", resourceKind, current.getMetadata().getNamespace(), current.getMetadata().getName(), d);
+                continue;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("{} {}/{} differs: {}", resourceKind, current.getMetadata().getNamespace(), current.getMetadata().getName(), d);
+                log.debug("Current {} path {} has value {}", resourceKind, pathValue, lookupPath(source, pathValue));
+                log.debug("Desired {} path {} has value {}", resourceKind, pathValue, lookupPath(target, pathValue));
+            }
+            num++;
+        }
+        this.isEmpty = num == 0;
+    }
+
+    /**
+     * Returns whether the Diff is empty or not
+     *
+     * @return true when patching the current resource with the desired resource would not change it
+     */
+    @Override
+    public boolean isEmpty() {
+        return isEmpty;
+    }
+}
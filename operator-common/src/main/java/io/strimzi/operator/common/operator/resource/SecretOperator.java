@@ -12,11 +12,15 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.vertx.core.Vertx;
 
+import java.util.regex.Pattern;
+
 /**
  * Operations for {@code Secret}s.
  */
 public class SecretOperator extends AbstractResourceOperator<KubernetesClient, Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> {
 
+    private static final Pattern IGNORABLE_REMOVALS = Pattern.compile("^/type$");
+
     /**
      * Constructor
      * @param vertx The Vertx instance
@@ -30,4 +34,9 @@ public class SecretOperator extends AbstractResourceOperator<KubernetesClient, S
     protected MixedOperation<Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> operation() {
         return client.secrets();
     }
+
+    @Override
+    protected Pattern ignorableRemovals() {
+        return IGNORABLE_REMOVALS;
+    }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KubernetesApiMetricsTest {
+
+    private static String resource(String url) {
+        return KubernetesApiMetrics.resource(HttpUrl.get(url).pathSegments());
+    }
+
+    @Test
+    public void testResourceIsParsedFromUrl() {
+        assertThat(resource("https://kubernetes/api/v1/namespaces/ns/pods/my-pod"), is("pods"));
+        assertThat(resource("https://kubernetes/api/v1/namespaces/ns/pods?watch=true"), is("pods"));
+        assertThat(resource("https://kubernetes/api/v1/namespaces/ns"), is("namespaces"));
+        assertThat(resource("https://kubernetes/api/v1/nodes"), is("nodes"));
+        assertThat(resource("https://kubernetes/apis/kafka.strimzi.io/v1beta1/namespaces/ns/kafkas/my-cluster"), is("kafkas"));
+        assertThat(resource("https://kubernetes/apis/rbac.authorization.k8s.io/v1/clusterroles"), is("clusterroles"));
+        assertThat(resource("https://kubernetes/version"), is("other"));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationQueueTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    /**
+     * An operator whose reconciliations complete only when the test says so.
+     */
+    static class ManualOperator implements Operator {
+        final List<Reconciliation> started = new ArrayList<>();
+        final List<Promise<Void>> promises = new ArrayList<>();
+
+        @Override
+        public String kind() {
+            return "Test";
+        }
+
+        @Override
+        public synchronized Future<Void> reconcile(Reconciliation reconciliation) {
+            Promise<Void> promise = Promise.promise();
+            started.add(reconciliation);
+            promises.add(promise);
+            return promise.future();
+        }
+
+        @Override
+        public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+            return Future.failedFuture("Not supported");
+        }
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "Test", "ns", name);
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() {
+        ManualOperator operator = new ManualOperator();
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, 2);
+
+        queue.enqueue(reconciliation("a"), ReconciliationQueue.Priority.LOW);
+        queue.enqueue(reconciliation("b"), ReconciliationQueue.Priority.LOW);
+        queue.enqueue(reconciliation("c"), ReconciliationQueue.Priority.LOW);
+
+        assertThat(operator.started.size(), is(2));
+        assertThat(queue.running(), is(2));
+        assertThat(queue.size(), is(1));
+
+        operator.promises.get(0).complete();
+        assertThat(operator.started.size(), is(3));
+        assertThat(operator.started.get(2).name(), is("c"));
+    }
+
+    @Test
+    public void testDuplicatesAreMerged() {
+        ManualOperator operator = new ManualOperator();
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, 1);
+
+        queue.enqueue(reconciliation("a"), ReconciliationQueue.Priority.LOW);
+        Future<Void> b1 = queue.enqueue(reconciliation("b"), ReconciliationQueue.Priority.LOW);
+        Future<Void> b2 = queue.enqueue(reconciliation("b"), ReconciliationQueue.Priority.LOW);
+        assertThat(queue.size(), is(1));
+
+        operator.promises.get(0).complete();
+        assertThat(operator.started.size(), is(2));
+        operator.promises.get(1).complete();
+
+        assertThat(operator.started.size(), is(2));
+        assertThat(b1.succeeded(), is(true));
+        assertThat(b2.succeeded(), is(true));
+    }
+
+    @Test
+    public void testResourceIsNotReconciledConcurrently() {
+        ManualOperator operator = new ManualOperator();
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, 2);
+
+        queue.enqueue(reconciliation("a"), ReconciliationQueue.Priority.LOW);
+        queue.enqueue(reconciliation("a"), ReconciliationQueue.Priority.HIGH);
+        assertThat(operator.started.size(), is(1));
+
+        operator.promises.get(0).complete();
+        assertThat(operator.started.size(), is(2));
+        assertThat(operator.started.get(1).name(), is("a"));
+    }
+
+    @Test
+    public void testHighPriorityRunsFirst() {
+        ManualOperator operator = new ManualOperator();
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, 1);
+
+        queue.enqueue(reconciliation("a"), ReconciliationQueue.Priority.LOW);
+        queue.enqueue(reconciliation("b"), ReconciliationQueue.Priority.LOW);
+        queue.enqueue(reconciliation("c"), ReconciliationQueue.Priority.LOW);
+        queue.enqueue(reconciliation("d"), ReconciliationQueue.Priority.HIGH);
+        queue.enqueue(reconciliation("c"), ReconciliationQueue.Priority.HIGH);
+
+        for (int i = 0; i < 4; i++) {
+            operator.promises.get(i).complete();
+        }
+        List<String> order = new ArrayList<>();
+        for (Reconciliation r : operator.started) {
+            order.add(r.name());
+        }
+        assertThat(order, is(asList("a", "d", "c", "b")));
+    }
+
+    @Test
+    public void testFailureIsRetried(VertxTestContext context) {
+        ManualOperator operator = new ManualOperator() {
+            @Override
+            public synchronized Future<Void> reconcile(Reconciliation reconciliation) {
+                started.add(reconciliation);
+                return started.size() == 1 ? Future.failedFuture("Failed") : Future.succeededFuture();
+            }
+        };
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, 1, 10, 100, 3);
+
+        Checkpoint async = context.checkpoint();
+        queue.enqueue(reconciliation("a"), ReconciliationQueue.Priority.HIGH).setHandler(context.failing(e -> {
+            vertx.setTimer(200, timer -> context.verify(() -> {
+                assertThat(operator.started.size(), is(2));
+                assertThat(queue.size(), is(0));
+                async.flag();
+            }));
+        }));
+    }
+}
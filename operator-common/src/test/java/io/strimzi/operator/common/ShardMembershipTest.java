@@ -0,0 +1,79 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ShardMembershipTest {
+
+    private static final long LEASE_DURATION_MS = 15_000L;
+
+    private static ShardMembership membership(String identity) {
+        return new ShardMembership(null, null, "operator-ns", "test", identity, ShardMembership.Mode.RESOURCE, LEASE_DURATION_MS);
+    }
+
+    @Test
+    public void testResourcesAreSpreadAndOnlyMoveToNewMembers() {
+        ShardMembership.View two = new ShardMembership.View(new HashSet<>(asList("a", "b")), null, 0);
+        ShardMembership.View three = new ShardMembership.View(new HashSet<>(asList("a", "b", "c")), two, 0);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            String key = "ns/cluster-" + i;
+            String before = two.owner(key);
+            String after = three.owner(key);
+            counts.merge(after, 1, Integer::sum);
+            if (!before.equals(after)) {
+                assertThat(after, is("c"));
+            }
+        }
+        for (String member : asList("a", "b", "c")) {
+            assertThat(counts.get(member), is(greaterThan(500)));
+            assertThat(counts.get(member), is(lessThan(1500)));
+        }
+    }
+
+    @Test
+    public void testNewMemberWaitsForPreviousOwnerUntilSettled() {
+        ShardMembership c = membership("c");
+        ShardMembership.View two = new ShardMembership.View(new HashSet<>(asList("a", "b")), null, 0);
+        long changed = 1_000L;
+        ShardMembership.View three = new ShardMembership.View(new HashSet<>(asList("a", "b", "c")), two, changed);
+        ShardMembership.View cReplacesB = new ShardMembership.View(new HashSet<>(asList("a", "c")), two, changed);
+        long settled = changed + TimeUnit.MILLISECONDS.toNanos(LEASE_DURATION_MS);
+
+        int checked = 0;
+        for (int i = 0; i < 1000; i++) {
+            String key = "ns/cluster-" + i;
+            if ("c".equals(three.owner(key))) {
+                // Taken from a live member, so only once the membership has settled
+                assertThat(c.owns(three, key, changed + 1), is(false));
+                assertThat(c.owns(three, key, settled), is(true));
+                checked++;
+            }
+            if ("c".equals(cReplacesB.owner(key)) && "b".equals(two.owner(key))) {
+                // Taken from a member which has left, so straight away
+                assertThat(c.owns(cReplacesB, key, changed + 1), is(true));
+            }
+        }
+        assertThat(checked, is(greaterThan(0)));
+    }
+
+    @Test
+    public void testNothingIsOwnedBeforeJoining() {
+        assertThat(membership("a").owns("ns", "cluster"), is(false));
+    }
+}
@@ -4,14 +4,26 @@
  */
 package io.strimzi.operator.common;
 
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.strimzi.operator.common.Util.parseMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 public class UtilTest {
     @Test
@@ -73,4 +85,34 @@ public class UtilTest {
         assertThat(m.get("key1"), is("value1"));
         assertThat(m.get("key2"), is("value2=value3"));
     }
+
+    @Test
+    public void testWaitForIsCompletedByWatchEvent() throws InterruptedException {
+        Vertx vertx = Vertx.vertx();
+        try {
+            AtomicBoolean ready = new AtomicBoolean(false);
+            AtomicReference<Watcher<Pod>> watcher = new AtomicReference<>();
+            CountDownLatch watching = new CountDownLatch(1);
+            Watch watch = mock(Watch.class);
+
+            // The poll interval is much longer than we wait, so only the watch event can complete the future
+            Future<Void> result = Util.waitFor(vertx, "test", 60_000, 60_000, ready::get, (Watcher<Pod> w) -> {
+                watcher.set(w);
+                watching.countDown();
+                return watch;
+            });
+            assertThat(watching.await(10, TimeUnit.SECONDS), is(true));
+
+            CountDownLatch completed = new CountDownLatch(1);
+            result.setHandler(res -> completed.countDown());
+            ready.set(true);
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, new Pod());
+
+            assertThat(completed.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(result.succeeded(), is(true));
+            verify(watch, timeout(10_000)).close();
+        } finally {
+            vertx.close();
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class WorkerExecutorsTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testConfiguredSizes() {
+        WorkerExecutors executors = WorkerExecutors.configure(vertx, Collections.singletonMap("STRIMZI_ZOOKEEPER_OPS_POOL_SIZE", "7"));
+
+        assertThat(executors.executor(WorkerExecutors.Pool.ZOOKEEPER).size(), is(7));
+        assertThat(executors.executor(WorkerExecutors.Pool.KUBERNETES).size(), is(WorkerExecutors.Pool.KUBERNETES.defaultSize()));
+        assertThat(WorkerExecutors.get(vertx), is(sameInstance(executors)));
+        assertThat(WorkerExecutors.executor(vertx, WorkerExecutors.Pool.ZOOKEEPER), is(sameInstance(executors.executor(WorkerExecutors.Pool.ZOOKEEPER))));
+    }
+
+    @Test
+    public void testInvalidSize() {
+        assertThrows(InvalidConfigurationException.class,
+            () -> WorkerExecutors.configure(vertx, Collections.singletonMap("STRIMZI_KUBERNETES_OPS_POOL_SIZE", "0")));
+        assertThrows(InvalidConfigurationException.class,
+            () -> WorkerExecutors.configure(vertx, Collections.singletonMap("STRIMZI_KUBERNETES_OPS_POOL_SIZE", "ten")));
+    }
+
+    @Test
+    public void testTasksAreCounted(VertxTestContext context) {
+        WorkerExecutors executors = WorkerExecutors.get(vertx);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executors.bindTo(registry);
+        WorkerExecutors.InstrumentedExecutor executor = executors.executor(WorkerExecutors.Pool.KUBERNETES);
+
+        Checkpoint async = context.checkpoint();
+        executor.<String>executeBlocking(promise -> {
+            context.verify(() -> assertThat(executor.active(), is(1)));
+            promise.complete("done");
+        }, context.succeeding(result -> context.verify(() -> {
+            assertThat(result, is("done"));
+            assertThat(executor.queued(), is(0));
+            assertThat(executor.active(), is(0));
+            assertThat(executor.completed(), is(1L));
+            assertThat(registry.get("strimzi.worker.pool.completed").tag("pool", "kubernetes-ops-pool").functionCounter().count(), is(1.0));
+            async.flag();
+        })));
+    }
+}
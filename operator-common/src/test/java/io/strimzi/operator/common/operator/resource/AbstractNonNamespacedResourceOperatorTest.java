@@ -23,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
@@ -90,8 +91,10 @@ public abstract class AbstractNonNamespacedResourceOperatorTest<C extends Kubern
 
     public void createWhenExistsIsAPatch(VertxTestContext context, boolean cascade) {
         T resource = resource();
+        T current = resource();
+        current.getMetadata().setLabels(singletonMap("previous", "label"));
         Resource mockResource = mock(resourceType());
-        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.get()).thenReturn(current);
         when(mockResource.cascading(cascade)).thenReturn(mockResource);
         when(mockResource.patch(any())).thenReturn(resource);
 
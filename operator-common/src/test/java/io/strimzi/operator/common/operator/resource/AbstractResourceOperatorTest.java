@@ -9,9 +9,11 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +32,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -86,8 +90,10 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
 
     public void createWhenExistsIsAPatch(VertxTestContext context, boolean cascade) {
         T resource = resource();
+        T current = resource();
+        current.getMetadata().setLabels(singletonMap("previous", "label"));
         Resource mockResource = mock(resourceType());
-        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.get()).thenReturn(current);
         when(mockResource.cascading(cascade)).thenReturn(mockResource);
         when(mockResource.patch(any())).thenReturn(resource);
 
@@ -312,4 +318,54 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
                 async.flag();
             })));
     }
+
+    @Test
+    public void testWaitForResourceTestsTheResourceFromTheApiServer(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null, resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, D, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.waitForResource(NAMESPACE, RESOURCE_NAME, 10, 5_000, current -> current == resource)
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, times(2)).get();
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testListWithoutTheCacheLabelIsNotServedFromTheCache() {
+        KubernetesResourceList mockList = mock(KubernetesResourceList.class);
+        FilterWatchListDeletable mockFiltered = mock(FilterWatchListDeletable.class);
+        when(mockFiltered.list()).thenReturn(mockList);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withLabels(any())).thenReturn(mockFiltered);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, D, R> op = createResourceOperations(vertx, mockClient);
+        op.enableLabelCache(Labels.STRIMZI_CLUSTER_LABEL, 0);
+
+        op.list(NAMESPACE, Labels.fromMap(singletonMap("app", "my-app")));
+
+        verify(mockNameable).withLabels(singletonMap("app", "my-app"));
+        verify(mockNameable, never()).withLabel(any());
+        op.disableCache();
+    }
 }
@@ -72,8 +72,10 @@ public class PodDisruptionBudgetOperatorTest extends AbstractResourceOperatorTes
     @Override
     public void createWhenExistsIsAPatch(VertxTestContext context, boolean cascade) {
         PodDisruptionBudget resource = resource();
+        PodDisruptionBudget current = resource();
+        current.getMetadata().setLabels(singletonMap("previous", "label"));
         Resource mockResource = mock(resourceType());
-        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.get()).thenReturn(current);
         when(mockResource.create(any())).thenReturn(resource);
 
         Deletable mockDeletable = mock(Deletable.class);
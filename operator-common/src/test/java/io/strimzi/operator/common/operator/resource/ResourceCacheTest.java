@@ -0,0 +1,156 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.SecretList;
+import io.fabric8.kubernetes.api.model.SecretListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.WatchListDeletable;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "test";
+
+    private static Vertx vertx;
+
+    private WatchListDeletable<Secret, SecretList, Boolean, Watch, Watcher<Secret>> mockOperation;
+    private ArgumentCaptor<Watcher<Secret>> watcherCaptor;
+    private ResourceCache<Secret, SecretList> cache;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        mockOperation = mock(WatchListDeletable.class);
+        watcherCaptor = ArgumentCaptor.forClass(Watcher.class);
+        when(mockOperation.list()).thenReturn(new SecretListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(secret("a", "5", "x"), secret("b", "6", "y"))
+                .build());
+        when(mockOperation.watch(anyString(), watcherCaptor.capture())).thenReturn(mock(Watch.class));
+        cache = new ResourceCache<>(vertx, "Secret", namespace -> mockOperation, 0);
+    }
+
+    private static Secret secret(String name, String resourceVersion, String label) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(singletonMap("foo", label))
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testReadsAreServedFromSingleList() {
+        assertThat(cache.get(NAMESPACE, "a").getMetadata().getResourceVersion(), is("5"));
+        assertThat(cache.get(NAMESPACE, "b").getMetadata().getResourceVersion(), is("6"));
+        assertThat(cache.get(NAMESPACE, "c"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, null).size(), is(2));
+        assertThat(cache.list(NAMESPACE, singletonMap("foo", "x")).size(), is(1));
+
+        verify(mockOperation, times(1)).list();
+        verify(mockOperation).watch(eq("10"), any());
+    }
+
+    @Test
+    public void testReadsReturnCopies() {
+        Secret first = cache.get(NAMESPACE, "a");
+        first.getMetadata().setResourceVersion("99");
+
+        Secret second = cache.get(NAMESPACE, "a");
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.getMetadata().getResourceVersion(), is("5"));
+    }
+
+    @Test
+    public void testWatchEventsUpdateCache() {
+        cache.get(NAMESPACE, "a");
+        Watcher<Secret> watcher = watcherCaptor.getValue();
+
+        watcher.eventReceived(Watcher.Action.ADDED, secret("c", "11", "z"));
+        watcher.eventReceived(Watcher.Action.MODIFIED, secret("a", "12", "x"));
+        watcher.eventReceived(Watcher.Action.DELETED, secret("b", "13", "y"));
+
+        assertThat(cache.get(NAMESPACE, "c").getMetadata().getResourceVersion(), is("11"));
+        assertThat(cache.get(NAMESPACE, "a").getMetadata().getResourceVersion(), is("12"));
+        assertThat(cache.get(NAMESPACE, "b"), is(nullValue()));
+        verify(mockOperation, times(1)).list();
+    }
+
+    @Test
+    public void testUpdateDoesNotReplaceNewerResource() {
+        cache.get(NAMESPACE, "a");
+        watcherCaptor.getValue().eventReceived(Watcher.Action.MODIFIED, secret("a", "12", "x"));
+
+        cache.update(secret("a", "11", "x"));
+        assertThat(cache.get(NAMESPACE, "a").getMetadata().getResourceVersion(), is("12"));
+
+        cache.update(secret("a", "14", "x"));
+        assertThat(cache.get(NAMESPACE, "a").getMetadata().getResourceVersion(), is("14"));
+    }
+
+    @Test
+    public void testWatchFailureCausesRelist() {
+        cache.get(NAMESPACE, "a");
+        watcherCaptor.getValue().onClose(new KubernetesClientException("Gone", 410, null));
+
+        cache.get(NAMESPACE, "a");
+        verify(mockOperation, times(2)).list();
+        verify(mockOperation, times(2)).watch(eq("10"), any());
+    }
+
+    @Test
+    public void testRelistReplacesCachedResources() {
+        Secret before = cache.get(NAMESPACE, "b");
+        watcherCaptor.getValue().onClose(new KubernetesClientException("Gone", 410, null));
+        when(mockOperation.list()).thenReturn(new SecretListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("20")
+                .endMetadata()
+                .withItems(secret("b", "16", "y"))
+                .build());
+
+        assertThat(cache.get(NAMESPACE, "a"), is(nullValue()));
+        assertThat(cache.get(NAMESPACE, "b"), is(not(sameInstance(before))));
+        assertThat(cache.get(NAMESPACE, "b").getMetadata().getResourceVersion(), is("16"));
+        assertThat(cache.list(NAMESPACE, null).size(), is(1));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServiceStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceDiffTest {
+
+    private static final Pattern CLUSTER_IP = Pattern.compile("^/spec/clusterIP$");
+
+    private static Service service(String clusterIp, String labelValue) {
+        return new ServiceBuilder()
+                .withNewMetadata()
+                    .withName("my-service")
+                    .withNamespace("test")
+                    .withLabels(singletonMap("foo", labelValue))
+                .endMetadata()
+                .withNewSpec()
+                    .withClusterIP(clusterIp)
+                    .withType("ClusterIP")
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void testServerPopulatedFieldsAreIgnored() {
+        Service current = service("10.0.0.1", "bar");
+        current.getMetadata().setResourceVersion("123");
+        current.getMetadata().setCreationTimestamp("2020-01-01T00:00:00Z");
+        current.getMetadata().setAdditionalProperty("managedFields", singletonList(singletonMap("manager", "kube-controller-manager")));
+        current.setStatus(new ServiceStatus());
+
+        assertThat(new ResourceDiff<>("Service", current, service(null, "bar"), CLUSTER_IP).isEmpty(), is(true));
+        assertThat(new ResourceDiff<>("Service", current, service(null, "bar"), null).isEmpty(), is(false));
+    }
+
+    @Test
+    public void testChangesAreNotIgnored() {
+        assertThat(new ResourceDiff<>("Service", service("10.0.0.1", "bar"), service(null, "baz"), CLUSTER_IP).isEmpty(), is(false));
+        assertThat(new ResourceDiff<>("Service", service("10.0.0.1", "bar"), service("10.0.0.2", "bar"), CLUSTER_IP).isEmpty(), is(false));
+    }
+}
@@ -10,10 +10,23 @@ import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> {
@@ -50,4 +63,41 @@ public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesC
     protected AbstractResourceOperator<KubernetesClient, Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new SecretOperator(vertx, mockClient);
     }
+
+    @Test
+    public void testPatchIsSkippedWhenResourcesAreEqual(VertxTestContext context) {
+        Secret current = resource();
+        current.getMetadata().setResourceVersion("123");
+        current.getMetadata().setUid("abc");
+        current.setType("Opaque");
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.cascading(true)).thenReturn(mockResource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        when(mockSecrets.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(clientType());
+        mocker(mockClient, mockSecrets);
+
+        AbstractResourceOperator<KubernetesClient, Secret, SecretList, DoneableSecret, Resource<Secret, DoneableSecret>> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(resource()).setHandler(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr instanceof ReconcileResult.Noop, is(true));
+            verify(mockResource, never()).patch(any());
+            assertThat(op.skippedPatches(), is(1L));
+            assertThat(op.appliedPatches(), is(0L));
+
+            MeterRegistry registry = new SimpleMeterRegistry();
+            op.bindTo(registry);
+            assertThat(registry.get("strimzi.resource.patches").tag("kind", "Secret").tag("outcome", "skipped").functionCounter().count(), is(1.0));
+            assertThat(registry.get("strimzi.resource.patches").tag("kind", "Secret").tag("outcome", "applied").functionCounter().count(), is(0.0));
+            async.flag();
+        })));
+    }
 }
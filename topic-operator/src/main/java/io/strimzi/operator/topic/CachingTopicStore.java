@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link TopicStore} which serves reads from an in-memory copy of the topics in another store,
+ * writing changes through to that store.
+ * This relies on the Topic Operator being the only writer of the underlying store.
+ * Topics which are not in memory (because the cache has not been warmed with them, or because a write
+ * to the underlying store failed) are read from the underlying store.
+ * The number of reads served from memory and from the underlying store are counted in the
+ * {@code strimzi.topic.store.cache.reads} counter, tagged with a {@code result} of {@code hit} or {@code miss}.
+ */
+class CachingTopicStore implements TopicStore {
+
+    private final TopicStore delegate;
+    private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor
+     *
+     * @param delegate The underlying store.
+     * @param registry The registry in which the hit and miss counters are registered.
+     */
+    CachingTopicStore(TopicStore delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.hits = counter(registry, "hit");
+        this.misses = counter(registry, "miss");
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("strimzi.topic.store.cache.reads")
+                .description("Number of reads of the topic store, by whether they were served from memory")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Add the given topics, as listed from the underlying store, to the cache.
+     * Topics which have been written in the meantime are not overwritten.
+     * @param topics The topics.
+     */
+    void warm(Map<TopicName, Topic> topics) {
+        topics.forEach(this.topics::putIfAbsent);
+    }
+
+    @Override
+    public Future<Topic> read(TopicName name) {
+        Topic topic = topics.get(name);
+        if (topic != null) {
+            hits.increment();
+            return Future.succeededFuture(topic);
+        }
+        misses.increment();
+        return delegate.read(name).map(read -> {
+            if (read != null) {
+                topics.putIfAbsent(name, read);
+            }
+            return read;
+        });
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        return writeThrough(topic.getTopicName(), topic, delegate.create(topic));
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        return writeThrough(topic.getTopicName(), topic, delegate.update(topic));
+    }
+
+    @Override
+    public Future<Void> delete(TopicName name) {
+        return writeThrough(name, null, delegate.delete(name));
+    }
+
+    /**
+     * Apply the given write to the cache once the underlying store has completed it.
+     * If the write failed the state of the underlying store is unknown, so the topic
+     * is removed from the cache and will be read from the underlying store next time.
+     */
+    private Future<Void> writeThrough(TopicName name, Topic topic, Future<Void> write) {
+        return write.map(ignored -> {
+            if (topic != null) {
+                topics.put(name, topic);
+            } else {
+                topics.remove(name);
+            }
+            return ignored;
+        }).recover(error -> {
+            topics.remove(name);
+            return Future.failedFuture(error);
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "CachingTopicStore(" + delegate + ")";
+    }
+}
@@ -34,6 +34,14 @@ public class Config {
         }
     };
 
+    /** A java Boolean */
+    private static final Type<? extends Boolean> BOOLEAN = new Type<Boolean>() {
+        @Override
+        public Boolean parse(String s) {
+            return Boolean.parseBoolean(s);
+        }
+    };
+
     /** A Java Integer */
     private static final Type<? extends Integer> POSITIVE_INTEGER = new Type<Integer>() {
         @Override
@@ -46,6 +54,18 @@ public class Config {
         }
     };
 
+    /** A Java Integer which is zero or more */
+    private static final Type<? extends Integer> NON_NEGATIVE_INTEGER = new Type<Integer>() {
+        @Override
+        Integer parse(String s) {
+            int value = Integer.parseInt(s);
+            if (value < 0) {
+                throw new IllegalArgumentException("The value must not be negative");
+            }
+            return value;
+        }
+    };
+
     /**
      * A time duration.
      */
@@ -67,6 +87,19 @@ public class Config {
         }
     };
 
+    /**
+     * The kind of topic store.
+     */
+    private static final Type<? extends String> TOPIC_STORE_TYPE = new Type<String>() {
+        @Override
+        public String parse(String s) {
+            if (!TOPIC_STORE_ZOOKEEPER.equals(s) && !TOPIC_STORE_KAFKA.equals(s)) {
+                throw new IllegalArgumentException("The value must be either " + TOPIC_STORE_ZOOKEEPER + " or " + TOPIC_STORE_KAFKA);
+            }
+            return s;
+        }
+    };
+
     static class Value<T> {
         public final String key;
         public final String defaultValue;
@@ -100,6 +133,18 @@ public class Config {
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    public static final String TC_RECONCILIATION_PAGE_SIZE = "STRIMZI_RECONCILIATION_PAGE_SIZE";
+    public static final String TC_RECONCILIATION_MAX_IN_FLIGHT = "STRIMZI_RECONCILIATION_MAX_IN_FLIGHT";
+    public static final String TC_RECONCILIATION_SWEEP_DURATION_MS = "STRIMZI_RECONCILIATION_SWEEP_DURATION_MS";
+    public static final String TC_TOPIC_STORE = "STRIMZI_TOPIC_STORE";
+    public static final String TC_TOPIC_STORE_TOPIC = "STRIMZI_TOPIC_STORE_TOPIC";
+    public static final String TC_TOPIC_STORE_TOPIC_REPLICATION_FACTOR = "STRIMZI_TOPIC_STORE_TOPIC_REPLICATION_FACTOR";
+    public static final String TC_TOPIC_STORE_DELETE_MIGRATED_ZNODES = "STRIMZI_TOPIC_STORE_DELETE_MIGRATED_ZNODES";
+
+    public static final String TC_CONFIG_CHANGE_NOTIFICATIONS_ENABLED = "STRIMZI_CONFIG_CHANGE_NOTIFICATIONS_ENABLED";
+
+    public static final String TOPIC_STORE_ZOOKEEPER = "zookeeper";
+    public static final String TOPIC_STORE_KAFKA = "kafka";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     public static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -145,6 +190,43 @@ public class Config {
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
+    /** The number of topics whose metadata is fetched and reconciled together during full reconciliations */
+    public static final Value<Integer> RECONCILIATION_PAGE_SIZE = new Value<>(TC_RECONCILIATION_PAGE_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximum number of topics reconciled at the same time during full reconciliations, or 0 for no limit */
+    public static final Value<Integer> RECONCILIATION_MAX_IN_FLIGHT = new Value<>(TC_RECONCILIATION_MAX_IN_FLIGHT, NON_NEGATIVE_INTEGER, "0");
+
+    /**
+     * The duration over which the start of the reconciliations of the topics is spread during full reconciliations,
+     * or 0 for starting them all straight away.
+     */
+    public static final Value<Long> RECONCILIATION_SWEEP_DURATION_MS = new Value<>(TC_RECONCILIATION_SWEEP_DURATION_MS, DURATION, "0");
+
+    /**
+     * Where the topic state is stored: {@code zookeeper} for znodes under {@link #TOPICS_PATH},
+     * or {@code kafka} for the compacted topic {@link #TOPIC_STORE_TOPIC}.
+     */
+    public static final Value<String> TOPIC_STORE = new Value<>(TC_TOPIC_STORE, TOPIC_STORE_TYPE, TOPIC_STORE_ZOOKEEPER);
+
+    /** The name of the compacted topic storing the topic state when {@link #TOPIC_STORE} is {@code kafka}. */
+    public static final Value<String> TOPIC_STORE_TOPIC = new Value<>(TC_TOPIC_STORE_TOPIC, STRING, "__strimzi_store_topic");
+
+    /** The replication factor with which the {@link #TOPIC_STORE_TOPIC} is created. */
+    public static final Value<Integer> TOPIC_STORE_TOPIC_REPLICATION_FACTOR = new Value<>(TC_TOPIC_STORE_TOPIC_REPLICATION_FACTOR, POSITIVE_INTEGER, "3");
+
+    /**
+     * Whether the znodes under {@link #TOPICS_PATH} are deleted once their topics have been migrated
+     * to the {@link #TOPIC_STORE_TOPIC}.
+     */
+    public static final Value<Boolean> TOPIC_STORE_DELETE_MIGRATED_ZNODES = new Value<>(TC_TOPIC_STORE_DELETE_MIGRATED_ZNODES, BOOLEAN, "false");
+
+    /**
+     * Whether topic config changes are found from the notifications under {@code /config/changes}, rather than
+     * watching the config znode of each topic, and partition changes only by the periodic reconciliation,
+     * rather than watching the znode of each topic.
+     */
+    public static final Value<Boolean> CONFIG_CHANGE_NOTIFICATIONS_ENABLED = new Value<>(TC_CONFIG_CHANGE_NOTIFICATIONS_ENABLED, BOOLEAN, "false");
+
     /** If the connection with Kafka has to be encrypted by TLS protocol */
     public static final Value<String> TLS_ENABLED = new Value<>(TC_TLS_ENABLED, STRING, "false");
     /** The truststore with CA certificate for Kafka broker/server authentication */
@@ -169,6 +251,14 @@ public class Config {
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
         addConfigValue(configValues, TOPICS_PATH);
+        addConfigValue(configValues, RECONCILIATION_PAGE_SIZE);
+        addConfigValue(configValues, RECONCILIATION_MAX_IN_FLIGHT);
+        addConfigValue(configValues, RECONCILIATION_SWEEP_DURATION_MS);
+        addConfigValue(configValues, TOPIC_STORE);
+        addConfigValue(configValues, TOPIC_STORE_TOPIC);
+        addConfigValue(configValues, TOPIC_STORE_TOPIC_REPLICATION_FACTOR);
+        addConfigValue(configValues, TOPIC_STORE_DELETE_MIGRATED_ZNODES);
+        addConfigValue(configValues, CONFIG_CHANGE_NOTIFICATIONS_ENABLED);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
         addConfigValue(configValues, TLS_TRUSTSTORE_PASSWORD);
@@ -4,8 +4,13 @@
  */
 package io.strimzi.operator.topic;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -65,6 +70,28 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka,
+     * completing the returned Future with a map from each of the given topics to its metadata.
+     * Implementations should fetch the metadata of several topics with each request.
+     * If a topic does not exist its metadata in the returned map will be null.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the requested metadata.
+     */
+    default Future<Map<TopicName, TopicMetadata>> topicsMetadata(Set<TopicName> topicNames) {
+        Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+        List<Future> futures = new ArrayList<>(topicNames.size());
+        for (TopicName topicName : topicNames) {
+            futures.add(topicMetadata(topicName).map(metadata -> {
+                result.put(topicName, metadata);
+                return null;
+            }));
+        }
+        return CompositeFuture.all(futures).map(result);
+    }
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
@@ -5,9 +5,9 @@
 package io.strimzi.operator.topic;
 
 import io.strimzi.operator.common.Util;
-import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -23,10 +23,15 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 /**
  * Partial implementation of {@link Kafka} omitting those methods which imply a partition assignment.
@@ -38,6 +43,9 @@ public class KafkaImpl implements Kafka {
 
     private final static Logger LOGGER = LogManager.getLogger(KafkaImpl.class);
 
+    /** The maximum number of topics described by a single describeTopics or describeConfigs request */
+    static final int MAX_TOPICS_PER_REQUEST = 100;
+
     protected final AdminClient adminClient;
 
     protected final Vertx vertx;
@@ -53,164 +61,35 @@ public class KafkaImpl implements Kafka {
         this.stopped = true;
     }
 
-    abstract class Work implements Runnable, Handler<Void> {
-        @Override
-        public void run() {
-            if (!stopped && !complete()) {
-                vertx.runOnContext(this);
-            }
-        }
-
-        @Override
-        public void handle(Void v) {
-            run();
-        }
-
-        protected abstract boolean complete();
-    }
-
-    /** Some work that depends on a single future */
-    class UniWork<T> extends Work {
-        private final KafkaFuture<T> future;
-        private final Handler<AsyncResult<T>> handler;
-        private final String name;
-
-        public UniWork(String name, KafkaFuture<T> future, Handler<AsyncResult<T>> handler) {
-            if (future == null) {
-                throw new NullPointerException();
-            }
-            if (handler == null) {
-                throw new NullPointerException();
-            }
-            this.future = future;
-            this.handler = handler;
-            this.name = name;
-        }
-
-        @Override
-        protected boolean complete() {
-            if (this.future.isDone()) {
-                LOGGER.trace("Future {} of work {} is done", future, this);
-                try {
-                    try {
-                        T result = this.future.get();
-                        LOGGER.debug("Future {} has result {}", future, result);
-                        this.handler.handle(Future.succeededFuture(result));
-                        LOGGER.debug("Handler for work {} executed ok", this);
-                    } catch (ExecutionException e) {
-                        LOGGER.debug("Future {} threw {}", future, e.toString());
-                        this.handler.handle(Future.failedFuture(e.getCause()));
-                    } catch (InterruptedException e) {
-                        LOGGER.debug("Future {} threw {}", future, e.toString());
-                        this.handler.handle(Future.failedFuture(e));
-                    }
-                } catch (OperatorException e) {
-                    // TODO handler threw, but I have no context for creating a k8s error event
-                    LOGGER.trace("Handler for work {} threw {}", this, e.toString());
-                    e.printStackTrace();
-                }
-                return true;
-            } else {
-                if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("Future {} is not done", future);
-                }
-                return false;
-            }
-        }
-
-        @Override
-        public String toString() {
-            return name + System.identityHashCode(this);
-        }
-    }
-
-    /** Some work that depends on two futures */
-    class MetadataWork extends Work {
-        private final KafkaFuture<TopicDescription> descFuture;
-        private final KafkaFuture<Config> configFuture;
-        private final Handler<AsyncResult<TopicMetadata>> handler;
-        private boolean handled = false;
-
-        public MetadataWork(KafkaFuture<TopicDescription> descFuture,
-                            KafkaFuture<Config> configFuture, Handler<AsyncResult<TopicMetadata>> handler) {
-            if (descFuture == null) {
-                throw new NullPointerException();
-            }
-            if (configFuture == null) {
-                throw new NullPointerException();
-            }
-            if (handler == null) {
-                throw new NullPointerException();
-            }
-            this.descFuture = descFuture;
-            this.configFuture = configFuture;
-            this.handler = handler;
-        }
-
-
-        private <T> T result(KafkaFuture<T> future) {
-            T result;
-            try {
-                result = future.get();
-                LOGGER.trace("Future {} has result {}", future, result);
-            } catch (ExecutionException e) {
-                if (e.getCause() instanceof UnknownTopicOrPartitionException) {
-                    result = null;
-                } else {
-                    LOGGER.debug("Future {} threw {}", future, e.toString());
-                    if (!handled) {
-                        handler.handle(Future.failedFuture(e.getCause()));
-                    }
-                    handled = true;
-                    return null;
-                }
-            } catch (InterruptedException e) {
-                LOGGER.debug("Future {} threw {}", future, e.toString());
-                if (!handled) {
-                    handler.handle(Future.failedFuture(e));
-                }
-                handled = true;
-                return null;
-            }
-            return result;
-        }
-
-        @Override
-        protected boolean complete() {
-            if (this.descFuture.isDone()
-                    && this.configFuture.isDone()) {
-                final TopicDescription desc = result(this.descFuture);
-                final Config config = result(this.configFuture);
-                if (!handled) {
-                    TopicMetadata metadata;
-                    if (desc != null && config != null) {
-                        metadata = new TopicMetadata(desc, config);
-                    } else {
-                        metadata = null;
-                    }
-                    this.handler.handle(Future.succeededFuture(metadata));
-                    this.handled = true;
-                    LOGGER.trace("Handler for work {} executed ok", this);
-                } else {
-                }
-                return handled;
+    /**
+     * Adapt the given KafkaFuture to a Vert.x Future which is completed on the Vert.x context of the caller
+     * when the KafkaFuture completes. Nothing runs on the context while the KafkaFuture is pending.
+     */
+    protected <T> Future<T> toFuture(String name, KafkaFuture<T> kafkaFuture) {
+        Promise<T> promise = Promise.promise();
+        Context context = vertx.getOrCreateContext();
+        kafkaFuture.whenComplete((result, error) -> context.runOnContext(ignored -> {
+            if (stopped) {
+                LOGGER.trace("Ignoring completion of {} after stop", name);
+            } else if (error != null) {
+                Throwable cause = error instanceof ExecutionException || error instanceof CompletionException ?
+                        error.getCause() : error;
+                LOGGER.debug("Future {} of {} threw {}", kafkaFuture, name, cause.toString());
+                promise.fail(cause);
             } else {
-                if (!this.descFuture.isDone())
-                    LOGGER.trace("Description future {} is not done", descFuture);
-                if (!this.configFuture.isDone())
-                    LOGGER.trace("Config future {} is not done", configFuture);
-                return false;
+                LOGGER.trace("Future {} of {} has result {}", kafkaFuture, name, result);
+                promise.complete(result);
             }
-        }
+        }));
+        return promise.future();
     }
 
     /**
-     * Queue a future and callback. The callback will be invoked (on a separate thread)
-     * when the future is ready.
+     * Like {@link #toFuture(String, KafkaFuture)}, but completed with null when the topic does not exist.
      */
-    protected void queueWork(Work work) {
-        LOGGER.trace("Queuing work {} for immediate execution", work);
-        vertx.runOnContext(work);
+    private <T> Future<T> toFutureOrNullIfUnknown(String name, KafkaFuture<T> kafkaFuture) {
+        return toFuture(name, kafkaFuture).recover(error -> error instanceof UnknownTopicOrPartitionException ?
+                Future.succeededFuture() : Future.failedFuture(error));
     }
 
     /**
@@ -219,12 +98,10 @@ public class KafkaImpl implements Kafka {
      */
     @Override
     public Future<Void> deleteTopic(TopicName topicName) {
-        Promise<Void> handler = Promise.promise();
         LOGGER.debug("Deleting topic {}", topicName);
         KafkaFuture<Void> future = adminClient.deleteTopics(
                 Collections.singleton(topicName.toString())).values().get(topicName.toString());
-        queueWork(new UniWork<>("deleteTopic", future, handler));
-        return handler.future().compose(ig ->
+        return toFuture("deleteTopic", future).compose(ig ->
                 Util.waitFor(vertx, "deleted sync " + topicName, 1000, 120_000, () -> {
                     try {
                         return adminClient.describeTopics(Collections.singleton(topicName.toString())).all().get().get(topicName.toString()) == null;
@@ -243,11 +120,9 @@ public class KafkaImpl implements Kafka {
     @SuppressWarnings("deprecation")
     @Override
     public Future<Void> updateTopicConfig(Topic topic) {
-        Promise<Void> handler = Promise.promise();
         Map<ConfigResource, Config> configs = TopicSerialization.toTopicConfig(topic);
         KafkaFuture<Void> future = adminClient.alterConfigs(configs).values().get(configs.keySet().iterator().next());
-        queueWork(new UniWork<>("updateTopicConfig", future, handler));
-        return handler.future();
+        return toFuture("updateTopicConfig", future);
     }
 
     /**
@@ -256,41 +131,75 @@ public class KafkaImpl implements Kafka {
      */
     @Override
     public Future<TopicMetadata> topicMetadata(TopicName topicName) {
-        Promise<TopicMetadata> handler = Promise.promise();
         LOGGER.debug("Getting metadata for topic {}", topicName);
         ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
         KafkaFuture<TopicDescription> descriptionFuture = adminClient.describeTopics(
                 Collections.singleton(topicName.toString())).values().get(topicName.toString());
         KafkaFuture<Config> configFuture = adminClient.describeConfigs(
                 Collections.singleton(resource)).values().get(resource);
-        queueWork(new MetadataWork(descriptionFuture,
-            configFuture,
-            result -> handler.handle(result)));
-        return handler.future();
+        return topicMetadata(descriptionFuture, configFuture);
+    }
+
+    /**
+     * Get the metadata of many topics via the Kafka AdminClient API, describing up to
+     * {@link #MAX_TOPICS_PER_REQUEST} topics with each request.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Set<TopicName> topicNames) {
+        LOGGER.debug("Getting metadata for {} topics", topicNames.size());
+        Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+        List<Future> futures = new ArrayList<>(topicNames.size());
+        List<TopicName> names = new ArrayList<>(topicNames);
+        for (int from = 0; from < names.size(); from += MAX_TOPICS_PER_REQUEST) {
+            List<TopicName> batch = names.subList(from, Math.min(from + MAX_TOPICS_PER_REQUEST, names.size()));
+            List<String> topics = batch.stream().map(TopicName::toString).collect(Collectors.toList());
+            List<ConfigResource> resources = topics.stream()
+                    .map(topic -> new ConfigResource(ConfigResource.Type.TOPIC, topic))
+                    .collect(Collectors.toList());
+            Map<String, KafkaFuture<TopicDescription>> descriptionFutures = adminClient.describeTopics(topics).values();
+            Map<ConfigResource, KafkaFuture<Config>> configFutures = adminClient.describeConfigs(resources).values();
+            for (int i = 0; i < batch.size(); i++) {
+                TopicName topicName = batch.get(i);
+                futures.add(topicMetadata(descriptionFutures.get(topics.get(i)), configFutures.get(resources.get(i)))
+                    .map(metadata -> {
+                        result.put(topicName, metadata);
+                        return null;
+                    }));
+            }
+        }
+        return CompositeFuture.all(futures).map(result);
+    }
+
+    private Future<TopicMetadata> topicMetadata(KafkaFuture<TopicDescription> descriptionFuture, KafkaFuture<Config> configFuture) {
+        Future<TopicDescription> description = toFutureOrNullIfUnknown("describeTopics", descriptionFuture);
+        Future<Config> config = toFutureOrNullIfUnknown("describeConfigs", configFuture);
+        return CompositeFuture.all(description, config).map(ignored -> {
+            if (description.result() != null && config.result() != null) {
+                return new TopicMetadata(description.result(), config.result());
+            } else {
+                return null;
+            }
+        });
     }
 
     @Override
     public Future<Set<String>> listTopics() {
-        Promise<Set<String>> handler = Promise.promise();
         LOGGER.debug("Listing topics");
 
         ListTopicsOptions listOptions = new ListTopicsOptions();
         listOptions.listInternal(true);
 
         ListTopicsResult future = adminClient.listTopics(listOptions);
-        queueWork(new UniWork<>("listTopics", future.names(), handler));
-        return handler.future();
+        return toFuture("listTopics", future.names());
     }
 
 
     @Override
     public Future<Void> increasePartitions(Topic topic) {
-        Promise<Void> handler = Promise.promise();
         final NewPartitions newPartitions = NewPartitions.increaseTo(topic.getNumPartitions());
         final Map<String, NewPartitions> request = Collections.singletonMap(topic.getTopicName().toString(), newPartitions);
         KafkaFuture<Void> future = adminClient.createPartitions(request).values().get(topic.getTopicName().toString());
-        queueWork(new UniWork<>("increasePartitions", future, handler));
-        return handler.future();
+        return toFuture("increasePartitions", future);
     }
 
     /**
@@ -299,14 +208,12 @@ public class KafkaImpl implements Kafka {
      */
     @Override
     public Future<Void> createTopic(Topic topic) {
-        Promise<Void> handler = Promise.promise();
         NewTopic newTopic = TopicSerialization.toNewTopic(topic, null);
 
         LOGGER.debug("Creating topic {}", newTopic);
         KafkaFuture<Void> future = adminClient.createTopics(
                 Collections.singleton(newTopic)).values().get(newTopic.name());
-        queueWork(new UniWork<>("createTopic", future, handler));
-        return handler.future();
+        return toFuture("createTopic", future);
     }
 
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Writes the status of {@code KafkaTopic} resources, with at most {@code maxInFlight} updates in progress at once.
+ * The other updates wait in a queue and are written in the order they were submitted. Updates of the same resource
+ * never wait together, because the operator waits for each status update before releasing the topic's lock.
+ * The generation of each resource as of its last status update is remembered, so that the watch events caused by
+ * the operator's own status updates can be ignored. Only the {@code maxTrackedGenerations} most recently used
+ * resources are remembered: forgetting a resource just means the event caused by its next status update will be
+ * reconciled rather than ignored.
+ */
+class KafkaTopicStatusWriter {
+
+    private final K8s k8s;
+    private final int maxInFlight;
+
+    /** The updates waiting to be written, in the order they were submitted */
+    private final Queue<Pending> waiting = new ArrayDeque<>();
+    private int inFlight;
+    private final Map<String, Long> generations;
+
+    private static class Pending {
+        private final KafkaTopic resource;
+        private final Promise<KafkaTopic> result = Promise.promise();
+
+        Pending(KafkaTopic resource) {
+            this.resource = resource;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param k8s The Kubernetes client.
+     * @param maxInFlight The maximum number of status updates in progress at once.
+     * @param maxTrackedGenerations The maximum number of resources whose generation is remembered.
+     */
+    KafkaTopicStatusWriter(K8s k8s, int maxInFlight, int maxTrackedGenerations) {
+        this.k8s = k8s;
+        this.maxInFlight = maxInFlight;
+        this.generations = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxTrackedGenerations;
+            }
+        };
+    }
+
+    /**
+     * Update the status of the given resource to its {@code status}.
+     * @param resource The resource, with the status to be written.
+     * @return A future which completes with the updated resource.
+     */
+    Future<KafkaTopic> write(KafkaTopic resource) {
+        Pending pending = new Pending(resource);
+        synchronized (this) {
+            waiting.add(pending);
+        }
+        flush();
+        return pending.result.future();
+    }
+
+    private void flush() {
+        List<Pending> toWrite = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < maxInFlight && !waiting.isEmpty()) {
+                toWrite.add(waiting.remove());
+                inFlight++;
+            }
+        }
+        for (Pending pending : toWrite) {
+            k8s.updateResourceStatus(pending.resource).setHandler(ar -> {
+                synchronized (this) {
+                    inFlight--;
+                    if (ar.succeeded() && ar.result() != null) {
+                        generations.put(ar.result().getMetadata().getName(), ar.result().getMetadata().getGeneration());
+                    }
+                }
+                try {
+                    pending.result.handle(ar);
+                } finally {
+                    flush();
+                }
+            });
+        }
+    }
+
+    /**
+     * @param name The name of a resource.
+     * @return The generation of the resource as of its last status update by this writer, or null if not known.
+     */
+    synchronized Long lastWrittenGeneration(String name) {
+        return generations.get(name);
+    }
+
+    /**
+     * Forget the generation of a resource which has been deleted.
+     * @param name The name of the resource.
+     */
+    synchronized void forget(String name) {
+        generations.remove(name);
+    }
+
+    /* test */ synchronized int trackedGenerations() {
+        return generations.size();
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.WorkerExecutors;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.I0Itec.zkclient.exception.ZkNoNodeException;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link TopicStore} that stores the topic state in a compacted Kafka topic.
+ * The content of the topic is loaded into memory by {@link #start()}, so reads don't need to call Kafka,
+ * and changes are written to the topic, being applied in memory once they have been acknowledged.
+ * This relies on the Topic Operator being the only writer of the topic.
+ *
+ * <p>The topic is created compacted, with the configured replication factor and {@code min.insync.replicas} of 2
+ * (or of the replication factor, if lower), so that acknowledged writes survive the loss of a broker.</p>
+ *
+ * <p>Besides the topics, the topic holds a marker recording that the content of the {@link ZkTopicStore}
+ * has been {@linkplain #migrateFrom(Zk, String, boolean) migrated}. Its key is not a valid topic name.</p>
+ */
+public class KafkaTopicStore implements TopicStore {
+
+    private final static Logger LOGGER = LogManager.getLogger(KafkaTopicStore.class);
+
+    private static final long LOAD_TIMEOUT_MS = 120_000L;
+
+    /** The key of the record marking that the topics have been migrated from ZooKeeper */
+    private static final String MIGRATED_KEY = "/migrated-from-zookeeper";
+
+    private final Vertx vertx;
+    private final AdminClient adminClient;
+    private final String storeTopic;
+    private final short replicationFactor;
+    private final Properties kafkaClientProps;
+    private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+    private volatile Producer<String, byte[]> producer;
+    private volatile boolean migrated = false;
+
+    /**
+     * Constructor
+     *
+     * @param vertx The Vertx instance.
+     * @param adminClient The AdminClient used to create the store topic.
+     * @param storeTopic The name of the compacted topic holding the topic state.
+     * @param replicationFactor The replication factor of the store topic, used when creating it.
+     * @param kafkaClientProps The properties for connecting to Kafka, such as the bootstrap servers and TLS settings.
+     */
+    public KafkaTopicStore(Vertx vertx, AdminClient adminClient, String storeTopic, short replicationFactor, Properties kafkaClientProps) {
+        this.vertx = vertx;
+        this.adminClient = adminClient;
+        this.storeTopic = storeTopic;
+        this.replicationFactor = replicationFactor;
+        this.kafkaClientProps = kafkaClientProps;
+    }
+
+    /**
+     * Create the store topic if it doesn't exist yet and load its content.
+     * @return A future which completes when the store is ready to be used.
+     */
+    public Future<Void> start() {
+        Promise<Void> created = Promise.promise();
+        Context context = vertx.getOrCreateContext();
+        Map<String, String> configs = new HashMap<>(2);
+        configs.put(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT);
+        configs.put(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, Integer.toString(Math.min(2, replicationFactor)));
+        NewTopic newTopic = new NewTopic(storeTopic, Optional.of(1), Optional.of(replicationFactor)).configs(configs);
+        adminClient.createTopics(Collections.singleton(newTopic)).values().get(storeTopic)
+            .whenComplete((ignored, error) -> context.runOnContext(v -> {
+                Throwable cause = unwrap(error);
+                if (cause == null || cause instanceof TopicExistsException) {
+                    created.complete();
+                } else {
+                    created.fail(cause);
+                }
+            }));
+        return created.future().compose(ignored -> {
+            Promise<Void> loaded = Promise.promise();
+            WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KAFKA_ADMIN).executeBlocking(blockingFuture -> {
+                try {
+                    load();
+                    Producer<String, byte[]> producer = new KafkaProducer<>(producerProps());
+                    // Fetch the metadata now, so that sending doesn't block the event loop waiting for it
+                    producer.partitionsFor(storeTopic);
+                    this.producer = producer;
+                    blockingFuture.complete();
+                } catch (Throwable t) {
+                    blockingFuture.fail(t);
+                }
+            }, loaded);
+            return loaded.future();
+        });
+    }
+
+    /**
+     * Close the producer used for writing to the store topic.
+     */
+    public void stop() {
+        Producer<String, byte[]> producer = this.producer;
+        if (producer != null) {
+            producer.close(Duration.ofSeconds(10));
+        }
+    }
+
+    private void load() throws InterruptedException {
+        try (Consumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps())) {
+            long deadline = System.currentTimeMillis() + LOAD_TIMEOUT_MS;
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(storeTopic);
+            while (partitionInfos == null || partitionInfos.isEmpty()) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new TimeoutException("Timeout waiting for the metadata of topic " + storeTopic);
+                }
+                Thread.sleep(1_000);
+                partitionInfos = consumer.partitionsFor(storeTopic);
+            }
+            List<TopicPartition> partitions = partitionInfos.stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .collect(Collectors.toList());
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            while (partitions.stream().anyMatch(partition -> consumer.position(partition) < endOffsets.get(partition))) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new TimeoutException("Timeout reading topic " + storeTopic);
+                }
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofSeconds(1))) {
+                    if (MIGRATED_KEY.equals(record.key())) {
+                        migrated = record.value() != null;
+                        continue;
+                    }
+                    TopicName topicName = new TopicName(record.key());
+                    if (record.value() == null) {
+                        topics.remove(topicName);
+                    } else {
+                        topics.put(topicName, TopicSerialization.fromJson(record.value()));
+                    }
+                }
+            }
+            LOGGER.info("Loaded {} topics from topic {}", topics.size(), storeTopic);
+        }
+    }
+
+    private Properties producerProps() {
+        Properties props = new Properties();
+        props.putAll(kafkaClientProps);
+        props.setProperty(ProducerConfig.ACKS_CONFIG, "all");
+        props.setProperty(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+        props.setProperty(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        props.setProperty(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        return props;
+    }
+
+    private Properties consumerProps() {
+        Properties props = new Properties();
+        props.putAll(kafkaClientProps);
+        props.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.setProperty(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.setProperty(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        return props;
+    }
+
+    /**
+     * Write the given value (or tombstone, when null) for the given topic to the store topic,
+     * applying it to the in-memory view once the write has been acknowledged.
+     */
+    private Future<Void> write(TopicName topicName, Topic topic) {
+        byte[] value = topic != null ? TopicSerialization.toJson(topic) : null;
+        return send(topicName.toString(), value, () -> {
+            if (topic != null) {
+                topics.put(topicName, topic);
+            } else {
+                topics.remove(topicName);
+            }
+        });
+    }
+
+    /**
+     * Write the given record to the store topic, running {@code onAcknowledged} once the write has been acknowledged.
+     */
+    private Future<Void> send(String key, byte[] value, Runnable onAcknowledged) {
+        Promise<Void> promise = Promise.promise();
+        Context context = vertx.getOrCreateContext();
+        LOGGER.debug("write {} to topic {}", key, storeTopic);
+        producer.send(new ProducerRecord<>(storeTopic, key, value), (metadata, error) -> {
+            if (error == null) {
+                onAcknowledged.run();
+            }
+            context.runOnContext(v -> {
+                if (error != null) {
+                    promise.fail(error);
+                } else {
+                    promise.complete();
+                }
+            });
+        });
+        return promise.future();
+    }
+
+    @Override
+    public Future<Topic> read(TopicName topicName) {
+        return Future.succeededFuture(topics.get(topicName));
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        if (topics.containsKey(topic.getTopicName())) {
+            return Future.failedFuture(new EntityExistsException());
+        }
+        return write(topic.getTopicName(), topic);
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        if (!topics.containsKey(topic.getTopicName())) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        return write(topic.getTopicName(), topic);
+    }
+
+    @Override
+    public Future<Void> delete(TopicName topicName) {
+        if (!topics.containsKey(topicName)) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        return write(topicName, null);
+    }
+
+    /**
+     * Copy the topics stored by a {@link ZkTopicStore} under the given path into this store, unless this has
+     * already been done. Topics which are already in this store are not overwritten. Once all the topics have been
+     * copied, a marker is written to the store topic, so that the migration happens only once.
+     * The znodes are kept, so that the ZooKeeper store can still be used, unless {@code deleteMigrated} is true,
+     * in which case they are deleted once the marker has been written.
+     * @param zk The ZooKeeper client.
+     * @param topicsPath The path of the znodes of the {@link ZkTopicStore}.
+     * @param deleteMigrated Whether to delete the znodes once the migration is complete.
+     * @return A future which completes once all the topics have been migrated.
+     */
+    public Future<Void> migrateFrom(Zk zk, String topicsPath, boolean deleteMigrated) {
+        Promise<List<String>> children = Promise.promise();
+        zk.children(topicsPath, children);
+        return children.future().recover(error -> error instanceof ZkNoNodeException ?
+                Future.succeededFuture(Collections.emptyList()) : Future.failedFuture(error))
+            .compose(names -> {
+                if (names.isEmpty() || migrated && !deleteMigrated) {
+                    return Future.succeededFuture();
+                }
+                Future<Void> copied = migrated ? Future.succeededFuture() : copy(zk, topicsPath, names);
+                return deleteMigrated ? copied.compose(ignored -> delete(zk, topicsPath, names)) : copied;
+            });
+    }
+
+    private Future<Void> copy(Zk zk, String topicsPath, List<String> names) {
+        LOGGER.info("Migrating {} topics from ZooKeeper path {} to topic {}", names.size(), topicsPath, storeTopic);
+        List<Future> futures = new ArrayList<>(names.size());
+        for (String name : names) {
+            futures.add(migrate(zk, topicsPath + "/" + name, new TopicName(name)));
+        }
+        return CompositeFuture.all(futures)
+            .compose(ignored -> send(MIGRATED_KEY, topicsPath.getBytes(StandardCharsets.UTF_8), () -> migrated = true))
+            .map(ignored -> {
+                LOGGER.info("Migrated {} topics from ZooKeeper path {} to topic {}", names.size(), topicsPath, storeTopic);
+                return null;
+            });
+    }
+
+    private Future<Void> migrate(Zk zk, String path, TopicName topicName) {
+        Promise<byte[]> data = Promise.promise();
+        zk.getData(path, data);
+        return data.future().compose(bytes -> {
+            if (topics.containsKey(topicName)) {
+                return Future.succeededFuture();
+            }
+            return write(topicName, TopicSerialization.fromJson(bytes));
+        });
+    }
+
+    private Future<Void> delete(Zk zk, String topicsPath, List<String> names) {
+        LOGGER.info("Deleting {} migrated topics from ZooKeeper path {}", names.size(), topicsPath);
+        List<Future> futures = new ArrayList<>(names.size());
+        for (String name : names) {
+            Promise<Void> deleted = Promise.promise();
+            zk.delete(topicsPath + "/" + name, -1, deleted);
+            futures.add(deleted.future());
+        }
+        return CompositeFuture.all(futures).mapEmpty();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof ExecutionException || error instanceof CompletionException ? error.getCause() : error;
+    }
+
+    @Override
+    public String toString() {
+        return "KafkaTopicStore(" + storeTopic + ")";
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs asynchronous actions one at a time for each key, in the order in which they were submitted,
+ * while actions for different keys run concurrently.
+ * Each key with queued or running actions has a mailbox, which is removed once it is empty,
+ * so only the keys which currently have work take up memory.
+ * This replaces a Vert.x shared-data lock per action, which needs a timer and queued handlers for every acquisition.
+ *
+ * @param <K> The type of the keys.
+ */
+class KeyedSerialExecutor<K> {
+
+    private final Vertx vertx;
+    private final int maxQueued;
+    private final ConcurrentHashMap<K, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /** The actions for a key: the first is running, the others are waiting. Guarded by {@link #mailboxes} */
+    private static class Mailbox {
+        private final ArrayDeque<Action> waiting = new ArrayDeque<>(2);
+    }
+
+    private static class Action {
+        private final Object coalescingKey;
+        private final Supplier<Future<Void>> action;
+        private final Context context;
+        private final Promise<Void> result = Promise.promise();
+
+        Action(Object coalescingKey, Supplier<Future<Void>> action, Context context) {
+            this.coalescingKey = coalescingKey;
+            this.action = action;
+            this.context = context;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx The Vertx instance.
+     * @param maxQueued The maximum number of actions which can be waiting for each key.
+     */
+    KeyedSerialExecutor(Vertx vertx, int maxQueued) {
+        this.vertx = vertx;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Run the given action on the caller's context once all the actions previously submitted for the
+     * given key have completed.
+     * If {@code coalescingKey} is not null and an action with an equal coalescing key is already waiting
+     * for the given key, the given action is not queued, and the returned future is the one of the waiting action.
+     * @param key The key.
+     * @param coalescingKey The coalescing key, or null if the action must always be run.
+     * @param action The action, which returns a future completing when the action is complete.
+     * @return A future which completes with the result of the action, or which fails if too many
+     * actions are already waiting for the given key.
+     */
+    Future<Void> submit(K key, Object coalescingKey, Supplier<Future<Void>> action) {
+        Action submitted = new Action(coalescingKey, action, vertx.getOrCreateContext());
+        // The action whose future is returned, or null if the submitted action was rejected
+        Action[] accepted = new Action[1];
+        boolean[] runNow = new boolean[1];
+        mailboxes.compute(key, (k, mailbox) -> {
+            if (mailbox == null) {
+                mailbox = new Mailbox();
+                mailbox.waiting.add(submitted);
+                accepted[0] = submitted;
+                runNow[0] = true;
+                return mailbox;
+            }
+            if (coalescingKey != null) {
+                boolean running = true;
+                for (Action waiting : mailbox.waiting) {
+                    // The first action is already running, so it cannot be coalesced with
+                    if (!running && coalescingKey.equals(waiting.coalescingKey)) {
+                        accepted[0] = waiting;
+                        return mailbox;
+                    }
+                    running = false;
+                }
+            }
+            if (mailbox.waiting.size() <= maxQueued) {
+                mailbox.waiting.add(submitted);
+                accepted[0] = submitted;
+            }
+            return mailbox;
+        });
+        if (accepted[0] == null) {
+            return Future.failedFuture("Too many actions waiting for " + key + ", not executing action");
+        }
+        if (runNow[0]) {
+            run(key, submitted);
+        }
+        return accepted[0].result.future();
+    }
+
+    private void run(K key, Action action) {
+        action.context.runOnContext(ignored -> {
+            Future<Void> future;
+            try {
+                future = action.action.get();
+            } catch (Throwable t) {
+                future = Future.failedFuture(t);
+            }
+            future.setHandler(result -> {
+                try {
+                    action.result.handle(result);
+                } finally {
+                    runNext(key);
+                }
+            });
+        });
+    }
+
+    private void runNext(K key) {
+        Action[] next = new Action[1];
+        mailboxes.computeIfPresent(key, (k, mailbox) -> {
+            mailbox.waiting.poll();
+            next[0] = mailbox.waiting.peek();
+            return next[0] == null ? null : mailbox;
+        });
+        if (next[0] != null) {
+            run(key, next[0]);
+        }
+    }
+
+    /**
+     * @return Whether there are any running or waiting actions.
+     */
+    boolean isBusy() {
+        return !mailboxes.isEmpty();
+    }
+
+    /**
+     * @return The number of keys with running or waiting actions.
+     */
+    int size() {
+        return mailboxes.size();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Paces the reconciliations of a periodic reconciliation (a "sweep"), so that they don't all start at once.
+ * At most {@code maxInFlight} reconciliations run at the same time, and the start of the reconciliations of
+ * a sweep is spread evenly over {@code sweepDurationMs}.
+ * With the defaults of 0 for both, every reconciliation starts as soon as it is submitted.
+ * The progress of the current sweep is exposed by {@link #bindTo(MeterRegistry)}.
+ */
+class ReconciliationPacer implements MeterBinder {
+
+    private final Vertx vertx;
+    private final int maxInFlight;
+    private final long sweepDurationMs;
+
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    private int inFlight;
+    private long sweepStartMs;
+    private int sweepSize;
+    private int started;
+    private int completed;
+    private Long timerId;
+
+    private static class Pending {
+        private final Supplier<Future<Void>> reconciliation;
+        private final Context context;
+        private final Promise<Void> result = Promise.promise();
+
+        Pending(Supplier<Future<Void>> reconciliation, Context context) {
+            this.reconciliation = reconciliation;
+            this.context = context;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx The Vertx instance.
+     * @param maxInFlight The maximum number of reconciliations running at the same time, or 0 for no limit.
+     * @param sweepDurationMs The duration over which to spread the start of the reconciliations of a sweep, or 0.
+     */
+    ReconciliationPacer(Vertx vertx, int maxInFlight, long sweepDurationMs) {
+        this.vertx = vertx;
+        this.maxInFlight = maxInFlight;
+        this.sweepDurationMs = sweepDurationMs;
+    }
+
+    /**
+     * Start a new sweep.
+     * @param size The expected number of reconciliations in the sweep.
+     * Any further reconciliations are started without waiting, subject to the in-flight limit.
+     */
+    synchronized void startSweep(int size) {
+        sweepStartMs = System.currentTimeMillis();
+        sweepSize = size;
+        started = 0;
+        completed = 0;
+    }
+
+    /**
+     * Submit a reconciliation of the current sweep, which will be run on the caller's context when it is due.
+     * @param reconciliation The reconciliation.
+     * @return A future which completes with the result of the reconciliation.
+     */
+    Future<Void> submit(Supplier<Future<Void>> reconciliation) {
+        Pending submitted = new Pending(reconciliation, vertx.getOrCreateContext());
+        synchronized (this) {
+            pending.add(submitted);
+        }
+        startDue();
+        return submitted.result.future();
+    }
+
+    /**
+     * The time at which the reconciliation with the given index in the current sweep is due to start.
+     */
+    private long dueMs(int index) {
+        if (sweepDurationMs <= 0 || sweepSize <= 0) {
+            return sweepStartMs;
+        }
+        return sweepStartMs + sweepDurationMs * Math.min(index, sweepSize) / sweepSize;
+    }
+
+    private void startDue() {
+        List<Pending> due = new ArrayList<>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            while (!pending.isEmpty() && (maxInFlight <= 0 || inFlight < maxInFlight)) {
+                long dueMs = dueMs(started);
+                if (dueMs > now) {
+                    if (timerId == null) {
+                        timerId = vertx.setTimer(dueMs - now, id -> {
+                            synchronized (this) {
+                                timerId = null;
+                            }
+                            startDue();
+                        });
+                    }
+                    break;
+                }
+                due.add(pending.poll());
+                inFlight++;
+                started++;
+            }
+        }
+        for (Pending reconciliation : due) {
+            start(reconciliation);
+        }
+    }
+
+    private void start(Pending reconciliation) {
+        reconciliation.context.runOnContext(ignored -> {
+            Future<Void> future;
+            try {
+                future = reconciliation.reconciliation.get();
+            } catch (Throwable t) {
+                future = Future.failedFuture(t);
+            }
+            future.setHandler(result -> {
+                synchronized (this) {
+                    inFlight--;
+                    completed++;
+                }
+                try {
+                    reconciliation.result.handle(result);
+                } finally {
+                    startDue();
+                }
+            });
+        });
+    }
+
+    /* test */ synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /* test */ synchronized int waiting() {
+        return pending.size();
+    }
+
+    /**
+     * @return How far behind schedule the current sweep is: the time for which the next reconciliation
+     * has been due without having started, or 0.
+     */
+    /* test */ synchronized long lagMs() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        return Math.max(0, System.currentTimeMillis() - dueMs(started));
+    }
+
+    private synchronized double progress() {
+        return sweepSize > 0 ? Math.min(1.0, (double) completed / sweepSize) : 1.0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("strimzi.topic.reconciliation.sweep.progress", this, ReconciliationPacer::progress)
+                .description("Fraction of the reconciliations of the current periodic reconciliation which have completed")
+                .register(registry);
+        Gauge.builder("strimzi.topic.reconciliation.sweep.lag", this, pacer -> pacer.lagMs() / 1000.0)
+                .description("Time in seconds for which the next reconciliation of the current periodic reconciliation has been due without starting")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("strimzi.topic.reconciliation.sweep.in.flight", this, ReconciliationPacer::inFlight)
+                .description("Number of reconciliations of the current periodic reconciliation which are running")
+                .register(registry);
+        Gauge.builder("strimzi.topic.reconciliation.sweep.waiting", this, ReconciliationPacer::waiting)
+                .description("Number of reconciliations of the current periodic reconciliation which are waiting to start")
+                .register(registry);
+    }
+}
@@ -10,6 +10,7 @@ import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.DoneableKafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
@@ -58,6 +59,7 @@ public class Session extends AbstractVerticle {
     private volatile Long timerId;
     private volatile boolean stopped = false;
     private Zk zk;
+    private KafkaTopicStore kafkaTopicStore;
     private volatile HttpServer healthServer;
 
     public Session(KubernetesClient kubeClient, Config config) {
@@ -110,6 +112,11 @@ public class Session extends AbstractVerticle {
             promise.future().compose(ignored -> {
                 LOGGER.debug("Stopping kafka {}", kafka);
                 kafka.stop();
+                KafkaTopicStore kafkaTopicStore = this.kafkaTopicStore;
+                if (kafkaTopicStore != null) {
+                    LOGGER.debug("Stopping topic store {}", kafkaTopicStore);
+                    kafkaTopicStore.stop();
+                }
 
                 LOGGER.debug("Disconnecting from zookeeper {}", zk);
                 zk.disconnect(zkResult -> {
@@ -139,6 +146,7 @@ public class Session extends AbstractVerticle {
     @Override
     public void start(Promise<Void> start) {
         LOGGER.info("Starting");
+        WorkerExecutors.get(vertx).bindTo(METRICS_REGISTRY);
         Properties adminClientProps = new Properties();
 
         String dnsCacheTtl = System.getenv("STRIMZI_DNS_CACHE_TTL") == null ? "30" : System.getenv("STRIMZI_DNS_CACHE_TTL");
@@ -176,66 +184,108 @@ public class Session extends AbstractVerticle {
                 this.zk = zkResult.result();
                 LOGGER.debug("Using ZooKeeper {}", zk);
 
-                String topicsPath = config.get(Config.TOPICS_PATH);
-                ZkTopicStore topicStore = new ZkTopicStore(zk, topicsPath);
-
-                LOGGER.debug("Using TopicStore {}", topicStore);
-
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config);
-                LOGGER.debug("Using Operator {}", topicOperator);
-
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
-                LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
-                LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
-                LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
-                topicsWatcher.start(zk);
-
-                Promise<Void> promise = Promise.promise();
-                Promise<Void> initReconcilePromise = Promise.promise();
-                K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future());
-                Thread resourceThread = new Thread(() -> {
-                    try {
-                        LOGGER.debug("Watching KafkaTopics matching {}", labels.labels());
-
-                        Session.this.topicWatch = kubeClient.customResources(Crds.topic(), KafkaTopic.class, KafkaTopicList.class, DoneableKafkaTopic.class)
-                                .inNamespace(namespace).withLabels(labels.labels()).watch(watcher);
-                        LOGGER.debug("Watching setup");
-
-                        // start the HTTP server for healthchecks
-                        healthServer = this.startHealthServer();
-                        promise.complete();
-                    } catch (Throwable t) {
-                        promise.fail(t);
+                topicStore(adminClientProps).setHandler(storeResult -> {
+                    if (storeResult.failed()) {
+                        start.fail(storeResult.cause());
+                    } else {
+                        startOperator(storeResult.result(), labels, namespace, start);
                     }
+                });
+            });
+    }
 
-                }, "resource-watcher");
-                LOGGER.debug("Starting {}", resourceThread);
-                resourceThread.start();
+    /**
+     * Create the topic store, loading the topic state and migrating it from ZooKeeper when it is stored in Kafka,
+     * or warming the cache in front of ZooKeeper otherwise.
+     */
+    private Future<TopicStore> topicStore(Properties kafkaClientProps) {
+        String topicsPath = config.get(Config.TOPICS_PATH);
+        if (!Config.TOPIC_STORE_KAFKA.equals(config.get(Config.TOPIC_STORE))) {
+            ZkTopicStore zkTopicStore = new ZkTopicStore(zk, topicsPath);
+            CachingTopicStore cachingTopicStore = new CachingTopicStore(zkTopicStore, METRICS_REGISTRY);
+            return zkTopicStore.readAll().map(topics -> {
+                LOGGER.debug("Warming the topic store cache with {} topics", topics.size());
+                cachingTopicStore.warm(topics);
+                return (TopicStore) cachingTopicStore;
+            }).otherwise(error -> {
+                LOGGER.warn("Error listing the topics in {}, the topic store cache will be filled on demand", topicsPath, error);
+                return cachingTopicStore;
+            });
+        }
+        KafkaTopicStore kafkaTopicStore = new KafkaTopicStore(vertx, adminClient, config.get(Config.TOPIC_STORE_TOPIC),
+                config.get(Config.TOPIC_STORE_TOPIC_REPLICATION_FACTOR).shortValue(), kafkaClientProps);
+        this.kafkaTopicStore = kafkaTopicStore;
+        return kafkaTopicStore.start()
+            .compose(ignored -> kafkaTopicStore.migrateFrom(zk, topicsPath, config.get(Config.TOPIC_STORE_DELETE_MIGRATED_ZNODES)))
+            .map(kafkaTopicStore);
+    }
 
-                final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
-                Handler<Long> periodic = new Handler<Long>() {
-                    @Override
-                    public void handle(Long oldTimerId) {
+    private void startOperator(TopicStore topicStore, Labels labels, String namespace, Promise<Void> start) {
+        LOGGER.debug("Using TopicStore {}", topicStore);
+
+        this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config);
+        topicOperator.reconciliationPacer().bindTo(METRICS_REGISTRY);
+        LOGGER.debug("Using Operator {}", topicOperator);
+
+        if (config.get(Config.CONFIG_CHANGE_NOTIFICATIONS_ENABLED)) {
+            // Watch a constant number of znodes, however many topics there are.
+            // Partition changes are reconciled with the next config change of the topic;
+            // partitions added without a config change are found by the periodic reconciliation.
+            this.topicConfigsWatcher = new TopicConfigChangesWatcher(topicOperator);
+            LOGGER.debug("Using TopicConfigChangesWatcher {}", topicConfigsWatcher);
+        } else {
+            this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+            LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
+            this.topicWatcher = new ZkTopicWatcher(topicOperator);
+            LOGGER.debug("Using TopicWatcher {}", topicWatcher);
+        }
+        this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+        LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
+        topicsWatcher.start(zk);
+
+        Promise<Void> promise = Promise.promise();
+        Promise<Void> initReconcilePromise = Promise.promise();
+        K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future());
+        Thread resourceThread = new Thread(() -> {
+            try {
+                LOGGER.debug("Watching KafkaTopics matching {}", labels.labels());
+
+                Session.this.topicWatch = kubeClient.customResources(Crds.topic(), KafkaTopic.class, KafkaTopicList.class, DoneableKafkaTopic.class)
+                        .inNamespace(namespace).withLabels(labels.labels()).watch(watcher);
+                LOGGER.debug("Watching setup");
+
+                // start the HTTP server for healthchecks
+                healthServer = this.startHealthServer();
+                promise.complete();
+            } catch (Throwable t) {
+                promise.fail(t);
+            }
+
+        }, "resource-watcher");
+        LOGGER.debug("Starting {}", resourceThread);
+        resourceThread.start();
+
+        final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
+        Handler<Long> periodic = new Handler<Long>() {
+            @Override
+            public void handle(Long oldTimerId) {
+                if (!stopped) {
+                    timerId = null;
+                    boolean isInitialReconcile = oldTimerId == null;
+                    topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").setHandler(result -> {
+                        if (isInitialReconcile) {
+                            initReconcilePromise.complete();
+                        }
                         if (!stopped) {
-                            timerId = null;
-                            boolean isInitialReconcile = oldTimerId == null;
-                            topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").setHandler(result -> {
-                                if (isInitialReconcile) {
-                                    initReconcilePromise.complete();
-                                }
-                                if (!stopped) {
-                                    timerId = vertx.setTimer(interval, this);
-                                }
-                            });
+                            timerId = vertx.setTimer(interval, this);
                         }
-                    }
-                };
-                periodic.handle(null);
-                promise.future().setHandler(start);
-                LOGGER.info("Started");
-            });
+                    });
+                }
+            }
+        };
+        periodic.handle(null);
+        promise.future().setHandler(start);
+        LOGGER.info("Started");
     }
 
     public void setupMetrics() {
@@ -0,0 +1,143 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.Future;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ZooKeeper watcher for the sequential config change notification znodes which Kafka creates under
+ * {@code /config/changes} whenever the config of an entity is changed,
+ * calling {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)} for the changed topics.
+ * Unlike {@link TopicConfigsWatcher}, this uses a single children watch, rather than a data watch per topic,
+ * so {@link #addChild(String)} and {@link #removeChild(String)} don't watch anything.
+ * Each notification reconciles the whole topic, including its number of partitions, but Kafka doesn't
+ * create a notification when only partitions are added, so those changes are left to the periodic reconciliation.
+ */
+class TopicConfigChangesWatcher extends TopicConfigsWatcher {
+
+    static final String CHANGES_ZNODE = "/config/changes";
+    private static final String CHANGE_PREFIX = "config_change_";
+    private static final String TOPICS_ENTITY = "topics";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** The sequence number of the last notification which has been processed, or null before starting */
+    private Long lastSequence;
+
+    TopicConfigChangesWatcher(TopicOperator topicOperator) {
+        super(topicOperator);
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        super.start(zk);
+        zk.watchChildren(CHANGES_ZNODE, childResult -> {
+            if (!started()) {
+                zk.unwatchChildren(CHANGES_ZNODE);
+                return;
+            }
+            if (childResult.failed()) {
+                log.error("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                return;
+            }
+            for (String change : newChanges(childResult.result())) {
+                String path = CHANGES_ZNODE + "/" + change;
+                zk.getData(path, dataResult -> {
+                    if (dataResult.succeeded()) {
+                        String topicName = topicName(dataResult.result());
+                        if (topicName != null) {
+                            notifyOperator(topicName);
+                        }
+                    } else {
+                        // Kafka deletes notifications after a while, the periodic reconciliation will catch up
+                        log.warn("Error reading config change notification {}", path, dataResult.cause());
+                    }
+                });
+            }
+        }).compose(zk2 -> {
+            zk.children(CHANGES_ZNODE, childResult -> {
+                if (childResult.failed()) {
+                    log.error("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                    return;
+                }
+                // Changes which happened before starting are handled by the initial reconciliation
+                synchronized (this) {
+                    lastSequence = childResult.result().stream()
+                            .mapToLong(TopicConfigChangesWatcher::sequence).max().orElse(-1L);
+                }
+            });
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Get the notifications which have not been processed yet from the given children of {@code /config/changes},
+     * in the order they were created, and mark them as processed.
+     * @param children The children.
+     * @return The new notifications.
+     */
+    /* test */ synchronized List<String> newChanges(List<String> children) {
+        if (lastSequence == null || children == null) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String child : children) {
+            if (sequence(child) > lastSequence) {
+                result.add(child);
+            }
+        }
+        result.sort((a, b) -> Long.compare(sequence(a), sequence(b)));
+        if (!result.isEmpty()) {
+            lastSequence = sequence(result.get(result.size() - 1));
+        }
+        return result;
+    }
+
+    private static long sequence(String child) {
+        try {
+            return child.startsWith(CHANGE_PREFIX) ? Long.parseLong(child.substring(CHANGE_PREFIX.length())) : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Get the name of the topic from a config change notification, which is either
+     * {@code {"version":1,"entity_type":"topics","entity_name":"my-topic"}} or
+     * {@code {"version":2,"entity_path":"topics/my-topic"}}.
+     * @param data The content of the notification znode.
+     * @return The name of the topic, or null if the notification is not about a topic.
+     */
+    /* test */ String topicName(byte[] data) {
+        try {
+            JsonNode json = MAPPER.readTree(data);
+            if (json.has("entity_path")) {
+                String[] path = json.get("entity_path").asText().split("/", 2);
+                return path.length == 2 && TOPICS_ENTITY.equals(path[0]) ? path[1] : null;
+            } else if (json.has("entity_type") && json.has("entity_name")) {
+                return TOPICS_ENTITY.equals(json.get("entity_type").asText()) ? json.get("entity_name").asText() : null;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unexpected config change notification", e);
+        }
+        return null;
+    }
+
+    @Override
+    protected void addChild(String child) {
+    }
+
+    @Override
+    protected void removeChild(String child) {
+    }
+}
@@ -29,13 +29,12 @@ import org.apache.logging.log4j.Logger;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
@@ -45,6 +44,15 @@ class TopicOperator {
 
     private final static Logger LOGGER = LogManager.getLogger(TopicOperator.class);
     private final static Logger EVENT_LOGGER = LogManager.getLogger("Event");
+    /** The maximum number of actions which can wait for the actions already in progress on a topic */
+    private static final int MAX_WAITING_ACTIONS_PER_TOPIC = 1_000;
+    /** The maximum number of KafkaTopic status updates in progress at once */
+    private static final int MAX_IN_FLIGHT_STATUS_UPDATES = 10;
+    /** The maximum number of KafkaTopics whose generation is remembered for ignoring the events of status updates */
+    private static final int MAX_TRACKED_STATUS_GENERATIONS = 10_000;
+
+    /** The prefix of the names of the topics which Strimzi uses internally */
+    static final String INTERNAL_TOPIC_PREFIX = "__strimzi";
     private final Kafka kafka;
     private final K8s k8s;
     private final Vertx vertx;
@@ -52,7 +60,9 @@ class TopicOperator {
     private final String namespace;
     private TopicStore topicStore;
     private final Config config;
-    private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final KeyedSerialExecutor<TopicName> topicActions;
+    private final ReconciliationPacer reconciliationPacer;
+    private final KafkaTopicStatusWriter statusWriter;
 
     enum EventType {
         INFO("Info"),
@@ -166,7 +176,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) {
             k8s.deleteResource(resourceName).setHandler(handler);
-            statusUpdateGeneration.remove(resourceName.toString());
+            statusWriter.forget(resourceName.toString());
         }
 
         @Override
@@ -365,6 +375,34 @@ class TopicOperator {
         this.topicStore = topicStore;
         this.namespace = namespace;
         this.config = config;
+        this.topicActions = new KeyedSerialExecutor<>(vertx, MAX_WAITING_ACTIONS_PER_TOPIC);
+        this.statusWriter = new KafkaTopicStatusWriter(k8s, MAX_IN_FLIGHT_STATUS_UPDATES, MAX_TRACKED_STATUS_GENERATIONS);
+        this.reconciliationPacer = new ReconciliationPacer(vertx,
+                config.get(Config.RECONCILIATION_MAX_IN_FLIGHT), config.get(Config.RECONCILIATION_SWEEP_DURATION_MS));
+    }
+
+    /**
+     * Determines whether the given topic is internal to Strimzi, such as the topic of the {@link KafkaTopicStore},
+     * in which case it is neither watched nor reconciled.
+     * @param topicName The name of the topic.
+     * @return true if the topic is not reconciled.
+     */
+    boolean isExcluded(TopicName topicName) {
+        String name = topicName.toString();
+        return name.startsWith(INTERNAL_TOPIC_PREFIX)
+                || config != null && name.equals(config.get(Config.TOPIC_STORE_TOPIC));
+    }
+
+    private Future<Void> excluded(LogContext logContext, TopicName topicName) {
+        LOGGER.debug("{}: Ignoring internal topic {}", logContext, topicName);
+        return Future.succeededFuture();
+    }
+
+    /**
+     * @return The pacer of the reconciliations of {@link #reconcileAllTopics(String)}.
+     */
+    ReconciliationPacer reconciliationPacer() {
+        return reconciliationPacer;
     }
 
 
@@ -372,74 +410,37 @@ class TopicOperator {
      * Run the given {@code action} on the context thread,
      * immediately if there are currently no other actions with the given {@code key},
      * or when the other actions with the given {@code key} have completed.
+     * If the given {@code action} {@linkplain Reconciliation#coalesces() coalesces} and an equal action is already
+     * waiting for the given {@code key}, the returned future is the one of the waiting action.
      * When the given {@code action} is complete it must complete its argument future,
      * which will complete the returned future
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
-        String lockName = key.toString();
-        int timeoutMs = 30 * 1_000;
-        Promise<Void> result = Promise.promise();
-        BiFunction<TopicName, Integer, Integer> decrement = (topicName, waiters) -> {
-            if (waiters != null) {
-                if (waiters == 1) {
-                    LOGGER.debug("{}: Removing last waiter {}", logContext, action);
-                    return null;
-                } else {
-                    LOGGER.debug("{}: Removing waiter {}, {} waiters left", logContext, action, waiters - 1);
-                    return waiters - 1;
-                }
-            } else {
-                LOGGER.error("{}: Assertion failure. topic {}, action {}", logContext, lockName, action);
-                return null;
-            }
-        };
-        LOGGER.debug("{}: Queuing action {} on topic {}", logContext, action, lockName);
-        inflight.compute(key, (topicName, waiters) -> {
-            if (waiters == null) {
-                LOGGER.debug("{}: Adding first waiter {}", logContext, action);
-                return 1;
-            } else {
-                LOGGER.debug("{}: Adding waiter {}: {}", logContext, action, waiters + 1);
-                return waiters + 1;
-            }
-        });
-        vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
-            if (lockResult.succeeded()) {
-                LOGGER.debug("{}: Lock acquired", logContext);
-                LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
-                action.execute().setHandler(actionResult -> {
-                    LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
-                    action.result = actionResult;
-                    // Update status with lock held so that event is ignored via statusUpdateGeneration
-                    action.updateStatus(logContext).setHandler(statusResult -> {
-                        if (statusResult.failed()) {
-                            LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
-                                    statusResult.cause());
-                        }
-                        try {
-                            if (actionResult.failed() && statusResult.failed()) {
-                                actionResult.cause().addSuppressed(statusResult.cause());
-                            }
-                            result.handle(actionResult.failed() ? actionResult : statusResult);
-                        } catch (Throwable t) {
-                            result.fail(t);
-                        } finally {
-                            lockResult.result().release();
-                            LOGGER.debug("{}: Lock released", logContext);
-                            inflight.compute(key, decrement);
+        LOGGER.debug("{}: Queuing action {} on topic {}", logContext, action, key);
+        return topicActions.submit(key, action.coalesces() ? action.toString() : null, () -> {
+            LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, key);
+            Promise<Void> result = Promise.promise();
+            action.execute().setHandler(actionResult -> {
+                LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, key);
+                action.result = actionResult;
+                // Update status before the next action runs so that event is ignored via statusWriter.lastWrittenGeneration()
+                action.updateStatus(logContext).setHandler(statusResult -> {
+                    if (statusResult.failed()) {
+                        LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
+                                statusResult.cause());
+                    }
+                    try {
+                        if (actionResult.failed() && statusResult.failed()) {
+                            actionResult.cause().addSuppressed(statusResult.cause());
                         }
-                    });
+                        result.handle(actionResult.failed() ? actionResult : statusResult);
+                    } catch (Throwable t) {
+                        result.tryFail(t);
+                    }
                 });
-            } else {
-                LOGGER.warn("{}: Lock not acquired within {}ms: action {} will not be run", logContext, timeoutMs, action);
-                try {
-                    result.handle(Future.failedFuture("Failed to acquire lock for topic " + lockName + " after " + timeoutMs + "ms. Not executing action " + action));
-                } finally {
-                    inflight.compute(key, decrement);
-                }
-            }
+            });
+            return result.future();
         });
-        return result.future();
     }
 
     /**
@@ -699,6 +700,9 @@ class TopicOperator {
 
     /** Called when a topic znode is deleted in ZK */
     Future<Void> onTopicDeleted(LogContext logContext, TopicName topicName) {
+        if (isExcluded(topicName)) {
+            return excluded(logContext, topicName);
+        }
         return executeWithTopicLockHeld(logContext, topicName,
             new Reconciliation("onTopicDeleted") {
                 @Override
@@ -708,14 +712,20 @@ class TopicOperator {
             });
     }
 
-    private Map<String, Long> statusUpdateGeneration = new HashMap<>();
-
     /**
      * Called when ZK watch notifies of change to topic's config
      */
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
+        if (isExcluded(topicName)) {
+            return excluded(logContext, topicName);
+        }
         return executeWithTopicLockHeld(logContext, topicName,
                 new Reconciliation("onTopicConfigChanged") {
+                    @Override
+                    protected boolean coalesces() {
+                        return true;
+                    }
+
                     @Override
                     public Future<Void> execute() {
                         return kafka.topicMetadata(topicName)
@@ -731,7 +741,15 @@ class TopicOperator {
      * Called when ZK watch notifies of a change to the topic's partitions
      */
     Future<Void> onTopicPartitionsChanged(LogContext logContext, TopicName topicName) {
+        if (isExcluded(topicName)) {
+            return excluded(logContext, topicName);
+        }
         Reconciliation action = new Reconciliation("onTopicPartitionsChanged") {
+            @Override
+            protected boolean coalesces() {
+                return true;
+            }
+
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
@@ -799,6 +817,9 @@ class TopicOperator {
 
     /** Called when a topic znode is created in ZK */
     Future<Void> onTopicCreated(LogContext logContext, TopicName topicName) {
+        if (isExcluded(topicName)) {
+            return excluded(logContext, topicName);
+        }
         // XXX currently runs on the ZK thread, requiring a synchronized inFlight
         // is it better to put this check in the topic deleted event?
         Reconciliation action = new Reconciliation("onTopicCreated") {
@@ -857,6 +878,14 @@ class TopicOperator {
 
         public abstract Future<Void> execute();
 
+        /**
+         * @return Whether this reconciliation can be skipped when the same reconciliation of the topic is already
+         * waiting to be executed, because it only depends on the state of the topic at the time it is executed.
+         */
+        protected boolean coalesces() {
+            return false;
+        }
+
         protected void observedTopicFuture(KafkaTopic observedTopic) {
             topic = observedTopic;
         }
@@ -878,7 +907,7 @@ class TopicOperator {
                     if (!ksDiff.isEmpty()) {
                         Promise<Void> promise = Promise.promise();
                         statusFuture = promise.future();
-                        k8s.updateResourceStatus(new KafkaTopicBuilder(topic).withStatus(kts).build()).setHandler(ar -> {
+                        statusWriter.write(new KafkaTopicBuilder(topic).withStatus(kts).build()).setHandler(ar -> {
                             if (ar.succeeded() && ar.result() != null) {
                                 ObjectMeta metadata = ar.result().getMetadata();
                                 LOGGER.debug("{}: status was set rv={}, generation={}, observedGeneration={}",
@@ -886,9 +915,6 @@ class TopicOperator {
                                         metadata.getResourceVersion(),
                                         metadata.getGeneration(),
                                         ar.result().getStatus().getObservedGeneration());
-                                statusUpdateGeneration.put(
-                                        metadata.getName(),
-                                        metadata.getGeneration());
                             } else {
                                 LOGGER.error("{}: Error setting resource status", logContext, ar.cause());
                             }
@@ -911,7 +937,11 @@ class TopicOperator {
 
     /** Called when a resource is isModify in k8s */
     Future<Void> onResourceEvent(LogContext logContext, KafkaTopic modifiedTopic, Watcher.Action action) {
-        return executeWithTopicLockHeld(logContext, new TopicName(modifiedTopic),
+        TopicName topicName = new TopicName(modifiedTopic);
+        if (isExcluded(topicName)) {
+            return excluded(logContext, topicName);
+        }
+        return executeWithTopicLockHeld(logContext, topicName,
                 new Reconciliation("onResourceEvent") {
                     @Override
                     public Future<Void> execute() {
@@ -920,15 +950,11 @@ class TopicOperator {
                                 final Topic k8sTopic;
                                 if (mt != null) {
 
-                                    Long generation = statusUpdateGeneration.get(mt.getMetadata().getName());
+                                    Long generation = statusWriter.lastWrittenGeneration(mt.getMetadata().getName());
                                     LOGGER.debug("{}: last updated generation={}", logContext, generation);
                                     if (mt.getMetadata() != null
                                             && mt.getMetadata().getGeneration() != null) {
                                         if (mt.getMetadata().getGeneration().equals(generation)) {
-                                            // TODO we might also need some way to avoid statusUpdateGeneration getting too big
-                                            // e.g. remove after 10 seconds, for example
-                                            // Or do we not care and maintain this map to avoid unnecessary work always
-                                            // It doesn't scale to many topics so well, but maybe that's not such a huge problem.
                                             LOGGER.debug("{}: Ignoring modification event caused by my own status update on {}",
                                                     logContext,
                                                     mt.getMetadata().getName());
@@ -1095,8 +1121,8 @@ class TopicOperator {
     }
 
     public boolean isWorkInflight() {
-        LOGGER.debug("Outstanding: {}", inflight);
-        return inflight.size() > 0;
+        LOGGER.debug("Outstanding: {} topics", topicActions.size());
+        return topicActions.isBusy();
     }
 
     /**
@@ -1139,11 +1165,15 @@ class TopicOperator {
         kafka.listTopics().setHandler(listFut);
         return listFut.recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-
-        ).compose(reconcileState -> {
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicNames = topicNamesFromKafka.stream()
+                    .map(TopicName::new)
+                    .filter(topicName -> !isExcluded(topicName))
+                    .collect(Collectors.toList());
+            reconciliationPacer.startSweep(topicNames.size());
+            // Reconcile the topic found in Kafka
+            return reconcileFromKafka(reconciliationType, topicNames);
+        }).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
@@ -1157,7 +1187,9 @@ class TopicOperator {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName()).withKubeTopic(kt);
                 Topic topic = TopicSerialization.fromTopicResource(kt);
                 TopicName topicName = topic.getTopicName();
-                if (reconcileState.failed.containsKey(topicName)) {
+                if (isExcluded(topicName)) {
+                    LOGGER.debug("{}: Ignoring internal topic {}", logContext, topicName);
+                } else if (reconcileState.failed.containsKey(topicName)) {
                     // we already failed to reconcile this topic in reconcileFromKafka(), /
                     // don't bother trying again
                     LOGGER.trace("{}: Already failed to reconcile {}", logContext, topicName);
@@ -1166,7 +1198,7 @@ class TopicOperator {
                     LOGGER.trace("{}: Already successfully reconciled {}", logContext, topicName);
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconciliationPacer.submit(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName())).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1175,7 +1207,7 @@ class TopicOperator {
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debug("{}: Topic {} exists in Kafka, but not Kubernetes", logContext, topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconciliationPacer.submit(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName())).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
@@ -1190,13 +1222,13 @@ class TopicOperator {
                 // anything left in undetermined doesn't exist in topic store nor kube
                 for (TopicName tn : reconcileState.undetermined) {
                     LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn);
-                    futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining") {
+                    futs2.add(reconciliationPacer.submit(() -> executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining") {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
                             return getKafkaAndReconcile(this, logContext, tn, null, null);
                         }
-                    }));
+                    })));
                 }
                 return CompositeFuture.join(futs2);
             });
@@ -1206,6 +1238,8 @@ class TopicOperator {
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * The topics are reconciled in pages of {@link Config#RECONCILIATION_PAGE_SIZE} topics,
+     * fetching the metadata of all the topics of a page together.
      */
     private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
         Set<TopicName> succeeded = new HashSet<>();
@@ -1215,48 +1249,79 @@ class TopicOperator {
         LOGGER.debug("Reconciling kafka topics {}", topicsFromKafka);
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
-        if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting KafkaTopic " + topicName + " during "
-                                            + reconciliationType + " reconciliation", error));
-                            return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
-                                Future<Void> map = reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debug("{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).otherwise(error -> {
-                                            LOGGER.debug("{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return null;
-                                        });
-                                return map;
-                            }
-                        });
+        return reconcileFromKafka(reconciliationType, topicsFromKafka, 0, state).map(state);
+    }
 
+    /**
+     * Reconcile the page of {@code topicsFromKafka} starting at {@code from}, and then the following pages.
+     * The returned future fails if the reconciliation of any of the pages failed.
+     */
+    private Future<Void> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, int from, ReconcileState state) {
+        if (from >= topicsFromKafka.size()) {
+            return Future.succeededFuture();
+        }
+        List<TopicName> page = topicsFromKafka.subList(from, Math.min(from + config.get(Config.RECONCILIATION_PAGE_SIZE), topicsFromKafka.size()));
+        Promise<Void> result = Promise.promise();
+        kafka.topicsMetadata(new HashSet<>(page)).otherwise(error -> {
+            LOGGER.warn("Error getting the metadata of {} topics during {} reconciliation, they will be fetched one by one",
+                    page.size(), reconciliationType, error);
+            return Collections.emptyMap();
+        }).compose(metadata -> reconcileFromKafka(reconciliationType, page, metadata, state))
+            .setHandler(pageResult -> reconcileFromKafka(reconciliationType, topicsFromKafka, from + page.size(), state)
+                .setHandler(rest -> {
+                    if (pageResult.failed()) {
+                        result.fail(pageResult.cause());
+                    } else {
+                        result.handle(rest);
                     }
                 }));
-            }
-            return join(futures).map(state);
-        } else {
-            return Future.succeededFuture(state);
-        }
+        return result.future();
+    }
 
+    /**
+     * Reconcile the given page of topics, for which {@code metadata} holds the metadata fetched from Kafka.
+     */
+    private Future<Void> reconcileFromKafka(String reconciliationType, List<TopicName> page,
+                                            Map<TopicName, TopicMetadata> metadata, ReconcileState state) {
+        Set<TopicName> succeeded = state.succeeded;
+        Set<TopicName> undetermined = state.undetermined;
+        Map<TopicName, Throwable> failed = state.failed;
+        List<Future<Void>> futures = new ArrayList<>();
+        for (TopicName topicName : page) {
+            LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
+            futures.add(reconciliationPacer.submit(() -> executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
+                @Override
+                public Future<Void> execute() {
+                    return getFromTopicStore(topicName).recover(error -> {
+                        failed.put(topicName,
+                                new OperatorException("Error getting KafkaTopic " + topicName + " during "
+                                        + reconciliationType + " reconciliation", error));
+                        return Future.succeededFuture();
+                    }).compose(topic -> {
+                        if (topic == null) {
+                            LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
+                            undetermined.add(topicName);
+                            return Future.succeededFuture();
+                        } else {
+                            LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
+                            Future<Void> map = reconcileWithPrivateTopic(logContext, topicName, topic, this, metadata.get(topicName))
+                                    .<Void>map(ignored -> {
+                                        LOGGER.debug("{} reconcile success -> succeeded", topicName);
+                                        succeeded.add(topicName);
+                                        return null;
+                                    }).otherwise(error -> {
+                                        LOGGER.debug("{} reconcile error -> failed", topicName);
+                                        failed.put(topicName, error);
+                                        return null;
+                                    });
+                            return map;
+                        }
+                    });
 
+                }
+            })));
+        }
+        return join(futures).mapEmpty();
     }
 
     @SuppressWarnings("unchecked")
@@ -1267,14 +1332,17 @@ class TopicOperator {
 
     /**
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
+     * {@code prefetchedMetadata} is the metadata of the topic which was fetched from Kafka before the
+     * topic's lock was acquired, or null.
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
-                                                   Reconciliation reconciliation) {
+                                                   Reconciliation reconciliation,
+                                                   TopicMetadata prefetchedMetadata) {
         return k8s.getFromName(privateTopic.getResourceName())
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, prefetchedMetadata);
             })
             .recover(error -> {
                 LOGGER.error("{}: Error getting KafkaTopic {} for topic {}",
@@ -1286,13 +1354,30 @@ class TopicOperator {
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
                                               Topic privateTopic, KafkaTopic kafkaTopicResource) {
+        return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, null);
+    }
+
+    /**
+     * Reconcile the given topic, getting its state in Kafka from {@code prefetchedMetadata} when that still matches
+     * the {@code privateTopic}, since the topic then has not changed in Kafka since it was last reconciled, and from
+     * Kafka otherwise.
+     */
+    private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource,
+                                              TopicMetadata prefetchedMetadata) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
             Topic k8sTopic = kafkaTopicResource != null ? TopicSerialization.fromTopicResource(kafkaTopicResource) : null;
-            kafka.topicMetadata(topicName)
-                .compose(kafkaTopicMeta -> {
-                    Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
+            Topic prefetchedTopic = TopicSerialization.fromTopicMetadata(prefetchedMetadata);
+            Future<Topic> kafkaTopicFuture;
+            if (prefetchedTopic != null && privateTopic != null && TopicDiff.diff(privateTopic, prefetchedTopic).isEmpty()) {
+                kafkaTopicFuture = Future.succeededFuture(prefetchedTopic);
+            } else {
+                kafkaTopicFuture = getFromKafka(topicName);
+            }
+            kafkaTopicFuture
+                .compose(topicFromKafka -> {
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
                 })
                 .setHandler(ar -> {
@@ -7,6 +7,7 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.topic.zk.AclBuilder;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.I0Itec.zkclient.exception.ZkNoNodeException;
@@ -16,7 +17,10 @@ import org.apache.logging.log4j.Logger;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of {@link TopicStore} that stores the topic state in ZooKeeper.
@@ -82,6 +86,31 @@ public class ZkTopicStore implements TopicStore {
         return handler.future();
     }
 
+    /**
+     * Asynchronously read all the topics in the store.
+     * @return A future which completes with the topics, keyed by their name.
+     */
+    public Future<Map<TopicName, Topic>> readAll() {
+        Promise<List<String>> children = Promise.promise();
+        zk.children(topicsPath, children);
+        return children.future().recover(error -> error instanceof ZkNoNodeException ?
+                Future.succeededFuture(new ArrayList<>()) : Future.failedFuture(error))
+            .compose(names -> {
+                Map<TopicName, Topic> topics = new HashMap<>(names.size());
+                List<Future> futures = new ArrayList<>(names.size());
+                for (String name : names) {
+                    TopicName topicName = new TopicName(name);
+                    futures.add(read(topicName).map(topic -> {
+                        if (topic != null) {
+                            topics.put(topicName, topic);
+                        }
+                        return null;
+                    }));
+                }
+                return CompositeFuture.all(futures).map(topics);
+            });
+    }
+
     @Override
     public Future<Void> create(Topic topic) {
         Promise<Void> handler = Promise.promise();
@@ -12,11 +12,13 @@ import org.apache.logging.log4j.Logger;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * ZooKeeper watcher for child znodes of {@code /brokers/topics},
  * calling {@link TopicOperator#onTopicCreated(LogContext, TopicName)} for new children and
  * {@link TopicOperator#onTopicDeleted(LogContext, TopicName)} for deleted children.
+ * Topics internal to Strimzi, such as the topic of the {@link KafkaTopicStore}, are ignored.
  */
 class ZkTopicsWatcher {
 
@@ -37,7 +39,7 @@ class ZkTopicsWatcher {
      *
      * @param topicOperator    Operator instance
      * @param tcw   watcher for the topics config changes
-     * @param tw    watcher for the topics partitions changes
+     * @param tw    watcher for the topics partitions changes, or null if partition changes are not watched
      */
     ZkTopicsWatcher(TopicOperator topicOperator, TopicConfigsWatcher tcw, ZkTopicWatcher tw) {
         this.topicOperator = topicOperator;
@@ -47,7 +49,9 @@ class ZkTopicsWatcher {
 
     void stop() {
         this.tcw.stop();
-        this.tw.stop();
+        if (this.tw != null) {
+            this.tw.stop();
+        }
         this.state = 2;
     }
 
@@ -58,7 +62,9 @@ class ZkTopicsWatcher {
     void start(Zk zk) {
         children = null;
         tcw.start(zk);
-        tw.start(zk);
+        if (tw != null) {
+            tw.start(zk);
+        }
         zk.watchChildren(TOPICS_ZNODE, childResult -> {
             if (state == 2) {
                 zk.unwatchChildren(TOPICS_ZNODE);
@@ -68,7 +74,7 @@ class ZkTopicsWatcher {
                 LOGGER.error("Error on znode {} children", TOPICS_ZNODE, childResult.cause());
                 return;
             }
-            List<String> result = childResult.result();
+            List<String> result = withoutExcluded(childResult.result());
             LOGGER.debug("znode {} now has children {}, previous children {}", TOPICS_ZNODE, result, this.children);
             Set<String> deleted = new HashSet<>(this.children);
             deleted.removeAll(result);
@@ -80,7 +86,9 @@ class ZkTopicsWatcher {
                 LOGGER.info("Deleted topics: {}", deleted);
                 for (String topicName : deleted) {
                     tcw.removeChild(topicName);
-                    tw.removeChild(topicName);
+                    if (tw != null) {
+                        tw.removeChild(topicName);
+                    }
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, "-" + topicName);
                     topicOperator.onTopicDeleted(logContext, new TopicName(topicName)).setHandler(ar -> {
                         if (ar.succeeded()) {
@@ -96,7 +104,9 @@ class ZkTopicsWatcher {
                 LOGGER.info("Created topics: {}", created);
                 for (String topicName : created) {
                     tcw.addChild(topicName);
-                    tw.addChild(topicName);
+                    if (tw != null) {
+                        tw.addChild(topicName);
+                    }
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, "+" + topicName);
                     topicOperator.onTopicCreated(logContext, new TopicName(topicName)).setHandler(ar -> {
                         if (ar.succeeded()) {
@@ -114,17 +124,28 @@ class ZkTopicsWatcher {
                     LOGGER.error("Error on znode {} children", TOPICS_ZNODE, childResult.cause());
                     return;
                 }
-                List<String> result = childResult.result();
+                List<String> result = withoutExcluded(childResult.result());
                 LOGGER.debug("Setting initial children {}", result);
                 this.children = result;
                 // Start watching existing children for config and partition changes
                 for (String child : result) {
                     tcw.addChild(child);
-                    tw.addChild(child);
+                    if (tw != null) {
+                        tw.addChild(child);
+                    }
                 }
                 this.state = 1;
             });
             return Future.succeededFuture();
         });
     }
+
+    /**
+     * Removes the topics which are {@linkplain TopicOperator#isExcluded(TopicName) not reconciled}, so that they are not watched.
+     */
+    private List<String> withoutExcluded(List<String> topicNames) {
+        return topicNames.stream()
+                .filter(topicName -> !topicOperator.isExcluded(new TopicName(topicName)))
+                .collect(Collectors.toList());
+    }
 }
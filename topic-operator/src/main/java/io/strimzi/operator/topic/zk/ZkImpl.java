@@ -4,12 +4,12 @@
  */
 package io.strimzi.operator.topic.zk;
 
+import io.strimzi.operator.common.WorkerExecutors;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.WorkerExecutor;
 import org.I0Itec.zkclient.IZkChildListener;
 import org.I0Itec.zkclient.IZkDataListener;
 import org.I0Itec.zkclient.ZkClient;
@@ -187,8 +187,8 @@ public class ZkImpl implements Zk {
         return this;
     }
 
-    private WorkerExecutor workerPool() {
-        return vertx.createSharedWorkerExecutor(getClass().getName(), 4);
+    private WorkerExecutors.InstrumentedExecutor workerPool() {
+        return WorkerExecutors.executor(vertx, WorkerExecutors.Pool.ZOOKEEPER);
     }
 
     @Override
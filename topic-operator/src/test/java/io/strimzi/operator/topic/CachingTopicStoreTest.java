@@ -0,0 +1,76 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingTopicStoreTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private double reads(String result) {
+        return registry.get("strimzi.topic.store.cache.reads").tag("result", result).counter().count();
+    }
+
+    @Test
+    public void testReadsAreServedFromMemoryAndWrittenThrough() {
+        TopicName name = new TopicName("my_topic");
+        Topic topic = new Topic.Builder("my_topic", 2, (short) 1, Collections.singletonMap("foo", "bar")).build();
+        Topic updatedTopic = new Topic.Builder("my_topic", 3, (short) 1, Collections.singletonMap("foo", "bar")).build();
+        TopicStore delegate = mock(TopicStore.class);
+        when(delegate.update(any())).thenReturn(Future.succeededFuture());
+        when(delegate.delete(any())).thenReturn(Future.succeededFuture());
+        when(delegate.read(any())).thenReturn(Future.succeededFuture(null));
+
+        CachingTopicStore store = new CachingTopicStore(delegate, registry);
+        store.warm(Collections.singletonMap(name, topic));
+
+        assertThat(store.read(name).result(), is(topic));
+        assertThat(store.update(updatedTopic).succeeded(), is(true));
+        assertThat(store.read(name).result(), is(updatedTopic));
+        verify(delegate, never()).read(any());
+        assertThat(reads("hit"), is(2.0));
+
+        assertThat(store.delete(name).succeeded(), is(true));
+        assertThat(store.read(name).result(), is(nullValue()));
+        verify(delegate, times(1)).read(name);
+        assertThat(reads("miss"), is(1.0));
+    }
+
+    @Test
+    public void testFailedWriteInvalidatesTheCache() {
+        TopicName name = new TopicName("my_topic");
+        Topic topic = new Topic.Builder("my_topic", 2, (short) 1, Collections.emptyMap()).build();
+        TopicStore delegate = mock(TopicStore.class);
+        when(delegate.create(any())).thenReturn(Future.failedFuture(new TopicStore.EntityExistsException()));
+        when(delegate.read(any())).thenReturn(Future.succeededFuture(topic));
+
+        CachingTopicStore store = new CachingTopicStore(delegate, registry);
+
+        Future<Void> create = store.create(topic);
+        assertThat(create.failed(), is(true));
+        assertThat(create.cause(), instanceOf(TopicStore.EntityExistsException.class));
+        assertThat(store.read(name).result(), is(topic));
+        assertThat(store.read(name).result(), is(topic));
+        verify(delegate, times(1)).read(name);
+        assertThat(reads("miss"), is(1.0));
+        assertThat(reads("hit"), is(1.0));
+    }
+}
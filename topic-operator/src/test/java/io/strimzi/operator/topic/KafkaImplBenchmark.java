@@ -0,0 +1,110 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Compares the event loop CPU time used by in-flight Admin API requests while they are pending,
+ * between {@link KafkaImpl#toFuture(String, KafkaFuture)}, which is completed by a KafkaFuture callback,
+ * and the polling which KafkaImpl used before, re-enqueuing a task on the event loop until the KafkaFuture was done.
+ * Run it with the number of in-flight requests and how long they stay pending, in milliseconds,
+ * as the (optional) arguments.
+ */
+public class KafkaImplBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        long pendingMs = args.length > 1 ? Long.parseLong(args[1]) : 2_000;
+        Vertx vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+        try {
+            KafkaImpl kafka = new KafkaImpl(null, vertx);
+            Function<KafkaFuture<Void>, Future<Void>> callbacks = future -> kafka.toFuture("benchmark", future);
+            Function<KafkaFuture<Void>, Future<Void>> polling = future -> poll(vertx, future);
+            // Warm up, then measure
+            run(vertx, callbacks, requests, pendingMs / 10);
+            run(vertx, polling, requests, pendingMs / 10);
+            print("KafkaFuture callbacks", run(vertx, callbacks, requests, pendingMs), requests, pendingMs);
+            print("Polling", run(vertx, polling, requests, pendingMs), requests, pendingMs);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    /**
+     * Adapts the given KafkaFuture by checking whether it is done on each turn of the event loop,
+     * as KafkaImpl's Work used to.
+     */
+    private static Future<Void> poll(Vertx vertx, KafkaFuture<Void> kafkaFuture) {
+        Promise<Void> promise = Promise.promise();
+        vertx.runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                if (kafkaFuture.isDone()) {
+                    promise.complete();
+                } else {
+                    vertx.runOnContext(this);
+                }
+            }
+        });
+        return promise.future();
+    }
+
+    /**
+     * @return The CPU time, in nanoseconds, used by the event loop while the requests were pending.
+     */
+    private static long run(Vertx vertx, Function<KafkaFuture<Void>, Future<Void>> adapter,
+                            int requests, long pendingMs) throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Context context = vertx.getOrCreateContext();
+        List<KafkaFutureImpl<Void>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(new KafkaFutureImpl<>());
+        }
+        AtomicLong eventLoopThread = new AtomicLong();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        context.runOnContext(ignored -> {
+            eventLoopThread.set(Thread.currentThread().getId());
+            for (KafkaFutureImpl<Void> future : futures) {
+                adapter.apply(future).setHandler(ar -> done.countDown());
+            }
+            started.countDown();
+        });
+        started.await();
+        long cpuStart = threads.getThreadCpuTime(eventLoopThread.get());
+        Thread.sleep(pendingMs);
+        long cpuNanos = threads.getThreadCpuTime(eventLoopThread.get()) - cpuStart;
+        for (KafkaFutureImpl<Void> future : futures) {
+            future.complete(null);
+        }
+        if (!done.await(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("The requests were not completed within 1 minute");
+        }
+        return cpuNanos;
+    }
+
+    private static void print(String name, long cpuNanos, int requests, long pendingMs) {
+        System.out.printf("%s: %d requests pending for %d ms used %d ms of event loop CPU (%.1f us per request per second pending)%n",
+                name, requests, pendingMs, TimeUnit.NANOSECONDS.toMillis(cpuNanos),
+                cpuNanos / 1000.0 / requests / (pendingMs / 1000.0));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaImplTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void initVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void closeVertx() {
+        vertx.close();
+    }
+
+    @Test
+    public void testResultIsDeliveredOnCallersContext(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        KafkaFutureImpl<Set<String>> names = new KafkaFutureImpl<>();
+        ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+        when(listTopicsResult.names()).thenReturn(names);
+        AdminClient adminClient = mock(AdminClient.class);
+        when(adminClient.listTopics(any())).thenReturn(listTopicsResult);
+
+        Context callerContext = vertx.getOrCreateContext();
+        callerContext.runOnContext(ignored -> {
+            new KafkaImpl(adminClient, vertx).listTopics().setHandler(context.succeeding(result -> context.verify(() -> {
+                assertThat(result, is(Collections.singleton("my-topic")));
+                assertThat(Vertx.currentContext(), is(sameInstance(callerContext)));
+                async.flag();
+            })));
+            // Complete the Kafka future from a thread which is not a Vert.x thread, like the AdminClient does
+            new Thread(() -> names.complete(Collections.singleton("my-topic"))).start();
+        });
+    }
+
+    @Test
+    public void testMetadataOfUnknownTopicIsNull(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        KafkaFutureImpl<TopicDescription> description = new KafkaFutureImpl<>();
+        description.completeExceptionally(new UnknownTopicOrPartitionException());
+        KafkaFutureImpl<Config> config = new KafkaFutureImpl<>();
+        config.completeExceptionally(new UnknownTopicOrPartitionException());
+        ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, "my-topic");
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        when(describeTopicsResult.values()).thenReturn(Collections.singletonMap("my-topic", description));
+        DescribeConfigsResult describeConfigsResult = mock(DescribeConfigsResult.class);
+        when(describeConfigsResult.values()).thenReturn(Collections.singletonMap(resource, config));
+        AdminClient adminClient = mock(AdminClient.class);
+        when(adminClient.describeTopics(any())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(any())).thenReturn(describeConfigsResult);
+
+        new KafkaImpl(adminClient, vertx).topicMetadata(new TopicName("my-topic")).setHandler(context.succeeding(metadata -> context.verify(() -> {
+            assertThat(metadata, is(nullValue()));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testMetadataOfManyTopicsIsFetchedInBatches(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        AdminClient adminClient = mock(AdminClient.class);
+        when(adminClient.describeTopics(any())).thenAnswer(invocation -> {
+            Map<String, KafkaFuture<TopicDescription>> values = new HashMap<>();
+            for (String topic : invocation.<Collection<String>>getArgument(0)) {
+                values.put(topic, KafkaFuture.completedFuture(new TopicDescription(topic, false, Collections.emptyList())));
+            }
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+        when(adminClient.describeConfigs(any())).thenAnswer(invocation -> {
+            Map<ConfigResource, KafkaFuture<Config>> values = new HashMap<>();
+            for (ConfigResource resource : invocation.<Collection<ConfigResource>>getArgument(0)) {
+                values.put(resource, KafkaFuture.completedFuture(new Config(Collections.emptyList())));
+            }
+            DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        Set<TopicName> topicNames = IntStream.range(0, 2 * KafkaImpl.MAX_TOPICS_PER_REQUEST + 1)
+                .mapToObj(i -> new TopicName("topic-" + i))
+                .collect(Collectors.toSet());
+        new KafkaImpl(adminClient, vertx).topicsMetadata(topicNames).setHandler(context.succeeding(metadata -> context.verify(() -> {
+            assertThat(metadata.keySet(), is(topicNames));
+            assertThat(metadata.get(new TopicName("topic-0")).getDescription().name(), is("topic-0"));
+            verify(adminClient, times(3)).describeTopics(any());
+            verify(adminClient, times(3)).describeConfigs(any());
+            async.flag();
+        })));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KafkaTopicStatusWriterTest {
+
+    private static KafkaTopic kafkaTopic(String name, long generation, String resourceVersion) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withGeneration(generation)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        List<KafkaTopic> written = new ArrayList<>();
+        List<Promise<KafkaTopic>> inFlight = new ArrayList<>();
+        K8s k8s = mock(K8s.class);
+        when(k8s.updateResourceStatus(any())).thenAnswer(invocation -> {
+            written.add(invocation.getArgument(0));
+            Promise<KafkaTopic> promise = Promise.promise();
+            inFlight.add(promise);
+            return promise.future();
+        });
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(k8s, 1, 10);
+
+        KafkaTopic a = kafkaTopic("a", 1, "1");
+        writer.write(a);
+        KafkaTopic b = kafkaTopic("b", 1, "1");
+        Future<KafkaTopic> bResult = writer.write(b);
+        KafkaTopic c = kafkaTopic("c", 1, "1");
+        writer.write(c);
+        assertThat(written.size(), is(1));
+
+        inFlight.get(0).complete(a);
+        assertThat(written.size(), is(2));
+        assertThat(written.get(1), is(b));
+        assertThat(writer.lastWrittenGeneration("a"), is(1L));
+
+        inFlight.get(1).complete(b);
+        assertThat(bResult.result(), is(b));
+        assertThat(written.size(), is(3));
+        assertThat(written.get(2), is(c));
+    }
+
+    @Test
+    public void testTrackedGenerationsAreBounded() {
+        K8s k8s = mock(K8s.class);
+        when(k8s.updateResourceStatus(any())).thenAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(k8s, 10, 2);
+
+        writer.write(kafkaTopic("a", 1, "1"));
+        writer.write(kafkaTopic("b", 2, "1"));
+        writer.lastWrittenGeneration("a");
+        writer.write(kafkaTopic("c", 3, "1"));
+
+        assertThat(writer.trackedGenerations(), is(2));
+        // b was the least recently used
+        assertThat(writer.lastWrittenGeneration("b"), is(nullValue()));
+        assertThat(writer.lastWrittenGeneration("a"), is(1L));
+        assertThat(writer.lastWrittenGeneration("c"), is(3L));
+
+        writer.forget("c");
+        assertThat(writer.lastWrittenGeneration("c"), is(nullValue()));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.debezium.kafka.KafkaCluster;
+import io.strimzi.operator.topic.zk.AclBuilder;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.data.ACL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaTopicStoreIT {
+
+    private static final String STORE_TOPIC = "__strimzi_store_topic";
+
+    private Vertx vertx;
+    private KafkaCluster kafkaCluster;
+    private AdminClient adminClient;
+    private Properties kafkaClientProps;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+        kafkaCluster = new KafkaCluster();
+        kafkaCluster.addBrokers(1);
+        kafkaCluster.deleteDataPriorToStartup(true);
+        kafkaCluster.deleteDataUponShutdown(true);
+        kafkaCluster.usingDirectory(Files.createTempDirectory("kafka-topic-store-test").toFile());
+        kafkaCluster.startup();
+        kafkaClientProps = new Properties();
+        kafkaClientProps.setProperty(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaCluster.brokerList());
+        adminClient = AdminClient.create(kafkaClientProps);
+    }
+
+    @AfterEach
+    public void teardown() {
+        adminClient.close();
+        kafkaCluster.shutdown();
+        vertx.close();
+    }
+
+    @Test
+    public void testCrudAndReload(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        Topic topic = new Topic.Builder("my_topic", 2, (short) 1, Collections.singletonMap("foo", "bar")).build();
+        Topic updatedTopic = new Topic.Builder("my_topic", 3, (short) 1, Collections.singletonMap("foo", "baz")).build();
+        Topic otherTopic = new Topic.Builder("other_topic", 1, (short) 1, Collections.emptyMap()).build();
+        KafkaTopicStore store = new KafkaTopicStore(vertx, adminClient, STORE_TOPIC, (short) 1, kafkaClientProps);
+
+        store.start()
+            .compose(ignored -> store.create(topic))
+            .compose(ignored -> store.create(topic).otherwise(error -> {
+                context.verify(() -> assertThat(error, instanceOf(TopicStore.EntityExistsException.class)));
+                return null;
+            }))
+            .compose(ignored -> store.read(new TopicName("my_topic")))
+            .compose(read -> {
+                context.verify(() -> assertThat(read, is(topic)));
+                return store.update(updatedTopic);
+            })
+            .compose(ignored -> store.create(otherTopic))
+            .compose(ignored -> store.delete(new TopicName("other_topic")))
+            .compose(ignored -> {
+                store.stop();
+                KafkaTopicStore reloaded = new KafkaTopicStore(vertx, adminClient, STORE_TOPIC, (short) 1, kafkaClientProps);
+                return reloaded.start()
+                    .compose(v -> reloaded.read(new TopicName("my_topic")))
+                    .compose(read -> {
+                        context.verify(() -> assertThat(read, is(updatedTopic)));
+                        return reloaded.read(new TopicName("other_topic"));
+                    })
+                    .map(read -> {
+                        context.verify(() -> assertThat(read, is(nullValue())));
+                        reloaded.stop();
+                        return null;
+                    });
+            })
+            .setHandler(context.succeeding(v -> async.flag()));
+    }
+
+    @Test
+    public void testMigrationFromZooKeeper(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        Topic topic = new Topic.Builder("migrated_topic", 2, (short) 1, Collections.singletonMap("foo", "bar")).build();
+        Topic laterTopic = new Topic.Builder("later_topic", 1, (short) 1, Collections.emptyMap()).build();
+        Zk zk = Zk.createSync(vertx, kafkaCluster.zKConnectString(), 60_000, 10_000);
+        List<ACL> acl = AclBuilder.PUBLIC;
+        KafkaTopicStore store = new KafkaTopicStore(vertx, adminClient, STORE_TOPIC, (short) 1, kafkaClientProps);
+        KafkaTopicStore reloaded = new KafkaTopicStore(vertx, adminClient, STORE_TOPIC, (short) 1, kafkaClientProps);
+
+        createZnode(zk, "/strimzi", null, acl)
+            .compose(ignored -> createZnode(zk, "/strimzi/topics", null, acl))
+            .compose(ignored -> createZnode(zk, "/strimzi/topics/migrated_topic", TopicSerialization.toJson(topic), acl))
+            .compose(ignored -> store.start())
+            .compose(ignored -> store.migrateFrom(zk, "/strimzi/topics", false))
+            .compose(ignored -> store.read(new TopicName("migrated_topic")))
+            .compose(read -> {
+                context.verify(() -> assertThat(read, is(topic)));
+                // The znodes are kept
+                return children(zk, "/strimzi/topics");
+            })
+            .compose(children -> {
+                context.verify(() -> assertThat(children, is(Collections.singletonList("migrated_topic"))));
+                store.stop();
+                return createZnode(zk, "/strimzi/topics/later_topic", TopicSerialization.toJson(laterTopic), acl);
+            })
+            // The migration has been recorded, so it is not repeated
+            .compose(ignored -> reloaded.start())
+            .compose(ignored -> reloaded.migrateFrom(zk, "/strimzi/topics", false))
+            .compose(ignored -> reloaded.read(new TopicName("later_topic")))
+            .compose(read -> {
+                context.verify(() -> assertThat(read, is(nullValue())));
+                return reloaded.migrateFrom(zk, "/strimzi/topics", true);
+            })
+            .compose(ignored -> children(zk, "/strimzi/topics"))
+            .setHandler(context.succeeding(children -> context.verify(() -> {
+                assertThat(children.isEmpty(), is(true));
+                reloaded.stop();
+                zk.disconnect(ar -> async.flag());
+            })));
+    }
+
+    private static Future<List<String>> children(Zk zk, String path) {
+        Promise<List<String>> children = Promise.promise();
+        zk.children(path, children);
+        return children.future();
+    }
+
+    private static Future<Void> createZnode(Zk zk, String path, byte[] data, List<ACL> acl) {
+        Promise<Void> created = Promise.promise();
+        zk.create(path, data, acl, CreateMode.PERSISTENT, created);
+        return created.future();
+    }
+}
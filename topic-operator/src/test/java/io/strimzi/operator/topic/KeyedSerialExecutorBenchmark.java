@@ -0,0 +1,98 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Compares how many actions per second {@link KeyedSerialExecutor} and the Vert.x shared-data locks,
+ * which {@link TopicOperator#executeWithTopicLockHeld} used to take for every action, run when the actions
+ * are spread over many topics, as during a full reconciliation.
+ * The actions themselves complete immediately, so only the cost of serializing them is measured.
+ * Run it with the number of topics and the number of actions per topic as the (optional) arguments.
+ */
+public class KeyedSerialExecutorBenchmark {
+
+    interface Submitter {
+        Future<Void> submit(String key, Supplier<Future<Void>> action);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int topics = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int actionsPerTopic = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Vertx vertx = Vertx.vertx();
+        try {
+            KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>(vertx, 1000);
+            Submitter mailbox = (key, action) -> executor.submit(key, null, action);
+            Submitter lock = (key, action) -> withSharedLock(vertx, key, action);
+            // Warm up, then measure
+            run(vertx, mailbox, topics / 10, actionsPerTopic);
+            run(vertx, lock, topics / 10, actionsPerTopic);
+            print("KeyedSerialExecutor", run(vertx, mailbox, topics, actionsPerTopic), topics, actionsPerTopic);
+            print("Vert.x shared-data lock", run(vertx, lock, topics, actionsPerTopic), topics, actionsPerTopic);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    /**
+     * Runs the given action holding the shared-data lock for the given key,
+     * as {@link TopicOperator#executeWithTopicLockHeld} used to.
+     */
+    private static Future<Void> withSharedLock(Vertx vertx, String key, Supplier<Future<Void>> action) {
+        Promise<Void> result = Promise.promise();
+        vertx.sharedData().getLockWithTimeout(key, 30_000, lockResult -> {
+            if (lockResult.succeeded()) {
+                action.get().setHandler(actionResult -> {
+                    lockResult.result().release();
+                    result.handle(actionResult);
+                });
+            } else {
+                result.fail(lockResult.cause());
+            }
+        });
+        return result.future();
+    }
+
+    private static long run(Vertx vertx, Submitter submitter, int topics, int actionsPerTopic) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(topics * actionsPerTopic);
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.nanoTime();
+        vertx.runOnContext(ignored -> {
+            for (int i = 0; i < actionsPerTopic; i++) {
+                for (int topic = 0; topic < topics; topic++) {
+                    submitter.submit("topic-" + topic, Future::succeededFuture).setHandler(ar -> {
+                        if (ar.failed()) {
+                            failures.incrementAndGet();
+                        }
+                        done.countDown();
+                    });
+                }
+            }
+        });
+        if (!done.await(5, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("The actions did not complete within 5 minutes");
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " actions failed");
+        }
+        return elapsedNanos;
+    }
+
+    private static void print(String name, long elapsedNanos, int topics, int actionsPerTopic) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int actions = topics * actionsPerTopic;
+        System.out.printf("%s: %d actions on %d topics in %d ms (%.0f actions/s)%n",
+                name, actions, topics, elapsedMs, actions * 1000.0 / Math.max(1, elapsedMs));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KeyedSerialExecutorTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void initVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void closeVertx() {
+        vertx.close();
+    }
+
+    @Test
+    public void testActionsForTheSameKeyRunOneAtATime(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>(vertx, 10);
+        List<String> events = new CopyOnWriteArrayList<>();
+        Promise<Void> first = Promise.promise();
+
+        executor.submit("a", null, () -> {
+            events.add("start a1");
+            return first.future();
+        });
+        Future<Void> second = executor.submit("a", null, () -> {
+            events.add("start a2");
+            return Future.succeededFuture();
+        });
+        Future<Void> other = executor.submit("b", null, () -> {
+            events.add("start b1");
+            return Future.succeededFuture();
+        });
+
+        other.compose(ignored -> {
+            context.verify(() -> assertThat(events.contains("start a2"), is(false)));
+            first.complete();
+            return second;
+        }).setHandler(context.succeeding(ignored -> context.verify(() -> {
+            assertThat(events.size(), is(3));
+            assertThat(events.get(2), is("start a2"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testWaitingActionsAreCoalescedAndBounded(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>(vertx, 2);
+        List<String> events = new CopyOnWriteArrayList<>();
+        Promise<Void> first = Promise.promise();
+
+        executor.submit("a", "reconcile", () -> {
+            events.add("running");
+            return first.future();
+        });
+        Future<Void> waiting = executor.submit("a", "reconcile", () -> {
+            events.add("waiting");
+            return Future.succeededFuture();
+        });
+        Future<Void> coalesced = executor.submit("a", "reconcile", () -> {
+            events.add("coalesced");
+            return Future.succeededFuture();
+        });
+        assertThat(coalesced, is(sameInstance(waiting)));
+
+        executor.submit("a", null, () -> Future.succeededFuture());
+        Future<Void> rejected = executor.submit("a", null, () -> Future.succeededFuture());
+        assertThat(rejected.failed(), is(true));
+
+        first.complete();
+        waiting.setHandler(context.succeeding(ignored -> context.verify(() -> {
+            assertThat(events, is(asList("running", "waiting")));
+            async.flag();
+        })));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationPacerTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void initVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void closeVertx() {
+        vertx.close();
+    }
+
+    @Test
+    public void testInFlightReconciliationsAreLimited(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        ReconciliationPacer pacer = new ReconciliationPacer(vertx, 1, 0);
+        pacer.startSweep(2);
+        Promise<Void> first = Promise.promise();
+        Promise<Void> firstStarted = Promise.promise();
+
+        pacer.submit(() -> {
+            firstStarted.complete();
+            return first.future();
+        });
+        Future<Void> second = pacer.submit(() -> Future.succeededFuture());
+
+        firstStarted.future().setHandler(context.succeeding(ignored -> {
+            context.verify(() -> {
+                assertThat(pacer.inFlight(), is(1));
+                assertThat(pacer.waiting(), is(1));
+            });
+            first.complete();
+            second.setHandler(context.succeeding(v -> context.verify(() -> {
+                assertThat(pacer.waiting(), is(0));
+                async.flag();
+            })));
+        }));
+    }
+
+    @Test
+    public void testReconciliationsAreSpreadOverTheSweep(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        long sweepDurationMs = 400;
+        ReconciliationPacer pacer = new ReconciliationPacer(vertx, 0, sweepDurationMs);
+        long sweepStart = System.currentTimeMillis();
+        pacer.startSweep(2);
+        AtomicLong secondStart = new AtomicLong();
+
+        pacer.submit(() -> Future.succeededFuture());
+        pacer.submit(() -> {
+            secondStart.set(System.currentTimeMillis());
+            return Future.succeededFuture();
+        }).setHandler(context.succeeding(v -> context.verify(() -> {
+            // The second of two reconciliations is due half way through the sweep
+            assertThat(secondStart.get() - sweepStart, is(greaterThanOrEqualTo(sweepDurationMs / 2)));
+            async.flag();
+        })));
+    }
+}
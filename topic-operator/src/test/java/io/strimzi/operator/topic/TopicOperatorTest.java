@@ -106,6 +106,14 @@ public class TopicOperatorTest {
         return result;
     }
 
+    @Test
+    public void testInternalTopicsAreExcluded() {
+        assertThat(topicOperator.isExcluded(new TopicName(Config.TOPIC_STORE_TOPIC.defaultValue)), is(true));
+        assertThat(topicOperator.isExcluded(new TopicName("__strimzi-topic-operator-kstreams-topic-store-changelog")), is(true));
+        assertThat(topicOperator.isExcluded(new TopicName("__consumer_offsets")), is(false));
+        assertThat(topicOperator.isExcluded(topicName), is(false));
+    }
+
     /** Test what happens when a non-topic KafkaTopic gets created in kubernetes */
     @Test
     public void testOnKafkaTopicAdded_ignorable(VertxTestContext context) {
@@ -404,6 +412,47 @@ public class TopicOperatorTest {
         });
     }
 
+    /**
+     * 0. ZK notifies of a change in topic config, after partitions were also added to the topic
+     * 1. operator gets updated topic metadata
+     * 2. operator updates the partitions in k8s and topic store as well as the config.
+     */
+    @Test
+    public void testOnTopicConfigChangedReconcilesPartitions(VertxTestContext context) {
+        Topic kubeTopic = new Topic.Builder(topicName.toString(), 10, (short) 2, map("cleanup.policy", "bar")).build();
+        Topic kafkaTopic = new Topic.Builder(topicName.toString(), 12, (short) 2, map("cleanup.policy", "baz")).build();
+        Topic privateTopic = kubeTopic;
+        KafkaTopic resource = TopicSerialization.toTopicResource(kubeTopic, labels);
+
+        mockKafka.setCreateTopicResponse(topicName.toString(), null)
+                .createTopic(kafkaTopic);
+        mockKafka.setTopicMetadataResponse(topicName, Utils.getTopicMetadata(kafkaTopic), null);
+
+        mockTopicStore.setCreateTopicResponse(topicName, null)
+                .create(privateTopic);
+        mockTopicStore.setUpdateTopicResponse(topicName, null);
+
+        mockK8s.setCreateResponse(resourceName, null)
+                .createResource(resource);
+        mockK8s.setModifyResponse(resourceName, null);
+        LogContext logContext = LogContext.zkWatch("///", topicName.toString());
+        Checkpoint async = context.checkpoint(3);
+        topicOperator.onTopicConfigChanged(logContext, topicName).setHandler(ar -> {
+            assertSucceeded(context, ar);
+            mockTopicStore.read(topicName).setHandler(ar2 -> {
+                assertSucceeded(context, ar2);
+                context.verify(() -> assertThat(ar2.result().getNumPartitions(), is(12)));
+                async.flag();
+            });
+            mockK8s.getFromName(resourceName).setHandler(ar2 -> {
+                assertSucceeded(context, ar2);
+                context.verify(() -> assertThat(TopicSerialization.fromTopicResource(ar2.result()).getNumPartitions(), is(12)));
+                async.flag();
+            });
+            async.flag();
+        });
+    }
+
     // TODO error getting full topic metadata, and then reconciliation
     // TODO error creating KafkaTopic (exists), and then reconciliation
 
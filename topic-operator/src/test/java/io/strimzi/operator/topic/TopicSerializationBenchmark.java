@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures how many conversions per second {@link TopicSerialization} does for the conversions which are run for
+ * every topic during a reconciliation: {@link TopicSerialization#toJson(Topic)} and
+ * {@link TopicSerialization#fromJson(byte[])} for the topic store, {@link TopicSerialization#fromTopicResource(KafkaTopic)}
+ * for KafkaTopics and {@link TopicSerialization#fromTopicMetadata(TopicMetadata)} for Kafka topics.
+ * Run it with the number of conversions of each kind as the only (optional) argument.
+ */
+public class TopicSerializationBenchmark {
+
+    /** Accumulates the results, so that the conversions cannot be optimized away */
+    private static int sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        Map<String, String> config = new HashMap<>();
+        config.put("cleanup.policy", "compact");
+        config.put("min.insync.replicas", "2");
+        config.put("retention.ms", "604800000");
+        Topic topic = new Topic.Builder("my-topic", 12, (short) 3, config).build();
+        byte[] json = TopicSerialization.toJson(topic);
+        KafkaTopic resource = TopicSerialization.toTopicResource(topic, new Labels("app", "strimzi"));
+        TopicMetadata metadata = Utils.getTopicMetadata(topic);
+
+        for (int round = 0; round < 2; round++) {
+            // The first round warms up, the second is measured
+            boolean print = round == 1;
+            time("toJson", iterations, print, () -> TopicSerialization.toJson(topic));
+            time("fromJson", iterations, print, () -> TopicSerialization.fromJson(json));
+            time("fromTopicResource", iterations, print, () -> TopicSerialization.fromTopicResource(resource));
+            time("fromTopicMetadata", iterations, print, () -> TopicSerialization.fromTopicMetadata(metadata));
+        }
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void time(String name, int iterations, boolean print, Supplier<Object> conversion) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += System.identityHashCode(conversion.get());
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        if (print) {
+            System.out.printf("%s: %d conversions in %d ms (%.0f conversions/s, %.2f us each)%n",
+                    name, iterations, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    iterations * 1e9 / Math.max(1, elapsedNanos), elapsedNanos / 1000.0 / iterations);
+        }
+    }
+}
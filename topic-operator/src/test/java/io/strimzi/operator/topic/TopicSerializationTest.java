@@ -16,6 +16,7 @@ import org.apache.kafka.common.config.ConfigResource;
 import org.junit.jupiter.api.Test;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -117,6 +118,25 @@ public class TopicSerializationTest {
         assertThat(readTopic, is(wroteTopic));
     }
 
+    @Test
+    public void testJsonDeserializationIgnoresFieldOrderAndUnknownFields() {
+        String json = "{\"config\":{\"foo\":\"bar\"}," +
+                "\"unknown\":{\"nested\":[1,2]}," +
+                "\"replicas\":1," +
+                "\"partitions\":2," +
+                "\"topic-name\":\"tom\"," +
+                "\"map-name\":\"bob\"" +
+                "}";
+        Topic readTopic = TopicSerialization.fromJson(json.getBytes(StandardCharsets.UTF_8));
+        assertThat(readTopic, is(new Topic.Builder()
+                .withTopicName("tom")
+                .withMapName("bob")
+                .withNumPartitions(2)
+                .withNumReplicas((short) 1)
+                .withConfigEntry("foo", "bar")
+                .build()));
+    }
+
 
     @Test
     public void testToNewTopic() {
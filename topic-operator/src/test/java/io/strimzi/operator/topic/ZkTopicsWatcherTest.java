@@ -11,6 +11,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.charset.StandardCharsets;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
@@ -80,4 +82,24 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testTopicConfigChangeNotification() {
+        operator.topicModifiedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("config_change_0000000001"));
+        TopicConfigChangesWatcher topicConfigsWatcher = new TopicConfigChangesWatcher(operator);
+        topicConfigsWatcher.start(mockZk);
+
+        // Notifications which existed before starting are ignored
+        mockZk.dataResult = Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/baz\"}".getBytes(StandardCharsets.UTF_8));
+        mockZk.triggerChildren(Future.succeededFuture(asList("config_change_0000000001", "config_change_0000000002")));
+        assertThat(operator.getMockOperatorEvents(), is(singletonList(
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("baz")))));
+
+        // Notifications about other entities are ignored
+        operator.clearEvents();
+        mockZk.dataResult = Future.succeededFuture("{\"version\":1,\"entity_type\":\"clients\",\"entity_name\":\"baz\"}".getBytes(StandardCharsets.UTF_8));
+        mockZk.triggerChildren(Future.succeededFuture(asList("config_change_0000000002", "config_change_0000000003")));
+        assertThat(operator.getMockOperatorEvents().isEmpty(), is(true));
+    }
 }
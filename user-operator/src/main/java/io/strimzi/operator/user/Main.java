@@ -7,11 +7,13 @@ package io.strimzi.operator.user;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.DoneableKafkaUser;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
@@ -19,6 +21,7 @@ import io.strimzi.operator.user.operator.KafkaUserQuotasOperator;
 import io.strimzi.operator.user.operator.ScramShaCredentials;
 import io.strimzi.operator.user.operator.ScramShaCredentialsOperator;
 import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.operator.user.operator.UserConfigSnapshot;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -32,6 +35,7 @@ import java.util.Map;
 import io.vertx.core.VertxOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 
 @SuppressFBWarnings("DM_EXIT")
 @SuppressWarnings("deprecation")
@@ -56,6 +60,7 @@ public class Main {
                         .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
+        WorkerExecutors.configure(vertx, System.getenv());
         KubernetesClient client = new DefaultKubernetesClient();
         kafka.security.auth.SimpleAclAuthorizer authorizer = createSimpleAclAuthorizer(config);
 
@@ -72,18 +77,34 @@ public class Main {
         String dnsCacheTtl = System.getenv("STRIMZI_DNS_CACHE_TTL") == null ? "30" : System.getenv("STRIMZI_DNS_CACHE_TTL");
         Security.setProperty("networkaddress.cache.ttl", dnsCacheTtl);
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.getCertManager().create();
         SecretOperator secretOperations = new SecretOperator(vertx, client);
+        if (config.isResourceCacheEnabled()) {
+            // Only the clients CA Secrets, which are read in every reconciliation, are cached using name-scoped watches.
+            // The user Secrets are always read from the API server.
+            secretOperations.enableCache(config.getCaCertSecretName(), config.getResourceCacheResyncIntervalMs());
+            secretOperations.enableCache(config.getCaKeySecretName(), config.getResourceCacheResyncIntervalMs());
+        }
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        if (registry != null) {
+            // The registry is only missing when Vert.x was created without metrics, as in tests
+            secretOperations.bindTo(registry);
+        }
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList, DoneableKafkaUser> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, DoneableKafkaUser.class);
         SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, authorizer);
-        ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+        UserConfigSnapshot userConfigSnapshot = new UserConfigSnapshot(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+        ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs(), userConfigSnapshot);
         ScramShaCredentialsOperator scramShaCredentialsOperator = new ScramShaCredentialsOperator(vertx, scramShaCredentials);
-        KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+        KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs(), userConfigSnapshot);
 
         KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx,
                 certManager, crdOperations,
                 config.getLabels(),
-                secretOperations, scramShaCredentialsOperator, quotasOperator, aclOperations, config.getCaCertSecretName(), config.getCaKeySecretName(), config.getCaNamespace());
+                secretOperations, scramShaCredentialsOperator, quotasOperator, aclOperations, config.getCaCertSecretName(), config.getCaKeySecretName(), config.getCaNamespace(),
+                userConfigSnapshot);
+        if (config.getMaxConcurrentReconciliations() > 0) {
+            kafkaUserOperations.enableQueue(config.getMaxConcurrentReconciliations());
+        }
 
         Promise<String> promise = Promise.promise();
         UserOperator operator = new UserOperator(config.getNamespace(),
@@ -6,6 +6,7 @@ package io.strimzi.operator.user;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
@@ -14,7 +15,6 @@ import io.vertx.core.http.HttpServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.TimeUnit;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.vertx.micrometer.backends.BackendRegistries;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
@@ -59,8 +59,9 @@ public class UserOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         log.info("Starting UserOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+        // The worker pools are configured in Main, but they are shared by all the verticles
+        WorkerExecutors.get(getVertx()).bindTo(metrics);
+        kafkaUserOperator.enableMetrics(metrics);
 
         kafkaUserOperator.createWatch(namespace, kafkaUserOperator.recreateWatch(namespace))
             .compose(w -> {
@@ -5,8 +5,10 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.ResourceCache;
 
 import java.util.Map;
 
@@ -25,10 +27,18 @@ public class UserOperatorConfig {
     public static final String STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final String STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS = "STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 6_000;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 10;
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+    public static final long DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS = ResourceCache.DEFAULT_RESYNC_INTERVAL_MS;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -38,6 +48,10 @@ public class UserOperatorConfig {
     private final String caCertSecretName;
     private final String caKeySecretName;
     private final String caNamespace;
+    private final int maxConcurrentReconciliations;
+    private final boolean resourceCacheEnabled;
+    private final long resourceCacheResyncIntervalMs;
+    private final CertManagerType certManager;
 
     /**
      * Constructor
@@ -50,6 +64,10 @@ public class UserOperatorConfig {
      * @param caCertSecretName Name of the secret containing the Certification Authority certificate.
      * @param caKeySecretName The name of the secret containing the Certification Authority key.
      * @param caNamespace Namespace with the CA secret.
+     * @param maxConcurrentReconciliations Maximum number of concurrent reconciliations of KafkaUsers (0 for no limit).
+     * @param resourceCacheEnabled Whether the clients CA Secrets should be read from a local cache kept up to date using watches.
+     * @param resourceCacheResyncIntervalMs The interval in milliseconds between full re-lists of the cached CA Secrets.
+     * @param certManager The implementation used to generate keys and certificates.
      */
     public UserOperatorConfig(String namespace,
                               long reconciliationIntervalMs,
@@ -57,7 +75,11 @@ public class UserOperatorConfig {
                               long zookeeperSessionTimeoutMs,
                               Labels labels, String caCertSecretName,
                               String caKeySecretName,
-                              String caNamespace) {
+                              String caNamespace,
+                              int maxConcurrentReconciliations,
+                              boolean resourceCacheEnabled,
+                              long resourceCacheResyncIntervalMs,
+                              CertManagerType certManager) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.zookeperConnect = zookeperConnect;
@@ -66,6 +88,10 @@ public class UserOperatorConfig {
         this.caCertSecretName = caCertSecretName;
         this.caKeySecretName = caKeySecretName;
         this.caNamespace = caNamespace;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.resourceCacheResyncIntervalMs = resourceCacheResyncIntervalMs;
+        this.certManager = certManager;
     }
 
     /**
@@ -122,7 +148,40 @@ public class UserOperatorConfig {
             caNamespace = namespace;
         }
 
-        return new UserOperatorConfig(namespace, reconciliationInterval, zookeeperConnect, zookeeperSessionTimeoutMs, labels, caCertSecretName, caKeySecretName, caNamespace);
+        int maxConcurrentReconciliations = DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+        String maxConcurrentReconciliationsEnvVar = map.get(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS);
+        if (maxConcurrentReconciliationsEnvVar != null) {
+            maxConcurrentReconciliations = Integer.parseInt(maxConcurrentReconciliationsEnvVar);
+            if (maxConcurrentReconciliations < 0) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS + " cannot be negative");
+            }
+        }
+
+        boolean resourceCacheEnabled = DEFAULT_RESOURCE_CACHE_ENABLED;
+        String resourceCacheEnabledEnvVar = map.get(UserOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED);
+        if (resourceCacheEnabledEnvVar != null) {
+            resourceCacheEnabled = Boolean.parseBoolean(resourceCacheEnabledEnvVar);
+        }
+
+        long resourceCacheResyncIntervalMs = DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS;
+        String resourceCacheResyncIntervalMsEnvVar = map.get(UserOperatorConfig.STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS);
+        if (resourceCacheResyncIntervalMsEnvVar != null) {
+            resourceCacheResyncIntervalMs = Long.parseLong(resourceCacheResyncIntervalMsEnvVar);
+        }
+
+        CertManagerType certManager = DEFAULT_CERT_MANAGER;
+        String certManagerEnvVar = map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER);
+        if (certManagerEnvVar != null) {
+            try {
+                certManager = CertManagerType.fromString(certManagerEnvVar);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException(certManagerEnvVar + " is not a valid " + UserOperatorConfig.STRIMZI_CERT_MANAGER
+                        + " value. " + UserOperatorConfig.STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, java.");
+            }
+        }
+
+        return new UserOperatorConfig(namespace, reconciliationInterval, zookeeperConnect, zookeeperSessionTimeoutMs, labels, caCertSecretName, caKeySecretName, caNamespace, maxConcurrentReconciliations,
+                resourceCacheEnabled, resourceCacheResyncIntervalMs, certManager);
     }
 
     public static int getClientsCaValidityDays() {
@@ -198,6 +257,34 @@ public class UserOperatorConfig {
         return zookeeperSessionTimeoutMs;
     }
 
+    /**
+     * @return  Maximum number of concurrent reconciliations of KafkaUsers, or 0 when not limited
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return  Whether the clients CA Secrets are read from a local cache kept up to date using watches
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return  The interval in milliseconds between full re-lists of the cached CA Secrets
+     */
+    public long getResourceCacheResyncIntervalMs() {
+        return resourceCacheResyncIntervalMs;
+    }
+
+    /**
+     * @return  The implementation used to generate keys and certificates
+     */
+    public CertManagerType getCertManager() {
+        return certManager;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -208,6 +295,10 @@ public class UserOperatorConfig {
                 ",labels=" + labels +
                 ",caName=" + caCertSecretName +
                 ",caNamespace=" + caNamespace +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",resourceCacheResyncIntervalMs=" + resourceCacheResyncIntervalMs +
+                ",certManager=" + certManager +
                 ")";
     }
 }
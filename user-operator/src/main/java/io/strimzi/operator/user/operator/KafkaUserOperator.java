@@ -18,6 +18,7 @@ import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -26,14 +27,17 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
@@ -59,6 +63,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
     private final ScramShaCredentialsOperator scramShaCredentialOperator;
     private final Optional<LabelSelector> selector;
     private final KafkaUserQuotasOperator kafkaUserQuotasOperator;
+    private final UserConfigSnapshot userConfigSnapshot;
     private PasswordGenerator passwordGenerator = new PasswordGenerator(12);
 
     /**
@@ -82,6 +87,35 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
                              ScramShaCredentialsOperator scramShaCredentialOperator,
                              KafkaUserQuotasOperator kafkaUserQuotasOperator,
                              SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace) {
+        this(vertx, certManager, crdOperator, labels, secretOperations, scramShaCredentialOperator, kafkaUserQuotasOperator,
+                aclOperations, caCertName, caKeyName, caNamespace, null);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param certManager For managing certificates.
+     * @param crdOperator For operating on Custom Resources.
+     * @param labels A selector for which users in the namespace to consider as the operators
+     * @param secretOperations For operating on Secrets.
+     * @param scramShaCredentialOperator For operating on SCRAM SHA credentials.
+     * @param kafkaUserQuotasOperator For operating on Kafka User quotas.
+     * @param aclOperations For operating on ACLs.
+     * @param caCertName The name of the Secret containing the clients CA certificate.
+     * @param caKeyName The name of the Secret containing the clients CA private key.
+     * @param caNamespace The namespace of the Secret containing the clients CA certificate and private key.
+     * @param userConfigSnapshot The snapshot of the user configurations used by {@code scramShaCredentialOperator}
+     *                           and {@code kafkaUserQuotasOperator}, which is taken for each periodic reconciliation,
+     *                           or null.
+     */
+    public KafkaUserOperator(Vertx vertx,
+                             CertManager certManager,
+                             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList, DoneableKafkaUser> crdOperator,
+                             Labels labels,
+                             SecretOperator secretOperations,
+                             ScramShaCredentialsOperator scramShaCredentialOperator,
+                             KafkaUserQuotasOperator kafkaUserQuotasOperator,
+                             SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace,
+                             UserConfigSnapshot userConfigSnapshot) {
         super(vertx, "User", crdOperator);
         this.certManager = certManager;
         Map<String, String> matchLabels = labels.toMap();
@@ -93,6 +127,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
         this.caCertName = caCertName;
         this.caKeyName = caKeyName;
         this.caNamespace = caNamespace;
+        this.userConfigSnapshot = userConfigSnapshot;
     }
 
     @Override
@@ -112,6 +147,31 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
                 });
     }
 
+    /**
+     * Reconciles all the users, reading their ACLs from an index which is built once for the whole periodic
+     * reconciliation, and their configurations from a snapshot of {@code /config/users} taken at the same time.
+     */
+    @Override
+    public void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        List<Future> sweeps = new ArrayList<>(2);
+        sweeps.add(invokeAsync(aclOperations::startSweep, WorkerExecutors.Pool.KAFKA_ADMIN));
+        if (userConfigSnapshot != null) {
+            sweeps.add(invokeAsync(userConfigSnapshot::startSweep));
+        }
+        CompositeFuture.join(sweeps).setHandler(loaded -> {
+            if (loaded.failed()) {
+                log.warn("Failed to load the ACLs or the configurations of the users, they will be read one user at a time", loaded.cause());
+            }
+            super.reconcileAll(trigger, namespace, result -> {
+                aclOperations.endSweep();
+                if (userConfigSnapshot != null) {
+                    userConfigSnapshot.endSweep();
+                }
+                handler.handle(result);
+            });
+        });
+    }
+
     List<NamespaceAndName> toResourceRef(String namespace, Collection<String> names) {
         return names.stream()
                 .map(name -> new NamespaceAndName(namespace, name))
@@ -119,8 +179,12 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
     }
 
     private <T> Future<T> invokeAsync(Supplier<T> getter) {
+        return invokeAsync(getter, WorkerExecutors.Pool.ZOOKEEPER);
+    }
+
+    private <T> Future<T> invokeAsync(Supplier<T> getter, WorkerExecutors.Pool pool) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("zookeeper-ops-pool").executeBlocking(future -> {
+        WorkerExecutors.executor(vertx, pool).executeBlocking(future -> {
             try {
                 future.complete(getter.get());
             } catch (Throwable t) {
@@ -142,11 +206,18 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
      */
     @Override
     protected Future<Void> createOrUpdate(Reconciliation reconciliation, KafkaUser resource) {
-        Promise<Void> handler = Promise.promise();
-        Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
-        Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
-        Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(reconciliation.name()));
+        Future<Secret> clientsCaCertFuture = secretOperations.getAsync(caNamespace, caCertName);
+        Future<Secret> clientsCaKeyFuture = secretOperations.getAsync(caNamespace, caKeyName);
+        Future<Secret> userSecretFuture = secretOperations.getAsync(reconciliation.namespace(), KafkaUserModel.getSecretName(reconciliation.name()));
+
+        return CompositeFuture.join(clientsCaCertFuture, clientsCaKeyFuture, userSecretFuture)
+                .compose(ignore -> createOrUpdate(reconciliation, resource,
+                        clientsCaCertFuture.result(), clientsCaKeyFuture.result(), userSecretFuture.result()));
+    }
 
+    private Future<Void> createOrUpdate(Reconciliation reconciliation, KafkaUser resource,
+                                        Secret clientsCaCert, Secret clientsCaKey, Secret userSecret) {
+        Promise<Void> handler = Promise.promise();
         Promise<Void> createOrUpdatePromise = Promise.promise();
         String namespace = reconciliation.namespace();
         String userName = reconciliation.name();
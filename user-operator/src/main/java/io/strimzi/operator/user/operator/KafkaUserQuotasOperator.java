@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -25,19 +26,56 @@ public class KafkaUserQuotasOperator {
     private static final Logger log = LogManager.getLogger(KafkaUserQuotasOperator.class.getName());
 
     private final static int CONNECTION_TIMEOUT = 30_000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private ZkClient zkClient;
     private Vertx vertx;
+    private final UserConfigSnapshot snapshot;
 
     public KafkaUserQuotasOperator(Vertx vertx, String zookeeperUrl, int zookeeperSessionTimeout) {
+        this(vertx, zookeeperUrl, zookeeperSessionTimeout, null);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param zookeeperUrl The ZooKeeper connection string.
+     * @param zookeeperSessionTimeout The ZooKeeper session timeout.
+     * @param snapshot The snapshot of the user configurations to read from during periodic reconciliations, or null.
+     */
+    public KafkaUserQuotasOperator(Vertx vertx, String zookeeperUrl, int zookeeperSessionTimeout, UserConfigSnapshot snapshot) {
         this.zkClient = new ZkClient(zookeeperUrl, zookeeperSessionTimeout, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
         this.vertx = vertx;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Read the configuration of the given user, from the snapshot if there is one.
+     */
+    private byte[] readUser(String username) {
+        if (snapshot != null) {
+            return snapshot.read(username, this::readUserFromZk);
+        }
+        return readUserFromZk(username);
+    }
+
+    /**
+     * Read the configuration of the given user from ZooKeeper, before writing it.
+     */
+    private byte[] readUserForUpdate(String username) {
+        if (snapshot != null) {
+            snapshot.invalidate(username);
+        }
+        return readUserFromZk(username);
+    }
+
+    private byte[] readUserFromZk(String username) {
+        return zkClient.readData("/config/users/" + username, true);
     }
 
     Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
         Promise<ReconcileResult<KafkaUserQuotas>> prom = Promise.promise();
         
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.ZOOKEEPER).executeBlocking(
             future -> {
                 try {
                     boolean exists = exists(username);
@@ -64,29 +102,25 @@ public class KafkaUserQuotasOperator {
 
     /**
      * Create or update the quotas for the given user.
+     * If the user already has the given quotas nothing is written, so Kafka is not notified of any change.
      *
      * @param username The name of the user which should be created or updated
      * @param quotas The desired user quotas
      */
     public void createOrUpdate(String username, KafkaUserQuotas quotas) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = readUser(username);
+        if (snapshot != null && (data == null || hasChanges(username, data, quotas))) {
+            // The configuration is updated from its current state in ZooKeeper, not from the snapshot
+            data = readUserForUpdate(username);
+        }
 
         if (data != null)   {
-            log.debug("Checking quota updates for user {}", username);
-            JsonNode diff = null;
-
-            try {
-                ObjectMapper objectMapper = new ObjectMapper();
-                diff = JsonDiff.asJson(objectMapper.readTree(data), objectMapper.readTree(createOrUpdateUserJson(data, quotas)));
-            } catch (IOException e) {
-                log.error("Failed to diff user configuration for user {}", username, e);
-            }
-
-            if (diff != null && diff.size() > 0) {
+            if (hasChanges(username, data, quotas)) {
                 log.debug("Updating quotas for user {}", username);
                 zkClient.writeData("/config/users/" + username, createOrUpdateUserJson(data, quotas));
             } else {
                 log.debug("Nothing to update in quotas for user {}", username);
+                return;
             }
         } else {
             log.debug("Creating quotas for user {}", username);
@@ -97,6 +131,19 @@ public class KafkaUserQuotasOperator {
         notifyChanges(username);
     }
 
+    private boolean hasChanges(String username, byte[] data, KafkaUserQuotas quotas) {
+        log.debug("Checking quota updates for user {}", username);
+        JsonNode diff = null;
+
+        try {
+            diff = JsonDiff.asJson(OBJECT_MAPPER.readTree(data), OBJECT_MAPPER.readTree(createOrUpdateUserJson(data, quotas)));
+        } catch (IOException e) {
+            log.error("Failed to diff user configuration for user {}", username, e);
+        }
+
+        return diff != null && diff.size() > 0;
+    }
+
     /**
      * Generates the JSON with the credentials
      *
@@ -198,7 +245,7 @@ public class KafkaUserQuotasOperator {
      * @return True if the user exists
      */
     boolean exists(String username) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = readUser(username);
 
         if (data != null)   {
             String jsonString = new String(data, StandardCharsets.UTF_8);
@@ -232,7 +279,7 @@ public class KafkaUserQuotasOperator {
      * @param username Name of the user
      */
     public void delete(String username) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = readUserForUpdate(username);
 
         if (data != null)   {
             log.debug("Deleting quotas for user {}", username);
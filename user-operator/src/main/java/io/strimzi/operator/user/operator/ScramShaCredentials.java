@@ -15,9 +15,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for managing Scram credentials
@@ -30,32 +35,153 @@ public class ScramShaCredentials {
 
     private final ScramMechanism mechanism = ScramMechanism.SCRAM_SHA_512;
     private ZkClient zkClient;
+    private final UserConfigSnapshot snapshot;
+
+    /**
+     * The credentials last written or verified for each user, so that an unchanged password
+     * is recognised without hashing it again.
+     */
+    private final ConcurrentHashMap<String, KnownCredential> knownCredentials = new ConcurrentHashMap<>();
+
+    private static class KnownCredential {
+        /** SHA-256 digest of the password, so that the password itself is not kept */
+        private final byte[] passwordDigest;
+        /** The credential stored in ZooKeeper for the password */
+        private final String credential;
+
+        KnownCredential(byte[] passwordDigest, String credential) {
+            this.passwordDigest = passwordDigest;
+            this.credential = credential;
+        }
+    }
 
     public ScramShaCredentials(String zookeeperUrl, int zookeeperSessionTimeout) {
+        this(zookeeperUrl, zookeeperSessionTimeout, null);
+    }
+
+    /**
+     * @param zookeeperUrl The ZooKeeper connection string.
+     * @param zookeeperSessionTimeout The ZooKeeper session timeout.
+     * @param snapshot The snapshot of the user configurations to read from during periodic reconciliations, or null.
+     */
+    public ScramShaCredentials(String zookeeperUrl, int zookeeperSessionTimeout, UserConfigSnapshot snapshot) {
         zkClient = new ZkClient(zookeeperUrl, zookeeperSessionTimeout, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Read the configuration of the given user, from the snapshot if there is one.
+     */
+    private byte[] readUser(String username) {
+        if (snapshot != null) {
+            return snapshot.read(username, this::readUserFromZk);
+        }
+        return readUserFromZk(username);
+    }
+
+    private byte[] readUserFromZk(String username) {
+        return zkClient.readData("/config/users/" + username, true);
     }
 
     /**
      * Create or update the SCRAM-SHA credentials for the given user.
+     * If the user already has credentials for the given password nothing is written,
+     * so Kafka is not notified of any change.
      *
      * @param username The name of the user which should be created or updated
      * @param password The desired user password
      */
     public void createOrUpdate(String username, String password) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = readUser(username);
+        byte[] passwordDigest = digest(password);
+        byte[] newData;
+
+        if (data != null && isUnchanged(username, data, password, passwordDigest)) {
+            log.debug("{} credentials for user {} are unchanged", mechanism.mechanismName(), username);
+            return;
+        }
+        if (snapshot != null) {
+            // The configuration is updated from its current state in ZooKeeper, not from the snapshot,
+            // which might be stale: the current state might already have the credentials
+            data = readUserFromZk(username);
+            snapshot.invalidate(username);
+            if (data != null && isUnchanged(username, data, password, passwordDigest)) {
+                log.debug("{} credentials for user {} are unchanged", mechanism.mechanismName(), username);
+                return;
+            }
+        }
 
         if (data != null)   {
             log.debug("Updating {} credentials for user {}", mechanism.mechanismName(), username);
-            zkClient.writeData("/config/users/" + username, updateUserJson(data, password));
+            newData = updateUserJson(data, password);
+            zkClient.writeData("/config/users/" + username, newData);
         } else {
             log.debug("Creating {} credentials for user {}", mechanism.mechanismName(), username);
             ensurePath("/config/users");
-            zkClient.createPersistent("/config/users/" + username, createUserJson(password));
+            newData = createUserJson(password);
+            zkClient.createPersistent("/config/users/" + username, newData);
         }
 
+        knownCredentials.put(username, new KnownCredential(passwordDigest, storedCredential(newData)));
         notifyChanges(username);
     }
 
+    /**
+     * Determine whether the given user configuration already has the credentials for the given password.
+     * When the stored credentials were written or verified by this instance that's just a comparison with
+     * the digest of the password, otherwise the password is hashed with the salt of the stored credentials.
+     */
+    private boolean isUnchanged(String username, byte[] data, String password, byte[] passwordDigest) {
+        String credential = storedCredential(data);
+        if (credential == null) {
+            return false;
+        }
+        KnownCredential known = knownCredentials.get(username);
+        if (known != null && known.credential.equals(credential)) {
+            return MessageDigest.isEqual(known.passwordDigest, passwordDigest);
+        }
+        if (matches(credential, password)) {
+            knownCredentials.put(username, new KnownCredential(passwordDigest, credential));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The credentials for {@link #mechanism} in the given user configuration, or null if there are none.
+     */
+    private String storedCredential(byte[] data) {
+        JsonObject json = new JsonObject(new String(data, Charset.defaultCharset()));
+        JsonObject config = json.getJsonObject("config");
+        return config != null ? config.getString(mechanism.mechanismName()) : null;
+    }
+
+    /**
+     * @return Whether the given stored credentials were generated from the given password.
+     */
+    private boolean matches(String credential, String password) {
+        try {
+            ScramCredential stored = ScramCredentialUtils.credentialFromString(credential);
+            ScramFormatter formatter = new ScramFormatter(mechanism);
+            byte[] saltedPassword = formatter.saltedPassword(password, stored.salt(), stored.iterations());
+            return MessageDigest.isEqual(formatter.storedKey(formatter.clientKey(saltedPassword)), stored.storedKey())
+                    && MessageDigest.isEqual(formatter.serverKey(saltedPassword), stored.serverKey());
+        } catch (IllegalArgumentException | InvalidKeyException e) {
+            log.debug("Could not verify the existing {} credentials", mechanism.mechanismName(), e);
+            return false;
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to verify credentials", e);
+        }
+    }
+
+    private static byte[] digest(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to digest password", e);
+        }
+    }
+
     private boolean configJsonIsEmpty(JsonObject json) {
         validateJsonVersion(json);
         JsonObject config = json.getJsonObject("config");
@@ -69,7 +195,11 @@ public class ScramShaCredentials {
      * @param username Name of the user
      */
     public void delete(String username) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        knownCredentials.remove(username);
+        byte[] data = readUserFromZk(username);
+        if (snapshot != null) {
+            snapshot.invalidate(username);
+        }
 
         if (data != null)   {
             log.debug("Deleting {} credentials for user {}", mechanism.mechanismName(), username);
@@ -93,7 +223,7 @@ public class ScramShaCredentials {
      * @return True if the user exists and is configured for given mechanism
      */
     public boolean exists(String username) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = readUser(username);
 
         if (data != null)   {
             String jsonString = new String(data, Charset.defaultCharset());
@@ -125,20 +255,24 @@ public class ScramShaCredentials {
      */
     public List<String> list() {
         List<String> result = new ArrayList<>();
+        List<String> nodes = snapshot != null ? snapshot.list(this::listFromZk) : listFromZk();
 
-        if (zkClient.exists("/config/users"))   {
-            List<String> nodes = zkClient.getChildren("/config/users");
-
-            for (String node : nodes)   {
-                if (exists(node))   {
-                    result.add(node);
-                }
+        for (String node : nodes)   {
+            if (exists(node))   {
+                result.add(node);
             }
         }
 
         return result;
     }
 
+    private List<String> listFromZk() {
+        if (zkClient.exists("/config/users"))   {
+            return zkClient.getChildren("/config/users");
+        }
+        return Collections.emptyList();
+    }
+
     /**
      * This notifies Kafka about the changes we have made
      *
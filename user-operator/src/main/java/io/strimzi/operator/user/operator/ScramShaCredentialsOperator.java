@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.WorkerExecutors;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -23,14 +24,13 @@ public class ScramShaCredentialsOperator {
 
     Future<Void> reconcile(String username, String password) {
         Promise<Void> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.ZOOKEEPER).executeBlocking(
             future -> {
-                boolean exists = credsManager.exists(username);
                 if (password != null) {
                     credsManager.createOrUpdate(username, password);
                     future.complete(null);
                 } else  {
-                    if (exists) {
+                    if (credsManager.exists(username)) {
                         credsManager.delete(username);
                         future.complete(null);
                     } else {
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.WorkerExecutors;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
@@ -23,6 +24,7 @@ import scala.collection.JavaConverters;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -35,6 +37,8 @@ import java.util.Set;
  * Since SimpleAclAuthorizer is written in Scala, this operator is using some Scala structures required for passing to / returned from the SimpleAclAuthorizer object.
  * This class expects the SimpleAclAuthorizer instance to be passed from the outside.
  * That is useful for testing and is similar to how the Kubernetes client is passed around.
+ * During a periodic reconciliation (a "sweep", see {@link #startSweep()}) the ACLs of all the users are read once
+ * and indexed by principal, rather than being looked up in all the ACLs of the cluster for each user.
  */
 @SuppressWarnings("deprecation")
 public class SimpleAclOperator {
@@ -45,6 +49,12 @@ public class SimpleAclOperator {
     private final Vertx vertx;
     private final kafka.security.auth.SimpleAclAuthorizer authorizer;
 
+    private int sweeps;
+    /** The ACL rules of each user principal name, or null if there's no sweep in progress */
+    private Map<String, Set<SimpleAclRule>> index;
+    /** The users whose ACLs have been changed since the index was built */
+    private final Set<String> invalidated = new HashSet<>();
+
     /**
      * Constructor
      *
@@ -56,6 +66,65 @@ public class SimpleAclOperator {
         this.authorizer = authorizer;
     }
 
+    /**
+     * Start a sweep, indexing all the ACLs by user unless another sweep is already in progress.
+     * The index is used by {@link #getAcls(String)} and {@link #getUsersWithAcls()} until the sweep ends,
+     * except for users whose ACLs are changed in the meantime.
+     * This method blocks. Every call must be followed by a call to {@link #endSweep()}, even if it throws.
+     *
+     * @return The number of users in the index.
+     */
+    public int startSweep() {
+        synchronized (this) {
+            sweeps++;
+            if (index != null) {
+                return index.size();
+            }
+        }
+        Map<String, Set<SimpleAclRule>> loaded = new HashMap<>();
+        Iterator<Tuple2<Resource, scala.collection.immutable.Set<Acl>>> iter = resourceAclsIterator(authorizer.getAcls());
+        while (iter.hasNext())  {
+            Tuple2<Resource, scala.collection.immutable.Set<Acl>> tuple = iter.next();
+            SimpleAclRuleResource resource = SimpleAclRuleResource.fromKafkaResource(tuple._1());
+
+            Iterator<Acl> iter2 = tuple._2().iterator();
+            while (iter2.hasNext()) {
+                Acl acl = iter2.next();
+                if (KafkaPrincipal.USER_TYPE.equals(acl.principal().getPrincipalType()))  {
+                    loaded.computeIfAbsent(acl.principal().getName(), name -> new HashSet<>())
+                            .add(SimpleAclRule.fromKafkaAcl(resource, acl));
+                }
+            }
+        }
+        synchronized (this) {
+            if (sweeps > 0 && index == null) {
+                index = loaded;
+            }
+        }
+        log.debug("Indexed the ACL rules of {} users", loaded.size());
+        return loaded.size();
+    }
+
+    /**
+     * End a sweep, dropping the index if no other sweep is in progress.
+     */
+    public synchronized void endSweep() {
+        if (sweeps > 0 && --sweeps == 0) {
+            index = null;
+            invalidated.clear();
+        }
+    }
+
+    /**
+     * Record that the ACLs of the given user are being changed, so that they are read from the authorizer
+     * for the rest of the sweep.
+     */
+    private synchronized void invalidate(String username) {
+        if (sweeps > 0) {
+            invalidated.add(username);
+        }
+    }
+
     /**
      * Reconciles Acl rules for given user
      *
@@ -65,7 +134,7 @@ public class SimpleAclOperator {
      */
     Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
         Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerExecutors.executor(vertx, WorkerExecutors.Pool.KAFKA_ADMIN).executeBlocking(
             future -> {
                 Set<SimpleAclRule> current;
 
@@ -89,6 +158,9 @@ public class SimpleAclOperator {
                     if (current.isEmpty())  {
                         log.debug("User {}: {} expected Acl rules, but no existing Acl rules -> Adding rules", username, desired.size());
                         internalCreate(username, desired).setHandler(future);
+                    } else if (current.equals(desired)) {
+                        log.debug("User {}: {} expected Acl rules, which all exist -> NoOp", username, desired.size());
+                        future.complete(ReconcileResult.noop(desired));
                     } else  {
                         log.debug("User {}: {} expected Acl rules and {} existing Acl rules -> Reconciling rules", username, desired.size(), current.size());
                         internalUpdate(username, desired, current).setHandler(future);
@@ -105,6 +177,7 @@ public class SimpleAclOperator {
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
+        invalidate(username);
         try {
             HashMap<Resource, Set<Acl>> map = getResourceAclsMap(username, desired);
             for (Map.Entry<Resource, Set<Acl>> entry: map.entrySet()) {
@@ -168,7 +241,7 @@ public class SimpleAclOperator {
      * Deletes all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
-
+        invalidate(username);
         try {
             HashMap<Resource, Set<Acl>> map =  getResourceAclsMap(username, current);
             for (Map.Entry<Resource, Set<Acl>> entry: map.entrySet()) {
@@ -189,6 +262,11 @@ public class SimpleAclOperator {
      * @return The Set of ACLs applying to single user.
      */
     public Set<SimpleAclRule> getAcls(String username)   {
+        synchronized (this) {
+            if (index != null && !invalidated.contains(username)) {
+                return new HashSet<>(index.getOrDefault(username, Collections.emptySet()));
+            }
+        }
         log.debug("Searching for ACL rules of user {}", username);
         Set<SimpleAclRule> result = new HashSet<SimpleAclRule>();
         KafkaPrincipal principal = new KafkaPrincipal("User", username);
@@ -232,6 +310,19 @@ public class SimpleAclOperator {
         Set<String> result = new HashSet<String>();
         Set<String> ignored = new HashSet<String>(IGNORED_USERS.size());
 
+        synchronized (this) {
+            if (index != null) {
+                for (String principalName : index.keySet()) {
+                    addUser(result, ignored, principalName);
+                }
+                // Users whose ACLs were changed might have had all their ACLs removed, which the next sweep will find
+                for (String principalName : invalidated) {
+                    addUser(result, ignored, principalName);
+                }
+                return result;
+            }
+        }
+
         log.debug("Searching for Users with any ACL rules");
 
         scala.collection.immutable.Map<Resource, scala.collection.immutable.Set<Acl>> rules;
@@ -252,26 +343,30 @@ public class SimpleAclOperator {
                 KafkaPrincipal principal = iter2.next().principal();
 
                 if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType()))  {
-                    // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
-                    String username = KafkaUserModel.decodeUsername(principal.getName());
-
-                    if (IGNORED_USERS.contains(username))   {
-                        if (!ignored.contains(username)) {
-                            // This info message is loged only once per reocnciliation even if there are multiple rules
-                            log.info("Existing ACLs for user '{}' will be ignored.", username);
-                            ignored.add(username);
-                        }
-                    } else {
-                        if (log.isTraceEnabled()) {
-                            log.trace("Adding user {} to Set of users with ACLs", username);
-                        }
-
-                        result.add(username);
-                    }
+                    addUser(result, ignored, principal.getName());
                 }
             }
         }
 
         return result;
     }
+
+    private void addUser(Set<String> result, Set<String> ignored, String principalName) {
+        // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
+        String username = KafkaUserModel.decodeUsername(principalName);
+
+        if (IGNORED_USERS.contains(username))   {
+            if (!ignored.contains(username)) {
+                // This info message is loged only once per reocnciliation even if there are multiple rules
+                log.info("Existing ACLs for user '{}' will be ignored.", username);
+                ignored.add(username);
+            }
+        } else {
+            if (log.isTraceEnabled()) {
+                log.trace("Adding user {} to Set of users with ACLs", username);
+            }
+
+            result.add(username);
+        }
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.ZooKeeper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A snapshot of the user configurations in {@code /config/users}, taken at the start of a periodic
+ * reconciliation (a "sweep") so that the reconciliations of the sweep don't each read the configuration
+ * of their users from ZooKeeper.
+ * The configurations are read with pipelined asynchronous reads rather than one read at a time.
+ * A user whose configuration is written during the sweep is {@linkplain #invalidate(String) invalidated},
+ * so that it is read from ZooKeeper again. The snapshot is dropped when the last sweep ends.
+ */
+public class UserConfigSnapshot {
+    private static final Logger log = LogManager.getLogger(UserConfigSnapshot.class.getName());
+
+    private final static int CONNECTION_TIMEOUT = 30_000;
+
+    private final ZkConnection zkConnection;
+    private final ZkClient zkClient;
+    private final long loadTimeoutMs;
+
+    private int sweeps;
+    /** The configuration of each user, or null if there's no sweep in progress */
+    private Map<String, byte[]> users;
+    /** The users whose configuration has been written since the snapshot was taken */
+    private final Set<String> invalidated = new HashSet<>();
+
+    public UserConfigSnapshot(String zookeeperUrl, int zookeeperSessionTimeout) {
+        this.zkConnection = new ZkConnection(zookeeperUrl, zookeeperSessionTimeout);
+        this.zkClient = new ZkClient(zkConnection, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
+        this.loadTimeoutMs = zookeeperSessionTimeout;
+    }
+
+    /**
+     * Start a sweep, loading the snapshot unless another sweep is already in progress.
+     * This method blocks. Every call must be followed by a call to {@link #endSweep()}, even if it throws.
+     *
+     * @return The number of users in the snapshot.
+     */
+    public int startSweep() {
+        synchronized (this) {
+            sweeps++;
+            if (users != null) {
+                return users.size();
+            }
+        }
+        Map<String, byte[]> loaded = load();
+        synchronized (this) {
+            if (sweeps > 0 && users == null) {
+                users = loaded;
+            }
+        }
+        log.debug("Loaded the configurations of {} users", loaded.size());
+        return loaded.size();
+    }
+
+    /**
+     * End a sweep, dropping the snapshot if no other sweep is in progress.
+     */
+    public synchronized void endSweep() {
+        if (sweeps > 0 && --sweeps == 0) {
+            users = null;
+            invalidated.clear();
+        }
+    }
+
+    /**
+     * Read the configurations of all the users, pipelining the reads.
+     */
+    private Map<String, byte[]> load() {
+        if (!zkClient.exists("/config/users")) {
+            return Collections.emptyMap();
+        }
+        List<String> children = zkClient.getChildren("/config/users");
+        Map<String, byte[]> loaded = new ConcurrentHashMap<>(children.size() * 2);
+        CountDownLatch latch = new CountDownLatch(children.size());
+        AtomicReference<KeeperException> error = new AtomicReference<>();
+        ZooKeeper zooKeeper = zkConnection.getZookeeper();
+        for (String username : children) {
+            zooKeeper.getData("/config/users/" + username, false, (rc, path, ctx, data, stat) -> {
+                KeeperException.Code code = KeeperException.Code.get(rc);
+                if (code == KeeperException.Code.OK) {
+                    loaded.put(username, data);
+                } else if (code != KeeperException.Code.NONODE) {
+                    error.compareAndSet(null, KeeperException.create(code, path));
+                }
+                latch.countDown();
+            }, null);
+        }
+        try {
+            if (!latch.await(loadTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Timed out reading the configurations of " + children.size() + " users");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading the configurations of users", e);
+        }
+        if (error.get() != null) {
+            throw new RuntimeException("Failed to read the configurations of users", error.get());
+        }
+        return loaded;
+    }
+
+    /**
+     * Get the configuration of the given user from the snapshot, or using the given reader if the snapshot
+     * does not have an up to date configuration for the user.
+     *
+     * @param username The name of the user.
+     * @param reader Reads the configuration of the user from ZooKeeper.
+     * @return The configuration of the user, or null if the user has no configuration.
+     */
+    byte[] read(String username, Function<String, byte[]> reader) {
+        synchronized (this) {
+            if (users != null && !invalidated.contains(username)) {
+                return users.get(username);
+            }
+        }
+        return reader.apply(username);
+    }
+
+    /**
+     * List the users with a configuration, from the snapshot or using the given lister if there's no snapshot.
+     *
+     * @param lister Lists the users with a configuration in ZooKeeper.
+     * @return The names of the users, some of which might not have a configuration any more
+     * if they have been invalidated.
+     */
+    List<String> list(Supplier<List<String>> lister) {
+        synchronized (this) {
+            if (users != null) {
+                Set<String> result = new HashSet<>(users.keySet());
+                result.addAll(invalidated);
+                return new ArrayList<>(result);
+            }
+        }
+        return lister.get();
+    }
+
+    /**
+     * Record that the configuration of the given user has been written, so that it is read from ZooKeeper again
+     * for the rest of the sweep.
+     *
+     * @param username The name of the user.
+     */
+    synchronized void invalidate(String username) {
+        if (sweeps > 0) {
+            invalidated.add(username);
+        }
+    }
+}
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -115,4 +116,30 @@ public class UserOperatorConfigTest {
             UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
         });
     }
+
+    @Test
+    public void testResourceCache()  {
+        assertThat(UserOperatorConfig.fromMap(envVars).isResourceCacheEnabled(), is(false));
+        assertThat(UserOperatorConfig.fromMap(envVars).getResourceCacheResyncIntervalMs(), is(UserOperatorConfig.DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED, "true");
+        envVars.put(UserOperatorConfig.STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS, "60000");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isResourceCacheEnabled(), is(true));
+        assertThat(config.getResourceCacheResyncIntervalMs(), is(60_000L));
+    }
+
+    @Test
+    public void testCertManager()  {
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManager(), is(CertManagerType.OPENSSL));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "java");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManager(), is(CertManagerType.JAVA));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
@@ -6,6 +6,8 @@ package io.strimzi.operator.user.operator;
 
 import io.strimzi.test.EmbeddedZooKeeper;
 import io.vertx.core.json.JsonObject;
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -101,6 +104,31 @@ public class ScramShaCredentialsIT {
         assertThat(scramShaCred.isPathExist("/config/users/changePassword"), is(true));
     }
 
+    @Test
+    public void testCreateOrUpdateWithUnchangedPasswordDoesNotRewrite() {
+        ZkClient zkClient = new ZkClient(zkServer.getZkConnectString(), 6_000, 30_000, new BytesPushThroughSerializer());
+        try {
+            scramShaCred.createOrUpdate("unchangedPassword", "foo-password");
+            byte[] data = zkClient.readData("/config/users/unchangedPassword");
+            int changes = zkClient.countChildren("/config/changes");
+
+            scramShaCred.createOrUpdate("unchangedPassword", "foo-password");
+            assertThat(zkClient.<byte[]>readData("/config/users/unchangedPassword"), is(data));
+            assertThat(zkClient.countChildren("/config/changes"), is(changes));
+
+            // A new instance, which has to verify the password against the stored credentials
+            new ScramShaCredentials(zkServer.getZkConnectString(), 6_000).createOrUpdate("unchangedPassword", "foo-password");
+            assertThat(zkClient.<byte[]>readData("/config/users/unchangedPassword"), is(data));
+            assertThat(zkClient.countChildren("/config/changes"), is(changes));
+
+            scramShaCred.createOrUpdate("unchangedPassword", "bar-password");
+            assertThat(zkClient.<byte[]>readData("/config/users/unchangedPassword"), is(not(data)));
+            assertThat(zkClient.countChildren("/config/changes"), is(changes + 1));
+        } finally {
+            zkClient.close();
+        }
+    }
+
     @Test
     public void testListListsCreatedUsers() {
         scramShaCred.createOrUpdate("listSome", "foo-password");
@@ -42,8 +42,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -89,6 +93,42 @@ public class SimpleAclOperatorTest {
         context.completeNow();
     }
 
+    @Test
+    public void testSweepReadsAclsFromIndexUntilChanged(VertxTestContext context)  {
+        SimpleAclAuthorizer mockAuthorizer = mock(SimpleAclAuthorizer.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAuthorizer);
+
+        KafkaPrincipal foo = new KafkaPrincipal("User", "CN=foo");
+        Acl fooAcl = new Acl(foo, Allow$.MODULE$, "*", Read$.MODULE$);
+        KafkaPrincipal bar = new KafkaPrincipal("User", "CN=bar");
+        Acl barAcl = new Acl(bar, Allow$.MODULE$, "*", Read$.MODULE$);
+        Resource res1 = new Resource(Topic$.MODULE$, "my-topic", PatternType.LITERAL);
+        Resource res2 = new Resource(Group$.MODULE$, "my-group", PatternType.LITERAL);
+        scala.collection.immutable.Set<Acl> set1 = new scala.collection.immutable.Set.Set2<>(fooAcl, barAcl);
+        scala.collection.immutable.Set<Acl> set2 = new scala.collection.immutable.Set.Set1<>(barAcl);
+        scala.collection.immutable.Map<Resource, scala.collection.immutable.Set<Acl>> map = new scala.collection.immutable.Map.Map2<>(res1, set1, res2, set2);
+        when(mockAuthorizer.getAcls()).thenReturn(map);
+        when(mockAuthorizer.getAcls(any(KafkaPrincipal.class))).thenReturn(map);
+        when(mockAuthorizer.removeAcls(any(), any())).thenReturn(true);
+
+        assertThat(aclOp.startSweep(), is(2));
+        try {
+            assertThat(aclOp.getUsersWithAcls(), is(new HashSet<>(asList("foo", "bar"))));
+            assertThat(aclOp.getAcls("CN=foo"), hasSize(1));
+            assertThat(aclOp.getAcls("CN=bar"), hasSize(2));
+            verify(mockAuthorizer, never()).getAcls(any(KafkaPrincipal.class));
+
+            // Once the ACLs of a user are changed they are read from the authorizer again
+            aclOp.internalDelete("CN=foo", aclOp.getAcls("CN=foo"));
+            aclOp.getAcls("CN=foo");
+            verify(mockAuthorizer).getAcls(foo);
+        } finally {
+            aclOp.endSweep();
+        }
+        verify(mockAuthorizer, times(1)).getAcls();
+        context.completeNow();
+    }
+
     @Test
     public void testReconcileInternalCreateAddsAclsToAuthorizer(VertxTestContext context) {
         SimpleAclAuthorizer mockAuthorizer = mock(SimpleAclAuthorizer.class);
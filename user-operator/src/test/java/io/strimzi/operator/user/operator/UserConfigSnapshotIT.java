@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.test.EmbeddedZooKeeper;
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class UserConfigSnapshotIT {
+
+    private static EmbeddedZooKeeper zkServer;
+
+    @BeforeAll
+    public static void startZk() throws IOException, InterruptedException {
+        zkServer = new EmbeddedZooKeeper();
+    }
+
+    @AfterAll
+    public static void stopZk() {
+        zkServer.close();
+    }
+
+    @Test
+    public void testSweepReadsFromSnapshotUntilInvalidated() {
+        UserConfigSnapshot snapshot = new UserConfigSnapshot(zkServer.getZkConnectString(), 6_000);
+        ScramShaCredentials scramShaCred = new ScramShaCredentials(zkServer.getZkConnectString(), 6_000, snapshot);
+        ScramShaCredentials otherScramShaCred = new ScramShaCredentials(zkServer.getZkConnectString(), 6_000);
+
+        otherScramShaCred.createOrUpdate("snapshotted", "foo-password");
+        assertThat(snapshot.startSweep(), is(1));
+        try {
+            // Written by someone else after the snapshot was taken, so not seen until the sweep ends
+            otherScramShaCred.createOrUpdate("notSnapshotted", "foo-password");
+            assertThat(scramShaCred.exists("notSnapshotted"), is(false));
+            assertThat(scramShaCred.list(), is(singletonList("snapshotted")));
+
+            // Written by us, so read from ZooKeeper for the rest of the sweep
+            scramShaCred.createOrUpdate("notSnapshotted", "bar-password");
+            assertThat(scramShaCred.exists("notSnapshotted"), is(true));
+            assertThat(scramShaCred.list(), containsInAnyOrder("snapshotted", "notSnapshotted"));
+        } finally {
+            snapshot.endSweep();
+        }
+
+        otherScramShaCred.delete("snapshotted");
+        assertThat(scramShaCred.exists("snapshotted"), is(false));
+    }
+
+    @Test
+    public void testUpdateChecksCurrentCredentialsRatherThanSnapshot() {
+        UserConfigSnapshot snapshot = new UserConfigSnapshot(zkServer.getZkConnectString(), 6_000);
+        ScramShaCredentials scramShaCred = new ScramShaCredentials(zkServer.getZkConnectString(), 6_000, snapshot);
+        ScramShaCredentials otherScramShaCred = new ScramShaCredentials(zkServer.getZkConnectString(), 6_000);
+        ZkClient zkClient = new ZkClient(zkServer.getZkConnectString(), 6_000, 30_000, new BytesPushThroughSerializer());
+
+        snapshot.startSweep();
+        try {
+            // Written by someone else after the snapshot was taken, with the same password
+            otherScramShaCred.createOrUpdate("staleSnapshot", "foo-password");
+            byte[] data = zkClient.readData("/config/users/staleSnapshot");
+            int changes = zkClient.countChildren("/config/changes");
+
+            scramShaCred.createOrUpdate("staleSnapshot", "foo-password");
+            assertThat(zkClient.<byte[]>readData("/config/users/staleSnapshot"), is(data));
+            assertThat(zkClient.countChildren("/config/changes"), is(changes));
+        } finally {
+            snapshot.endSweep();
+            zkClient.close();
+        }
+    }
+}